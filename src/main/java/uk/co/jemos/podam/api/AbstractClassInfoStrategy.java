@@ -352,7 +352,8 @@ public abstract class AbstractClassInfoStrategy implements ClassInfoStrategy,
 
 		Class<?> workClass = clazz;
 
-		while (!Object.class.equals(workClass)) {
+		/* Interfaces have no superclass */
+		while (null != workClass && !Object.class.equals(workClass)) {
 
 			Method[] declaredMethods = workClass.getDeclaredMethods();
 
@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import uk.co.jemos.podam.common.*;
 import uk.co.jemos.podam.exceptions.PodamMockeryException;
 import uk.co.jemos.podam.typeManufacturers.ArrayTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.BatchTypeManufacturer;
 import uk.co.jemos.podam.typeManufacturers.BooleanTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.ByteTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.CharTypeManufacturerImpl;
@@ -19,10 +20,12 @@ import uk.co.jemos.podam.typeManufacturers.DoubleTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.EnumTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.FloatTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.IntTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.InterningTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.LongTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.MapTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.ShortTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.StringTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.TableTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.TypeTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.TypeManufacturer;
 
@@ -35,11 +38,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Default abstract implementation of a {@link DataProviderStrategy}
@@ -78,6 +83,14 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 	/** Flag to enable/disable the memoization setting. */
 	private final AtomicBoolean isMemoizationEnabled = new AtomicBoolean();
 
+	/** The budget limiting objects created by one manufacturing call */
+	private final AtomicReference<ManufacturingBudget> manufacturingBudget
+			= new AtomicReference<ManufacturingBudget>();
+
+	/** The policy adjusting sizes of containers in the graph */
+	private final AtomicReference<CollectionSizePolicy> collectionSizePolicy
+			= new AtomicReference<CollectionSizePolicy>();
+
 	/**
 	 * A map to keep one object for each class. If memoization is enabled, the
 	 * factory will use this table to avoid creating objects of the same class
@@ -97,6 +110,10 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 	 */
 	private final Map<Class<?>, Class<?>> specificTypes = new ConcurrentHashMap<Class<?>, Class<?>>();
 
+	/** Pools of instances shared by references to their types */
+	private final Map<Class<?>, ReferencePool> referencePools
+			= new ConcurrentHashMap<Class<?>, ReferencePool>();
+
 	/**
 	 * A list of user-submitted factories to build interfaces and abstract classes
 	 */
@@ -233,6 +250,100 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 		this.isMemoizationEnabled.set(isMemoizationEnabled);
 	}
 
+	/**
+	 * Returns the budget limiting objects created by one manufacturing call
+	 *
+	 * @return the budget or null, if only the depth of graphs is limited
+	 * @since 7.1.1
+	 */
+	public ManufacturingBudget getManufacturingBudget() {
+		return manufacturingBudget.get();
+	}
+
+	/**
+	 * Sets the budget limiting objects created by one manufacturing call,
+	 * in bulk manufacturing each instance gets the whole budget
+	 *
+	 * @param budget
+	 *            the budget or null to limit only the depth of graphs
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public AbstractRandomDataProviderStrategy setManufacturingBudget(
+			ManufacturingBudget budget) {
+		manufacturingBudget.set(budget);
+		return this;
+	}
+
+	/**
+	 * Returns the policy adjusting sizes of containers in the graph
+	 *
+	 * @return the policy or null, if containers have the sizes given by
+	 *         annotations or {@link #getNumberOfCollectionElements(Class)}
+	 * @since 7.1.1
+	 */
+	public CollectionSizePolicy getCollectionSizePolicy() {
+		return collectionSizePolicy.get();
+	}
+
+	/**
+	 * Sets the policy adjusting sizes of containers in the graph
+	 *
+	 * @param collectionSizePolicy
+	 *            the policy or null to use the sizes given by annotations or
+	 *            {@link #getNumberOfCollectionElements(Class)}
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public AbstractRandomDataProviderStrategy setCollectionSizePolicy(
+			CollectionSizePolicy collectionSizePolicy) {
+		this.collectionSizePolicy.set(collectionSizePolicy);
+		return this;
+	}
+
+	/**
+	 * Registers a pool of instances shared by references to the type. If
+	 * the strategy previously contained a pool for the type, it is replaced.
+	 *
+	 * @param type
+	 *            the class of pooled instances
+	 * @param pool
+	 *            the pool
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public AbstractRandomDataProviderStrategy addOrReplaceReferencePool(
+			Class<?> type, ReferencePool pool) {
+		referencePools.put(type, pool);
+		return this;
+	}
+
+	/**
+	 * Removes the pool of instances of the type
+	 *
+	 * @param type
+	 *            the class of pooled instances
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public AbstractRandomDataProviderStrategy removeReferencePool(
+			Class<?> type) {
+		referencePools.remove(type);
+		return this;
+	}
+
+	/**
+	 * Returns the pool of instances shared by references to the type
+	 *
+	 * @param type
+	 *            the class of referenced instances
+	 * @return the pool or null, if every reference gets a new instance
+	 * @since 7.1.1
+	 */
+	public ReferencePool getReferencePool(Class<?> type) {
+		return referencePools.get(type);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -359,6 +470,82 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 		return this;
 	}
 
+	/**
+	 * Returns the manufacturer registered for a type
+	 *
+	 * @param type
+	 *            the type, which manufacturer is requested
+	 * @return the manufacturer registered for exactly this type or null
+	 */
+	public TypeManufacturer<?> getTypeManufacturer(Class<?> type) {
+
+		return typeManufacturers.get(type);
+	}
+
+	/**
+	 * Switches manufacturers of given types to the table mode.
+	 * <p>
+	 * Values for these types will be served from precomputed tables of
+	 * {@code tableSize} entries per attribute type and annotations instead of
+	 * being generated on each request. Types sharing a manufacturer (e.g.
+	 * int and Integer) keep sharing it. Only types with immutable values
+	 * should be switched to the table mode.
+	 * </p>
+	 *
+	 * @param tableSize
+	 *            number of precomputed values per table
+	 * @param types
+	 *            types, which manufacturers should serve values from tables
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *            if there is no manufacturer registered for any of the types
+	 * @see TableTypeManufacturerImpl
+	 * @since 7.1.1
+	 */
+	public AbstractRandomDataProviderStrategy useTableMode(final int tableSize,
+			Class<?>... types) {
+
+		return replaceManufacturers(types, new ManufacturerDecorator() {
+			@Override
+			public <T> TypeManufacturer<T> decorate(TypeManufacturer<T> manufacturer) {
+				return new TableTypeManufacturerImpl<T>(manufacturer, tableSize);
+			}
+		});
+	}
+
+	/**
+	 * Switches manufacturers of given types to interning of their values.
+	 * <p>
+	 * Values for these types will be drawn from pools of at most
+	 * {@code cardinality} distinct instances per attribute type and
+	 * annotations or per attribute, depending on the scope, so equal values
+	 * share instances. Types sharing a manufacturer (e.g. int and Integer)
+	 * keep sharing it. Only types with immutable values should be interned.
+	 * </p>
+	 *
+	 * @param cardinality
+	 *            number of distinct values per pool
+	 * @param scope
+	 *            what shares a pool of values
+	 * @param types
+	 *            types, which values should be interned
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *            if there is no manufacturer registered for any of the types
+	 * @see InterningTypeManufacturerImpl
+	 * @since 7.1.1
+	 */
+	public AbstractRandomDataProviderStrategy useInterning(final int cardinality,
+			final InterningTypeManufacturerImpl.Scope scope, Class<?>... types) {
+
+		return replaceManufacturers(types, new ManufacturerDecorator() {
+			@Override
+			public <T> TypeManufacturer<T> decorate(TypeManufacturer<T> manufacturer) {
+				return new InterningTypeManufacturerImpl<T>(manufacturer, cardinality, scope);
+			}
+		});
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -413,6 +600,73 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 		return null;
 	}
 
+	/**
+	 * Fills a collection with type values, if manufacturer of the type
+	 * supports production of many values at once
+	 *
+	 * @param <T> type of produced objects
+	 * @param attributeMetadata The AttributeMetadata information of elements
+	 * @param genericTypesArgumentsMap The generic attribute type argument types
+	 * @param pojoType The class of the requested type
+	 * @param collection The collection to add values to
+	 * @param count The number of values to add
+	 * @return true, if values were added, or false, if values of this
+	 *         type have to be produced one by one
+	 * @since 7.1.1
+	 */
+	public <T> boolean fillCollectionWithTypeValues(
+			AttributeMetadata attributeMetadata,
+			Map<String, Type> genericTypesArgumentsMap, Class<T> pojoType,
+			Collection<? super T> collection, int count) {
+
+		BatchTypeManufacturer<T> manufacturer = findBatchTypeManufacturer(pojoType);
+		if (null == manufacturer) {
+			return false;
+		}
+		try {
+			manufacturer.fillCollection(this, attributeMetadata,
+					genericTypesArgumentsMap, collection, count);
+		} catch (UnsupportedOperationException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new PodamMockeryException(
+					"Unable to instantiate " + pojoType, e);
+		}
+		log(attributeMetadata);
+		return true;
+	}
+
+	/**
+	 * Fills an array with type values, if manufacturer of the type
+	 * supports production of many values at once
+	 *
+	 * @param attributeMetadata The AttributeMetadata information of elements
+	 * @param genericTypesArgumentsMap The generic attribute type argument types
+	 * @param pojoType The class of the requested type
+	 * @param array The array to fill
+	 * @return true, if the array was filled, or false, if values of this
+	 *         type have to be produced one by one
+	 * @since 7.1.1
+	 */
+	public boolean fillArrayWithTypeValues(AttributeMetadata attributeMetadata,
+			Map<String, Type> genericTypesArgumentsMap, Class<?> pojoType,
+			Object array) {
+
+		BatchTypeManufacturer<?> manufacturer = findBatchTypeManufacturer(pojoType);
+		if (null == manufacturer) {
+			return false;
+		}
+		try {
+			manufacturer.fillArray(this, attributeMetadata,
+					genericTypesArgumentsMap, array);
+		} catch (Exception e) {
+			throw new PodamMockeryException(
+					"Unable to instantiate " + pojoType, e);
+		}
+		log(attributeMetadata);
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -602,6 +856,91 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 
 	// ------------------->> Private methods
 
+	/**
+	 * Replaces manufacturers of given types with decorated ones
+	 * <p>
+	 * Table and interning decorators already installed are removed first, so
+	 * the new decorator wraps the original manufacturer. Types sharing a
+	 * manufacturer keep sharing the decorated one.
+	 * </p>
+	 *
+	 * @param types
+	 *            types, which manufacturers should be replaced
+	 * @param decorator
+	 *            decorator to wrap the original manufacturers with
+	 * @return itself
+	 * @throws IllegalArgumentException
+	 *            if there is no manufacturer registered for any of the types
+	 */
+	private AbstractRandomDataProviderStrategy replaceManufacturers(
+			Class<?>[] types, ManufacturerDecorator decorator) {
+
+		Map<TypeManufacturer<?>, TypeManufacturer<?>> replacements
+				= new IdentityHashMap<TypeManufacturer<?>, TypeManufacturer<?>>();
+		for (Class<?> type : types) {
+			TypeManufacturer<?> current = typeManufacturers.get(type);
+			if (null == current) {
+				throw new IllegalArgumentException(
+						"No type manufacturer registered for " + type);
+			}
+			TypeManufacturer<?> replacement = replacements.get(current);
+			if (null == replacement) {
+				TypeManufacturer<?> manufacturer = current;
+				while (true) {
+					if (manufacturer instanceof TableTypeManufacturerImpl) {
+						manufacturer = ((TableTypeManufacturerImpl<?>) manufacturer).getDelegate();
+					} else if (manufacturer instanceof InterningTypeManufacturerImpl) {
+						manufacturer = ((InterningTypeManufacturerImpl<?>) manufacturer).getDelegate();
+					} else {
+						break;
+					}
+				}
+				replacement = decorator.decorate(manufacturer);
+				replacements.put(current, replacement);
+			}
+			typeManufacturers.put(type, replacement);
+		}
+		return this;
+	}
+
+	/**
+	 * Finds manufacturer of a type, if it can produce many values at once
+	 *
+	 * @param <T> type of objects to be produced by the manufacturer
+	 * @param pojoType
+	 *            the type of values to be produced
+	 * @return the first manufacturer found for the type, if it is a
+	 *         {@link BatchTypeManufacturer}, or null
+	 */
+	private <T> BatchTypeManufacturer<T> findBatchTypeManufacturer(Class<T> pojoType) {
+
+		Deque<Class<?>> types = new ArrayDeque<Class<?>>();
+		types.add(pojoType);
+		while (!types.isEmpty()) {
+
+			Class<?> type = types.remove();
+			TypeManufacturer<?> manufacturer = typeManufacturers.get(type);
+			if (null != manufacturer) {
+				if (manufacturer instanceof BatchTypeManufacturer) {
+					@SuppressWarnings("unchecked")
+					BatchTypeManufacturer<T> batchManufacturer
+							= (BatchTypeManufacturer<T>) manufacturer;
+					return batchManufacturer;
+				}
+				return null;
+			}
+
+			for (Class<?> iface : type.getInterfaces()) {
+				types.add(iface);
+			}
+			type = type.getSuperclass();
+			if (null != type) {
+				types.add(type);
+			}
+		}
+		return null;
+	}
+
 	private void log(AttributeMetadata attributeMetadata) {
 		LOG.trace("Providing data for attribute {}.{}",
 				attributeMetadata.getPojoClass() != null ? attributeMetadata.getPojoClass().getName() : "",
@@ -612,4 +951,20 @@ public abstract class AbstractRandomDataProviderStrategy implements RandomDataPr
 
 	// ------------------->> Inner classes
 
+	/**
+	 * Wraps a type manufacturer into a decorating one
+	 */
+	private abstract static class ManufacturerDecorator {
+
+		/**
+		 * Decorates a type manufacturer
+		 *
+		 * @param <T> type of objects produced by the manufacturer
+		 * @param manufacturer
+		 *            the manufacturer to decorate
+		 * @return decorating manufacturer
+		 */
+		public abstract <T> TypeManufacturer<T> decorate(TypeManufacturer<T> manufacturer);
+	}
+
 }
@@ -0,0 +1,95 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * Collection size policy shrinking nested containers, so the number of
+ * elements at each level of a graph stays within a target size.
+ * <p>
+ * Fixed container sizes make nested containers grow exponentially with
+ * their depth, a {@code List<Map<String, List<Item>>>} with 5 elements
+ * each holds 125 items. This policy gives each container at most
+ * {@code targetSize / fanOut} elements, so top-level containers keep their
+ * requested sizes, while deeper containers shrink as the number of their
+ * copies grows, down to a minimal size.
+ * </p>
+ *
+ * @since 7.1.1
+ */
+@Immutable
+public class AdaptiveCollectionSizePolicy implements CollectionSizePolicy {
+
+	/** Maximal number of elements at each level of a graph */
+	private final long targetSize;
+
+	/** Minimal number of elements of a container */
+	private final int minElements;
+
+	/**
+	 * Constructor, containers hold at least one element.
+	 *
+	 * @param targetSize
+	 *            maximal number of elements at each level of a graph
+	 */
+	public AdaptiveCollectionSizePolicy(long targetSize) {
+		this(targetSize, 1);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param targetSize
+	 *            maximal number of elements at each level of a graph
+	 * @param minElements
+	 *            minimal number of elements of a container, it takes
+	 *            precedence over the target size
+	 */
+	public AdaptiveCollectionSizePolicy(long targetSize, int minElements) {
+
+		if (targetSize < 1 || minElements < 0) {
+			throw new IllegalArgumentException("Invalid target size "
+					+ targetSize + " or minimal number of elements "
+					+ minElements);
+		}
+		this.targetSize = targetSize;
+		this.minElements = minElements;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getNumberOfElements(int nbrElements, long fanOut) {
+
+		long share = targetSize / Math.max(1, fanOut);
+		long size = Math.max(minElements, Math.min(nbrElements, share));
+		return (int) Math.min(nbrElements, size);
+	}
+
+	/**
+	 * It returns the target size.
+	 *
+	 * @return maximal number of elements at each level of a graph
+	 */
+	public long getTargetSize() {
+		return targetSize;
+	}
+
+	/**
+	 * It returns the minimal number of elements.
+	 *
+	 * @return minimal number of elements of a container
+	 */
+	public int getMinElements() {
+		return minElements;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "AdaptiveCollectionSizePolicy [targetSize=" + targetSize
+				+ ", minElements=" + minElements + "]";
+	}
+}
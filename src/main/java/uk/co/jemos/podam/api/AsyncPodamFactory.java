@@ -0,0 +1,173 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs manufacturing and population of POJOs asynchronously.
+ * <p>
+ * Each request runs as a separate task on the executor, with a
+ * manufacturing context of its own, and the result is delivered through a
+ * {@link Future}. Requests may overlap with each other and with the
+ * calling thread, so the wrapped factory is used concurrently: its
+ * {@link DataProviderStrategy}, {@link ClassInfoStrategy} and registered
+ * type manufacturers have to be thread-safe and must not be reconfigured
+ * while requests are running. This holds for the default configuration of
+ * {@link PodamFactoryImpl}.
+ * </p>
+ *
+ * @since 7.1.1
+ */
+@Immutable
+public class AsyncPodamFactory {
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncPodamFactory.class);
+
+	/** The factory manufacturing POJOs */
+	private final PodamFactory factory;
+
+	/** The executor running requests */
+	private final Executor executor;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param factory
+	 *            the factory manufacturing POJOs
+	 * @param executor
+	 *            the executor running requests
+	 */
+	public AsyncPodamFactory(PodamFactory factory, Executor executor) {
+
+		if (null == factory || null == executor) {
+			throw new IllegalArgumentException(
+					"The factory and the executor cannot be null");
+		}
+		this.factory = factory;
+		this.executor = executor;
+	}
+
+	/**
+	 * It returns an executor starting a new virtual thread for each task,
+	 * if the JVM supports virtual threads.
+	 * <p>
+	 * Virtual threads suit requests spending most of their time in slow
+	 * attribute strategies or external factories. The executor should be
+	 * shut down, when it is no longer needed.
+	 * </p>
+	 *
+	 * @return a virtual thread per task executor or null, if virtual threads
+	 *         are not supported
+	 */
+	public static ExecutorService newVirtualThreadExecutor() {
+
+		try {
+			Method factoryMethod = Executors.class
+					.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factoryMethod.invoke(null);
+		} catch (Exception e) {
+			LOG.debug("Virtual threads are not supported", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Manufactures a POJO asynchronously.
+	 *
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The future instance of &lt;T&gt; filled with dummy values, it
+	 *         fails with PodamMockeryException, if the POJO could not be
+	 *         manufactured
+	 * @see PodamFactory#manufacturePojo(Class, Type...)
+	 */
+	public <T> Future<T> manufacturePojo(final Class<T> pojoClass,
+			final Type... genericTypeArgs) {
+
+		return submit(new Callable<T>() {
+			@Override
+			public T call() {
+				return factory.manufacturePojo(pojoClass, genericTypeArgs);
+			}
+		});
+	}
+
+	/**
+	 * Populates a POJO asynchronously.
+	 * <p>
+	 * The POJO must not be accessed by other threads until the returned
+	 * future completes.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type for which should be populated
+	 * @param pojo
+	 *            The instance to be filled with values
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The future of the same instance, it fails with
+	 *         PodamMockeryException, if the POJO could not be populated
+	 * @see PodamFactory#populatePojo(Object, Type...)
+	 */
+	public <T> Future<T> populatePojo(final T pojo,
+			final Type... genericTypeArgs) {
+
+		return submit(new Callable<T>() {
+			@Override
+			public T call() {
+				return factory.populatePojo(pojo, genericTypeArgs);
+			}
+		});
+	}
+
+	/**
+	 * It returns the wrapped factory.
+	 *
+	 * @return the factory manufacturing POJOs
+	 */
+	public PodamFactory getFactory() {
+		return factory;
+	}
+
+	/**
+	 * It runs a request on the executor.
+	 *
+	 * @param <T>
+	 *            The type of the request result
+	 * @param request
+	 *            the request
+	 * @return the future result of the request
+	 */
+	private <T> Future<T> submit(Callable<T> request) {
+
+		FutureTask<T> task = new FutureTask<T>(request);
+		executor.execute(task);
+		return task;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "AsyncPodamFactory [factory=" + factory + ", executor="
+				+ executor + "]";
+	}
+}
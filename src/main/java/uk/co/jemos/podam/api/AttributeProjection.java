@@ -0,0 +1,255 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Selection of attributes, which are manufactured, by their paths.
+ * <p>
+ * A path lists names of attributes from the root POJO separated by dots,
+ * for example {@code customer.address.city}. A selected attribute is
+ * manufactured in full, attributes, which are not on any path, are left
+ * with their default values. Elements of containers are projected by the
+ * same paths as the container, so {@code order.lines.price} selects prices
+ * of all the lines. Square brackets marking containers, as in
+ * {@code order.lines[].price}, are optional, and an asterisk matches any
+ * part of a name, as in {@code *.id}.
+ * </p>
+ * <p>
+ * Arguments of constructors and methods are always manufactured in full,
+ * as the POJO cannot be created without them.
+ * </p>
+ *
+ * @see PodamFactoryImpl#manufacturePojo(AttributeProjection, Class, java.lang.reflect.Type...)
+ * @see PodamFactoryImpl#populatePojo(AttributeProjection, Object, java.lang.reflect.Type...)
+ * @since 7.1.1
+ */
+@Immutable
+public class AttributeProjection {
+
+	/** Projection selecting all the attributes */
+	public static final AttributeProjection ALL
+			= new AttributeProjection(Collections.singletonList(new Node(true)));
+
+	/** Marker of container attributes in paths */
+	private static final String CONTAINER_MARKER = "[]";
+
+	/** Wildcard matching any part of a name */
+	private static final String WILDCARD = "*";
+
+	/** Roots of the trees of selected paths */
+	private final List<Node> nodes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param paths
+	 *            paths of selected attributes
+	 */
+	public AttributeProjection(String... paths) {
+
+		if (null == paths || paths.length == 0) {
+			throw new IllegalArgumentException("No attribute paths are selected");
+		}
+		Node root = new Node(false);
+		for (String path : paths) {
+			root.add(parse(path), 0);
+		}
+		this.nodes = Collections.singletonList(root);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param nodes
+	 *            roots of the trees of selected paths
+	 */
+	private AttributeProjection(List<Node> nodes) {
+		this.nodes = nodes;
+	}
+
+	/**
+	 * It returns the projection of an attribute.
+	 *
+	 * @param attributeName
+	 *            the name of the attribute
+	 * @return projection of the attribute value, {@link #ALL}, if the
+	 *         attribute is selected in full, or null, if the attribute is
+	 *         not selected
+	 */
+	public AttributeProjection getAttributeProjection(String attributeName) {
+
+		List<Node> matched = new ArrayList<Node>();
+		for (Node node : nodes) {
+			if (node.complete) {
+				return ALL;
+			}
+			node.match(attributeName, matched);
+		}
+		if (matched.isEmpty()) {
+			return null;
+		}
+		for (Node node : matched) {
+			if (node.complete) {
+				return ALL;
+			}
+		}
+		return new AttributeProjection(matched);
+	}
+
+	/**
+	 * Checks, if all the attributes are selected.
+	 *
+	 * @return true, if this projection selects all the attributes
+	 */
+	public boolean isComplete() {
+		return nodes.size() == 1 && nodes.get(0).complete;
+	}
+
+	/**
+	 * It splits a path into names of attributes.
+	 *
+	 * @param path
+	 *            the path
+	 * @return names of attributes without container markers
+	 */
+	private static List<String> parse(String path) {
+
+		if (null == path || path.isEmpty()) {
+			throw new IllegalArgumentException("Empty attribute path");
+		}
+		List<String> names = new ArrayList<String>(
+				Arrays.asList(path.split("\\.", -1)));
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			if (name.endsWith(CONTAINER_MARKER)) {
+				name = name.substring(0, name.length() - CONTAINER_MARKER.length());
+				names.set(i, name);
+			}
+			if (name.isEmpty()) {
+				throw new IllegalArgumentException("Empty attribute name in "
+						+ path);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "AttributeProjection " + nodes;
+	}
+
+	/**
+	 * Node of the tree of selected paths
+	 */
+	private static class Node {
+
+		/** Whether all the attributes below the node are selected */
+		private boolean complete;
+
+		/** Children selected by exact names */
+		private final Map<String, Node> children = new HashMap<String, Node>();
+
+		/** Children selected by names with wildcards */
+		private final Map<String, Node> wildcards = new LinkedHashMap<String, Node>();
+
+		/** Patterns of names with wildcards */
+		private final Map<String, Pattern> patterns = new HashMap<String, Pattern>();
+
+		/**
+		 * Constructor.
+		 *
+		 * @param complete
+		 *            whether all the attributes below the node are selected
+		 */
+		Node(boolean complete) {
+			this.complete = complete;
+		}
+
+		/**
+		 * It adds the rest of a path below this node.
+		 *
+		 * @param names
+		 *            names of attributes of the path
+		 * @param index
+		 *            the index of the first name to add
+		 */
+		void add(List<String> names, int index) {
+
+			if (index == names.size()) {
+				complete = true;
+				return;
+			}
+			String name = names.get(index);
+			Map<String, Node> map;
+			if (name.contains(WILDCARD)) {
+				map = wildcards;
+				if (!patterns.containsKey(name)) {
+					StringBuilder regex = new StringBuilder();
+					for (String part : name.split("\\*", -1)) {
+						if (regex.length() > 0) {
+							regex.append(".*");
+						}
+						if (!part.isEmpty()) {
+							regex.append(Pattern.quote(part));
+						}
+					}
+					patterns.put(name, Pattern.compile(regex.toString()));
+				}
+			} else {
+				map = children;
+			}
+			Node child = map.get(name);
+			if (null == child) {
+				child = new Node(false);
+				map.put(name, child);
+			}
+			child.add(names, index + 1);
+		}
+
+		/**
+		 * It finds children matching the name of an attribute.
+		 *
+		 * @param attributeName
+		 *            the name of the attribute
+		 * @param matched
+		 *            the list to add matching children to
+		 */
+		void match(String attributeName, List<Node> matched) {
+
+			Node child = children.get(attributeName);
+			if (null != child) {
+				matched.add(child);
+			}
+			for (Map.Entry<String, Node> entry : wildcards.entrySet()) {
+				if (patterns.get(entry.getKey()).matcher(attributeName).matches()) {
+					matched.add(entry.getValue());
+				}
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			if (complete) {
+				return "*";
+			}
+			Map<String, Node> all = new LinkedHashMap<String, Node>(children);
+			all.putAll(wildcards);
+			return all.toString();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token stopping manufacturing of a graph, when it is cancelled or its
+ * deadline expires.
+ * <p>
+ * The factory checks the token cooperatively, before it manufactures a
+ * POJO, between attributes and between container elements, so a graph
+ * stops growing soon after cancellation. What happens then depends on
+ * the {@link Policy} of the token.
+ * </p>
+ *
+ * @see PodamFactoryImpl#manufacturePojo(CancellationToken, Class, java.lang.reflect.Type...)
+ * @see PodamFactoryImpl#populatePojo(CancellationToken, Object, java.lang.reflect.Type...)
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class CancellationToken {
+
+	/**
+	 * What the factory does after cancellation
+	 */
+	public enum Policy {
+
+		/** Manufacturing fails with PodamCancellationException */
+		FAIL,
+
+		/**
+		 * Manufacturing returns the graph populated so far, POJOs, which
+		 * were not manufactured, are null and containers may have fewer
+		 * elements
+		 */
+		RETURN_PARTIAL
+	}
+
+	/** What the factory does after cancellation */
+	private final Policy policy;
+
+	/** Whether the token has a deadline */
+	private final boolean hasDeadline;
+
+	/** The deadline in terms of {@link System#nanoTime()} */
+	private final long deadlineNanos;
+
+	/** Set, when the token was cancelled or the deadline was found expired */
+	private volatile boolean cancelled;
+
+	/**
+	 * Constructor of a token without deadline.
+	 *
+	 * @param policy
+	 *            what the factory does after cancellation
+	 */
+	public CancellationToken(Policy policy) {
+
+		if (null == policy) {
+			throw new IllegalArgumentException("The policy cannot be null");
+		}
+		this.policy = policy;
+		this.hasDeadline = false;
+		this.deadlineNanos = 0;
+	}
+
+	/**
+	 * Constructor of a token cancelled, when the timeout passes.
+	 *
+	 * @param timeout
+	 *            the time from now, when the token gets cancelled
+	 * @param unit
+	 *            the unit of the timeout
+	 * @param policy
+	 *            what the factory does after cancellation
+	 */
+	public CancellationToken(long timeout, TimeUnit unit, Policy policy) {
+
+		if (null == policy || null == unit) {
+			throw new IllegalArgumentException(
+					"The unit and the policy cannot be null");
+		}
+		this.policy = policy;
+		this.hasDeadline = true;
+		this.deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+	}
+
+	/**
+	 * It cancels manufacturing using this token.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Checks, if the token was cancelled or its deadline expired.
+	 *
+	 * @return true, if manufacturing should stop
+	 */
+	public boolean isCancelled() {
+
+		if (!cancelled && hasDeadline
+				&& System.nanoTime() - deadlineNanos >= 0) {
+			cancelled = true;
+		}
+		return cancelled;
+	}
+
+	/**
+	 * It returns what the factory does after cancellation.
+	 *
+	 * @return the cancellation policy
+	 */
+	public Policy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "CancellationToken [policy=" + policy + ", cancelled="
+				+ cancelled + "]";
+	}
+}
@@ -13,6 +13,13 @@ import java.util.Set;
  * <p>
  * It provides a tool for customization of class introspection process.
  * </p>
+ * <p>
+ * A class info strategy may be shared by factories used from many threads,
+ * for example by {@link AsyncPodamFactory}. Implementations meant for such
+ * use have to be safe for concurrent queries, which holds for
+ * {@link AbstractClassInfoStrategy} as long as it is not reconfigured while
+ * POJOs are manufactured.
+ * </p>
  * 
  * @author daivanov
  * 
@@ -0,0 +1,29 @@
+package uk.co.jemos.podam.api;
+
+/**
+ * Policy deciding the number of elements of collections, maps and arrays
+ * depending on their position in the manufactured graph.
+ * <p>
+ * Implementations are called concurrently, when containers are filled in
+ * parallel, and have to be thread-safe.
+ * </p>
+ *
+ * @see AbstractRandomDataProviderStrategy#setCollectionSizePolicy(CollectionSizePolicy)
+ * @since 7.1.1
+ */
+public interface CollectionSizePolicy {
+
+	/**
+	 * Returns the number of elements of a container.
+	 *
+	 * @param nbrElements
+	 *            the number of elements requested by annotations of the
+	 *            attribute or by the strategy
+	 * @param fanOut
+	 *            the number of containers manufactured at this level of the
+	 *            graph, the product of sizes of the enclosing containers, 1
+	 *            for containers not nested in other containers
+	 * @return the number of elements to manufacture
+	 */
+	int getNumberOfElements(int nbrElements, long fanOut);
+}
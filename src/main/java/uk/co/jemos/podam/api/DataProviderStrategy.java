@@ -23,6 +23,15 @@ import java.util.Map;
  * have to provide an implementation of this interface and pass it to the
  * constructor of the {@link PodamFactoryImpl} class.
  * </p>
+ * <p>
+ * A strategy may be shared by factories used from many threads, for example
+ * by {@link AsyncPodamFactory} or {@link PodamPojoSource}. Implementations
+ * meant for such use have to be thread-safe for data requests, while
+ * configuration methods are expected to be called before manufacturing
+ * starts. {@link AbstractRandomDataProviderStrategy} satisfies this, though
+ * memoized objects would be shared between concurrently manufactured
+ * graphs.
+ * </p>
  * 
  * @author mtedone
  * 
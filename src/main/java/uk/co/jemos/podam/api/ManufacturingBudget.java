@@ -0,0 +1,470 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Budget limiting the number of objects and the estimated number of bytes
+ * created by one manufacturing call.
+ * <p>
+ * Objects are counted, when they are instantiated, and their size is
+ * estimated from the fields of their class, without the objects they
+ * reference. Containers and arrays are charged with their storage and
+ * values produced in bulk are counted one by one. When the budget or the
+ * budget of a type is exhausted, containers stop growing, new arrays are
+ * shorter and the POJOs, which cannot be created any more, are left null.
+ * Primitive values are limited only by the length of their arrays.
+ * </p>
+ *
+ * @see AbstractRandomDataProviderStrategy#setManufacturingBudget(ManufacturingBudget)
+ * @see PodamFactoryImpl#manufacturePojo(ManufacturingBudget, Class, java.lang.reflect.Type...)
+ * @since 7.1.1
+ */
+@Immutable
+public class ManufacturingBudget {
+
+	/** Limit, which is never reached */
+	public static final long UNLIMITED = Long.MAX_VALUE;
+
+	/** Size of an object header */
+	private static final long HEADER_SIZE = 12;
+
+	/** Size of a reference */
+	private static final long REFERENCE_SIZE = 4;
+
+	/** Alignment of object sizes */
+	private static final long ALIGNMENT = 8;
+
+	/** Estimated size of a map entry */
+	private static final long MAP_ENTRY_SIZE = 32;
+
+	/** Load factor of hash tables */
+	private static final double LOAD_FACTOR = 0.75;
+
+	/** Estimated shallow sizes of classes */
+	private static final Map<Class<?>, Long> SHALLOW_SIZES = Collections
+			.synchronizedMap(new WeakHashMap<Class<?>, Long>());
+
+	/** Maximal number of objects */
+	private final long maxObjects;
+
+	/** Maximal estimated number of bytes */
+	private final long maxBytes;
+
+	/** Maximal numbers of objects of individual types */
+	private final Map<Class<?>, Long> maxTypeObjects;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxObjects
+	 *            maximal number of objects or {@link #UNLIMITED}
+	 * @param maxBytes
+	 *            maximal estimated number of bytes or {@link #UNLIMITED}
+	 */
+	public ManufacturingBudget(long maxObjects, long maxBytes) {
+		this(maxObjects, maxBytes, Collections.<Class<?>, Long>emptyMap());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxObjects
+	 *            maximal number of objects
+	 * @param maxBytes
+	 *            maximal estimated number of bytes
+	 * @param maxTypeObjects
+	 *            maximal numbers of objects of individual types
+	 */
+	private ManufacturingBudget(long maxObjects, long maxBytes,
+			Map<Class<?>, Long> maxTypeObjects) {
+
+		if (maxObjects < 0 || maxBytes < 0) {
+			throw new IllegalArgumentException("Budget cannot be negative: "
+					+ maxObjects + " objects, " + maxBytes + " bytes");
+		}
+		this.maxObjects = maxObjects;
+		this.maxBytes = maxBytes;
+		this.maxTypeObjects = maxTypeObjects;
+	}
+
+	/**
+	 * It returns a budget, which also limits the number of objects of
+	 * the type.
+	 *
+	 * @param type
+	 *            the class of limited objects, subclasses are not limited
+	 * @param maxObjects
+	 *            maximal number of objects of the type
+	 * @return new budget
+	 */
+	public ManufacturingBudget withTypeLimit(Class<?> type, long maxObjects) {
+
+		if (maxObjects < 0) {
+			throw new IllegalArgumentException("Budget cannot be negative: "
+					+ maxObjects + " objects of " + type);
+		}
+		Map<Class<?>, Long> limits = new HashMap<Class<?>, Long>(maxTypeObjects);
+		limits.put(type, maxObjects);
+		return new ManufacturingBudget(this.maxObjects, maxBytes,
+				Collections.unmodifiableMap(limits));
+	}
+
+	/**
+	 * It returns the maximal number of objects.
+	 *
+	 * @return maximal number of objects
+	 */
+	public long getMaxObjects() {
+		return maxObjects;
+	}
+
+	/**
+	 * It returns the maximal number of objects of the type.
+	 *
+	 * @param type
+	 *            the class of objects
+	 * @return maximal number of objects or {@link #UNLIMITED}
+	 */
+	public long getMaxObjects(Class<?> type) {
+		Long limit = maxTypeObjects.get(type);
+		return null != limit ? limit : UNLIMITED;
+	}
+
+	/**
+	 * It returns the maximal estimated number of bytes.
+	 *
+	 * @return maximal estimated number of bytes
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * It starts tracking a manufacturing call against this budget.
+	 *
+	 * @return new usage of the budget
+	 */
+	public Usage newUsage() {
+		return new Usage();
+	}
+
+	/**
+	 * It estimates the size of an instance of the class without objects it
+	 * references, assuming compressed references.
+	 *
+	 * @param type
+	 *            the class of the instance
+	 * @return estimated size in bytes, for arrays the size of an empty one
+	 */
+	public static long estimateShallowSize(Class<?> type) {
+
+		Long size = SHALLOW_SIZES.get(type);
+		if (null == size) {
+			long bytes = HEADER_SIZE;
+			if (type.isArray()) {
+				bytes += 4;
+			} else {
+				for (Class<?> clazz = type; null != clazz; clazz = clazz.getSuperclass()) {
+					for (Field field : clazz.getDeclaredFields()) {
+						if (!Modifier.isStatic(field.getModifiers())) {
+							bytes += getFieldSize(field.getType());
+						}
+					}
+				}
+			}
+			size = (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+			SHALLOW_SIZES.put(type, size);
+		}
+		return size;
+	}
+
+	/**
+	 * It estimates the size of an array including its elements, but without
+	 * objects the elements reference.
+	 *
+	 * @param componentType
+	 *            the class of elements
+	 * @param length
+	 *            the length of the array
+	 * @return estimated size in bytes
+	 */
+	static long estimateArraySize(Class<?> componentType, long length) {
+
+		long bytes = HEADER_SIZE + 4 + getFieldSize(componentType) * length;
+		return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+	/**
+	 * It estimates the size of the storage of a collection or a map, which
+	 * the container references.
+	 *
+	 * @param containerClass
+	 *            the class of the collection or the map
+	 * @param size
+	 *            the number of elements
+	 * @return estimated size in bytes without the container itself
+	 */
+	static long estimateStorageSize(Class<?> containerClass, long size) {
+
+		if (Map.class.isAssignableFrom(containerClass)) {
+			return estimateArraySize(Object.class, (long) Math.ceil(size / LOAD_FACTOR))
+					+ MAP_ENTRY_SIZE * size;
+		}
+		long bytes = estimateArraySize(Object.class, size);
+		if (Set.class.isAssignableFrom(containerClass)) {
+			bytes += MAP_ENTRY_SIZE * size;
+		}
+		return bytes;
+	}
+
+	/**
+	 * It returns the size of a field of the type.
+	 *
+	 * @param type
+	 *            the type of the field
+	 * @return size of the field in bytes
+	 */
+	private static long getFieldSize(Class<?> type) {
+
+		if (long.class.equals(type) || double.class.equals(type)) {
+			return 8;
+		} else if (int.class.equals(type) || float.class.equals(type)) {
+			return 4;
+		} else if (short.class.equals(type) || char.class.equals(type)) {
+			return 2;
+		} else if (byte.class.equals(type) || boolean.class.equals(type)) {
+			return 1;
+		} else {
+			return REFERENCE_SIZE;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "ManufacturingBudget [maxObjects=" + maxObjects + ", maxBytes="
+				+ maxBytes + ", maxTypeObjects=" + maxTypeObjects + "]";
+	}
+
+	/**
+	 * Objects and bytes used by one manufacturing call, shared by the tasks
+	 * manufacturing parts of the graph in parallel
+	 */
+	@ThreadSafe
+	public class Usage {
+
+		/** Number of created objects */
+		private final AtomicLong objects = new AtomicLong();
+
+		/** Estimated number of bytes of created objects */
+		private final AtomicLong bytes = new AtomicLong();
+
+		/** Numbers of created objects of limited types */
+		private final Map<Class<?>, AtomicLong> typeObjects
+				= new HashMap<Class<?>, AtomicLong>();
+
+		/** Number of times the budget stopped manufacturing */
+		private final AtomicLong stops = new AtomicLong();
+
+		/**
+		 * Constructor.
+		 */
+		Usage() {
+			for (Class<?> type : maxTypeObjects.keySet()) {
+				typeObjects.put(type, new AtomicLong());
+			}
+		}
+
+		/**
+		 * Checks, if the budget is exhausted.
+		 *
+		 * @return true, if no more objects should be created
+		 */
+		public boolean isExhausted() {
+			return objects.get() >= maxObjects || bytes.get() >= maxBytes;
+		}
+
+		/**
+		 * Checks, if the budget is exhausted for the type.
+		 *
+		 * @param type
+		 *            the class of objects
+		 * @return true, if no more objects of the type should be created
+		 */
+		public boolean isExhausted(Class<?> type) {
+
+			if (isExhausted()) {
+				return true;
+			}
+			AtomicLong count = typeObjects.get(type);
+			return null != count && count.get() >= getMaxObjects(type);
+		}
+
+		/**
+		 * It records creation of an object.
+		 *
+		 * @param type
+		 *            the class of the created object
+		 */
+		public void consume(Class<?> type) {
+			consume(type, estimateShallowSize(type));
+		}
+
+		/**
+		 * It records creation of an object of the given size, like an
+		 * array.
+		 *
+		 * @param type
+		 *            the class of the created object
+		 * @param size
+		 *            estimated size of the object in bytes
+		 */
+		void consume(Class<?> type, long size) {
+
+			objects.incrementAndGet();
+			bytes.addAndGet(size);
+			AtomicLong count = typeObjects.get(type);
+			if (null != count) {
+				count.incrementAndGet();
+			}
+		}
+
+		/**
+		 * It records creation of objects produced in bulk.
+		 *
+		 * @param type
+		 *            the class of the created objects
+		 * @param count
+		 *            number of the created objects
+		 */
+		void consumeElements(Class<?> type, int count) {
+
+			if (type.isPrimitive() || count <= 0) {
+				return;
+			}
+			objects.addAndGet(count);
+			bytes.addAndGet(estimateShallowSize(type) * count);
+			AtomicLong typeCount = typeObjects.get(type);
+			if (null != typeCount) {
+				typeCount.addAndGet(count);
+			}
+		}
+
+		/**
+		 * It records memory, which is not a new object, like the storage
+		 * added to a container.
+		 *
+		 * @param size
+		 *            estimated size in bytes
+		 */
+		void consumeBytes(long size) {
+			bytes.addAndGet(size);
+		}
+
+		/**
+		 * It returns how many objects of the type can still be created.
+		 *
+		 * @param type
+		 *            the class of objects
+		 * @param count
+		 *            the requested number of objects
+		 * @return the number of objects up to the requested one, primitive
+		 *         values are not limited
+		 */
+		int getRemaining(Class<?> type, int count) {
+
+			if (type.isPrimitive()) {
+				return count;
+			}
+			long remaining = maxObjects - objects.get();
+			if (isExhausted(type)) {
+				remaining = 0;
+			}
+			AtomicLong typeCount = typeObjects.get(type);
+			if (null != typeCount) {
+				remaining = Math.min(remaining, getMaxObjects(type) - typeCount.get());
+			}
+			if (remaining < count) {
+				recordStop();
+				return (int) Math.max(0, remaining);
+			}
+			return count;
+		}
+
+		/**
+		 * It returns the length of a new array, which fits into the budget.
+		 * Arrays are not longer than the number of objects, which can still
+		 * be created, even if their elements are primitive.
+		 *
+		 * @param componentType
+		 *            the class of elements
+		 * @param length
+		 *            the requested length
+		 * @return the length up to the requested one
+		 */
+		int getRemainingLength(Class<?> componentType, int length) {
+
+			long remaining = Math.min(getRemaining(componentType, length),
+					maxObjects - objects.get());
+			if (UNLIMITED != maxBytes) {
+				long free = maxBytes - bytes.get() - estimateArraySize(componentType, 0);
+				remaining = Math.min(remaining, free / getFieldSize(componentType));
+			}
+			if (isExhausted()) {
+				remaining = 0;
+			}
+			if (remaining < length) {
+				recordStop();
+				return (int) Math.max(0, remaining);
+			}
+			return length;
+		}
+
+		/**
+		 * It records, that manufacturing of an object or a container was
+		 * stopped or truncated by the budget.
+		 */
+		void recordStop() {
+			stops.incrementAndGet();
+		}
+
+		/**
+		 * It returns how many times the budget stopped manufacturing.
+		 *
+		 * @return number of stopped or truncated objects and containers
+		 */
+		long getStops() {
+			return stops.get();
+		}
+
+		/**
+		 * It returns the number of created objects.
+		 *
+		 * @return number of created objects
+		 */
+		public long getObjects() {
+			return objects.get();
+		}
+
+		/**
+		 * It returns the estimated number of bytes of created objects.
+		 *
+		 * @return estimated number of bytes
+		 */
+		public long getBytes() {
+			return bytes.get();
+		}
+	}
+}
@@ -0,0 +1,773 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.api.DataProviderStrategy.Order;
+import uk.co.jemos.podam.common.PodamConstants;
+import uk.co.jemos.podam.common.PodamStringValue;
+import uk.co.jemos.podam.exceptions.PodamMockeryException;
+import uk.co.jemos.podam.typeManufacturers.TypeManufacturerUtil;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Estimates the cost of manufacturing a POJO without instantiating anything.
+ * <p>
+ * The estimator walks the arguments of the constructor, which the factory
+ * tries first, and the attributes, which the {@link ClassInfoStrategy}
+ * reports, the way the factory fills them, using container sizes from
+ * {@link uk.co.jemos.podam.common.PodamCollection} annotations or
+ * {@link DataProviderStrategy#getNumberOfCollectionElements(Class)} and
+ * adjusted by {@link AbstractRandomDataProviderStrategy#getCollectionSizePolicy()} and
+ * stopping recursion at {@link DataProviderStrategy#getMaxDepth(Class)}.
+ * It predicts the number of objects per class, the number and length of
+ * strings and the heap size, see
+ * {@link ManufacturingBudget#estimateShallowSize(Class)}. Read-only
+ * containers, which are not passed to the constructor, are assumed to be
+ * initialized empty by the POJO. Other read-only attributes, values of
+ * attribute strategies and fallbacks to other constructors or factory
+ * methods are not walked, so the estimate is a lower bound for POJOs
+ * relying on them.
+ * </p>
+ * <p>
+ * Paths, on which a class is manufactured again inside its own
+ * containers, are reported as fan-out paths, as the number of objects on
+ * them grows exponentially with the depth.
+ * </p>
+ *
+ * @see ManufacturingBudget
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class PodamCostEstimator {
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory.getLogger(PodamCostEstimator.class);
+
+	/** Number of visited types, after which the walk stops */
+	private static final int MAX_VISITS = 100000;
+
+	/** The strategy providing container sizes and depths */
+	private final DataProviderStrategy strategy;
+
+	/** The strategy providing attributes of classes */
+	private final ClassInfoStrategy classInfoStrategy;
+
+	/**
+	 * Estimated cost of manufacturing a POJO
+	 */
+	@Immutable
+	public static class Estimate {
+
+		/** Numbers of objects per class */
+		private final Map<Class<?>, Long> objectCounts;
+
+		/** Number of strings */
+		private final long strings;
+
+		/** Number of characters in strings */
+		private final long characters;
+
+		/** Estimated heap size in bytes */
+		private final long bytes;
+
+		/** Descriptions of fan-out paths */
+		private final List<String> fanOutPaths;
+
+		/** Set, if the walk stopped before completion */
+		private final boolean truncated;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param objectCounts
+		 *            numbers of objects per class
+		 * @param strings
+		 *            number of strings
+		 * @param characters
+		 *            number of characters in strings
+		 * @param bytes
+		 *            estimated heap size in bytes
+		 * @param fanOutPaths
+		 *            descriptions of fan-out paths
+		 * @param truncated
+		 *            set, if the walk stopped before completion
+		 */
+		Estimate(Map<Class<?>, Long> objectCounts, long strings,
+				long characters, long bytes, List<String> fanOutPaths,
+				boolean truncated) {
+			this.objectCounts = Collections.unmodifiableMap(objectCounts);
+			this.strings = strings;
+			this.characters = characters;
+			this.bytes = bytes;
+			this.fanOutPaths = Collections.unmodifiableList(fanOutPaths);
+			this.truncated = truncated;
+		}
+
+		/**
+		 * It returns the total number of objects.
+		 *
+		 * @return number of objects including strings and containers
+		 */
+		public long getObjects() {
+			long objects = 0;
+			for (Long count : objectCounts.values()) {
+				objects = saturatedSum(objects, count);
+			}
+			return objects;
+		}
+
+		/**
+		 * It returns the number of objects of the class.
+		 *
+		 * @param type
+		 *            the class of objects
+		 * @return number of objects of exactly this class
+		 */
+		public long getObjects(Class<?> type) {
+			Long count = objectCounts.get(type);
+			return null != count ? count : 0;
+		}
+
+		/**
+		 * It returns the numbers of objects per class.
+		 *
+		 * @return unmodifiable map of numbers of objects per class
+		 */
+		public Map<Class<?>, Long> getObjectCounts() {
+			return objectCounts;
+		}
+
+		/**
+		 * It returns the number of strings.
+		 *
+		 * @return number of strings
+		 */
+		public long getStrings() {
+			return strings;
+		}
+
+		/**
+		 * It returns the number of characters in all the strings.
+		 *
+		 * @return number of characters
+		 */
+		public long getCharacters() {
+			return characters;
+		}
+
+		/**
+		 * It returns the estimated heap size.
+		 *
+		 * @return estimated size in bytes
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * It returns the fan-out paths.
+		 *
+		 * @return unmodifiable list of descriptions of paths, on which the
+		 *         number of objects grows exponentially with the depth
+		 */
+		public List<String> getFanOutPaths() {
+			return fanOutPaths;
+		}
+
+		/**
+		 * Checks, if the walk stopped before completion, so the estimate
+		 * is too low.
+		 *
+		 * @return true, if the graph was too large to walk
+		 */
+		public boolean isTruncated() {
+			return truncated;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return "Estimate [objects=" + getObjects() + ", strings=" + strings
+					+ ", characters=" + characters + ", bytes=" + bytes
+					+ ", fanOutPaths=" + fanOutPaths + ", truncated="
+					+ truncated + "]";
+		}
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param factory
+	 *            the factory, whose strategies are used
+	 */
+	public PodamCostEstimator(PodamFactory factory) {
+		this(factory.getStrategy(), factory.getClassStrategy());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param strategy
+	 *            the strategy providing container sizes and depths
+	 * @param classInfoStrategy
+	 *            the strategy providing attributes of classes
+	 */
+	public PodamCostEstimator(DataProviderStrategy strategy,
+			ClassInfoStrategy classInfoStrategy) {
+
+		if (null == strategy || null == classInfoStrategy) {
+			throw new IllegalArgumentException(
+					"The strategies cannot be null");
+		}
+		this.strategy = strategy;
+		this.classInfoStrategy = classInfoStrategy;
+	}
+
+	/**
+	 * It estimates the cost of manufacturing a POJO.
+	 *
+	 * @param pojoClass
+	 *            The class of the POJO
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return the estimated cost
+	 */
+	public Estimate estimate(Class<?> pojoClass, Type... genericTypeArgs) {
+
+		Walk walk = new Walk();
+		walk.depths.put(pojoClass, 1);
+		walk.populate(pojoClass, genericTypeArgs, 1.0, pojoClass.getSimpleName());
+
+		Map<Class<?>, Long> objectCounts = new LinkedHashMap<Class<?>, Long>();
+		for (Map.Entry<Class<?>, Double> entry : walk.objects.entrySet()) {
+			objectCounts.put(entry.getKey(), (long) Math.ceil(entry.getValue()));
+		}
+		Estimate estimate = new Estimate(objectCounts, (long) walk.strings,
+				(long) walk.characters, (long) walk.bytes,
+				new ArrayList<String>(walk.fanOutPaths), walk.truncated);
+		LOG.debug("Estimated {} for {}", estimate, pojoClass);
+		return estimate;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "PodamCostEstimator [strategy=" + strategy
+				+ ", classInfoStrategy=" + classInfoStrategy + "]";
+	}
+
+	/**
+	 * It adds two non-negative numbers without overflow.
+	 *
+	 * @param a
+	 *            the first number
+	 * @param b
+	 *            the second number
+	 * @return the sum or {@link Long#MAX_VALUE}
+	 */
+	private static long saturatedSum(long a, long b) {
+		long sum = a + b;
+		return sum < 0 ? Long.MAX_VALUE : sum;
+	}
+
+	/**
+	 * POJO on the path to the visited type
+	 */
+	private static class Frame {
+
+		/** The class of the POJO */
+		private final Class<?> type;
+
+		/** Number of instances of the POJO */
+		private final double multiplier;
+
+		/** Path of the attribute holding the POJO */
+		private final String label;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param type
+		 *            the class of the POJO
+		 * @param multiplier
+		 *            number of instances of the POJO
+		 * @param label
+		 *            path of the attribute holding the POJO
+		 */
+		Frame(Class<?> type, double multiplier, String label) {
+			this.type = type;
+			this.multiplier = multiplier;
+			this.label = label;
+		}
+	}
+
+	/**
+	 * State of one walk over a type graph. Counts are multiplied by the
+	 * number of instances of the enclosing containers, so each path is
+	 * walked once.
+	 */
+	private class Walk {
+
+		/** Numbers of objects per class */
+		private final Map<Class<?>, Double> objects = new LinkedHashMap<Class<?>, Double>();
+
+		/** Depths of classes on the path, the same way as in manufacturing */
+		private final Map<Class<?>, Integer> depths = new HashMap<Class<?>, Integer>();
+
+		/** POJOs on the path */
+		private final Deque<Frame> path = new ArrayDeque<Frame>();
+
+		/** Descriptions of fan-out paths */
+		private final Set<String> fanOutPaths = new LinkedHashSet<String>();
+
+		/** Number of strings */
+		private double strings;
+
+		/** Number of characters in strings */
+		private double characters;
+
+		/** Estimated heap size in bytes */
+		private double bytes;
+
+		/** Number of visited types */
+		private int visits;
+
+		/** Set, if the walk stopped before completion */
+		private boolean truncated;
+
+		/**
+		 * It records objects.
+		 *
+		 * @param type
+		 *            the class of objects
+		 * @param multiplier
+		 *            number of objects
+		 * @param size
+		 *            size of one object
+		 */
+		private void count(Class<?> type, double multiplier, long size) {
+			Double count = objects.get(type);
+			objects.put(type, (null != count ? count : 0.0) + multiplier);
+			bytes += multiplier * size;
+		}
+
+		/**
+		 * It visits a value of an attribute or a container element.
+		 *
+		 * @param type
+		 *            the class of the value
+		 * @param typeArgs
+		 *            the generic type arguments of the value
+		 * @param typeArgsMap
+		 *            the generic type arguments of the enclosing POJO
+		 * @param annotations
+		 *            the annotations of the attribute
+		 * @param multiplier
+		 *            number of values
+		 * @param label
+		 *            path of the attribute
+		 */
+		private void visit(Class<?> type, Type[] typeArgs,
+				Map<String, Type> typeArgsMap, List<Annotation> annotations,
+				double multiplier, String label) {
+
+			if (++visits > MAX_VISITS) {
+				truncated = true;
+				return;
+			}
+			if (type.isPrimitive() || type.isEnum()) {
+				return;
+			}
+			if (String.class.equals(type)) {
+
+				int length = getStringLength(annotations);
+				strings += multiplier;
+				characters += multiplier * length;
+				count(type, multiplier, ManufacturingBudget.estimateShallowSize(type)
+						+ ManufacturingBudget.estimateArraySize(char.class, length));
+			} else if (type.isArray()) {
+
+				Class<?> componentType = type.getComponentType();
+				int size = getCollectionSize(annotations, componentType, multiplier);
+				count(type, multiplier,
+						ManufacturingBudget.estimateArraySize(componentType, size));
+				visit(componentType, PodamConstants.NO_TYPES, typeArgsMap,
+						annotations, multiplier * size, label + "[]");
+			} else if (Collection.class.isAssignableFrom(type)) {
+
+				Type[] elementTypeArgs = getTypeArgs(typeArgs, 1);
+				AtomicReference<Type[]> elementGenericTypeArgs
+						= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
+				Class<?> elementType = resolve(elementTypeArgs[0], typeArgsMap,
+						elementGenericTypeArgs);
+				int size = getCollectionSize(annotations, elementType, multiplier);
+				count(type, multiplier,
+						ManufacturingBudget.estimateShallowSize(getImplementation(type))
+						+ ManufacturingBudget.estimateStorageSize(type, size));
+				visit(elementType, elementGenericTypeArgs.get(), typeArgsMap,
+						annotations, multiplier * size, label + "[]");
+			} else if (Map.class.isAssignableFrom(type)) {
+
+				Type[] keyValueTypeArgs = getTypeArgs(typeArgs, 2);
+				AtomicReference<Type[]> keyGenericTypeArgs
+						= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
+				Class<?> keyType = resolve(keyValueTypeArgs[0], typeArgsMap,
+						keyGenericTypeArgs);
+				AtomicReference<Type[]> valueGenericTypeArgs
+						= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
+				Class<?> valueType = resolve(keyValueTypeArgs[1], typeArgsMap,
+						valueGenericTypeArgs);
+				int size = getCollectionSize(annotations, valueType, multiplier);
+				count(type, multiplier,
+						ManufacturingBudget.estimateShallowSize(getImplementation(type))
+						+ ManufacturingBudget.estimateStorageSize(type, size));
+				visit(keyType, keyGenericTypeArgs.get(), typeArgsMap,
+						annotations, multiplier * size, label + "{key}");
+				visit(valueType, valueGenericTypeArgs.get(), typeArgsMap,
+						annotations, multiplier * size, label + "{}");
+			} else if (isLeaf(type)) {
+
+				count(type, multiplier, ManufacturingBudget.estimateShallowSize(type));
+			} else {
+
+				manufacture(getImplementation(type), typeArgs, multiplier, label);
+			}
+		}
+
+		/**
+		 * It visits a POJO, unless its depth is exceeded.
+		 *
+		 * @param type
+		 *            the class of the POJO
+		 * @param typeArgs
+		 *            the generic type arguments of the POJO
+		 * @param multiplier
+		 *            number of POJOs
+		 * @param label
+		 *            path of the attribute holding the POJO
+		 */
+		private void manufacture(Class<?> type, Type[] typeArgs,
+				double multiplier, String label) {
+
+			if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+				return;
+			}
+			Integer depth = depths.get(type);
+			if (null == depth) {
+				depth = 0;
+			}
+			int maxDepth = strategy.getMaxDepth(type);
+			if (depth >= maxDepth) {
+				return;
+			}
+
+			for (Frame frame : path) {
+				if (frame.type.equals(type)) {
+					if (multiplier > frame.multiplier) {
+						fanOutPaths.add(describeCycle(frame, label) + " grows x"
+								+ Math.round(multiplier / frame.multiplier)
+								+ " per level up to depth " + maxDepth);
+					}
+					break;
+				}
+			}
+
+			depths.put(type, depth + 1);
+			populate(type, typeArgs, multiplier, label);
+			depths.put(type, depth);
+		}
+
+		/**
+		 * It visits attributes of a POJO.
+		 *
+		 * @param type
+		 *            the class of the POJO
+		 * @param typeArgs
+		 *            the generic type arguments of the POJO
+		 * @param multiplier
+		 *            number of POJOs
+		 * @param label
+		 *            path of the attribute holding the POJO
+		 */
+		private void populate(Class<?> type, Type[] typeArgs,
+				double multiplier, String label) {
+
+			count(type, multiplier, ManufacturingBudget.estimateShallowSize(type));
+			Map<String, Type> typeArgsMap = new HashMap<String, Type>();
+			TypeManufacturerUtil.fillTypeArgMap(typeArgsMap, type, typeArgs);
+
+			path.push(new Frame(type, multiplier, label));
+			/* Types of arguments, which may initialize read-only containers */
+			List<Type> argumentTypes = new ArrayList<Type>();
+			Constructor<?> constructor = selectConstructor(type);
+			if (null != constructor) {
+				Class<?>[] parameterTypes = constructor.getParameterTypes();
+				Type[] genericTypes = constructor.getGenericParameterTypes();
+				Annotation[][] parameterAnnotations = constructor.getParameterAnnotations();
+				for (int idx = 0; idx < parameterTypes.length; idx++) {
+
+					Type genericType = (idx < genericTypes.length)
+							? genericTypes[idx] : parameterTypes[idx];
+					argumentTypes.add(genericType);
+					visitTyped(parameterTypes[idx], genericType, typeArgsMap,
+							Arrays.asList(parameterAnnotations[idx]), multiplier,
+							type.getSimpleName() + "(" + idx + ")");
+				}
+			}
+
+			ClassInfo classInfo = classInfoStrategy.getClassInfo(type);
+			for (ClassAttribute attribute : classInfo.getClassAttributes()) {
+
+				String attributeLabel = type.getSimpleName() + "." + attribute.getName();
+				Method setter = PodamUtils.selectLatestMethod(attribute.getSetters());
+				if (null != setter) {
+					if (setter.getParameterTypes().length == 1) {
+						visitTyped(setter.getParameterTypes()[0],
+								setter.getGenericParameterTypes()[0], typeArgsMap,
+								PodamUtils.getAttributeAnnotations(
+										attribute.getAttribute(), setter),
+								multiplier, attributeLabel);
+					}
+					continue;
+				}
+				Method getter = PodamUtils.selectLatestMethod(attribute.getGetters());
+				if (null != getter && getter.getParameterTypes().length == 0
+						&& (Collection.class.isAssignableFrom(getter.getReturnType())
+						|| Map.class.isAssignableFrom(getter.getReturnType()))
+						&& !argumentTypes.remove(getter.getGenericReturnType())) {
+					visitTyped(getter.getReturnType(),
+							getter.getGenericReturnType(), typeArgsMap,
+							PodamUtils.getAttributeAnnotations(
+									attribute.getAttribute(), getter),
+							multiplier, attributeLabel);
+				}
+			}
+			path.pop();
+		}
+
+		/**
+		 * It visits a value of a declared generic type.
+		 *
+		 * @param rawType
+		 *            the class of the value
+		 * @param genericType
+		 *            the generic type of the value
+		 * @param typeArgsMap
+		 *            the generic type arguments of the enclosing POJO
+		 * @param annotations
+		 *            the annotations of the attribute or parameter
+		 * @param multiplier
+		 *            number of values
+		 * @param label
+		 *            path of the attribute or parameter
+		 */
+		private void visitTyped(Class<?> rawType, Type genericType,
+				Map<String, Type> typeArgsMap, List<Annotation> annotations,
+				double multiplier, String label) {
+
+			AtomicReference<Type[]> typeArgs
+					= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
+			Class<?> type;
+			if (genericType instanceof GenericArrayType) {
+				type = rawType;
+			} else {
+				type = resolve(genericType, typeArgsMap, typeArgs);
+			}
+			visit(type, typeArgs.get(), typeArgsMap, annotations, multiplier,
+					label);
+		}
+
+		/**
+		 * It describes the path from a POJO to the attribute.
+		 *
+		 * @param frame
+		 *            the POJO, where the path starts
+		 * @param label
+		 *            path of the attribute
+		 * @return description of the path
+		 */
+		private String describeCycle(Frame frame, String label) {
+
+			StringBuilder description = new StringBuilder();
+			boolean started = false;
+			Iterator<Frame> frames = path.descendingIterator();
+			while (frames.hasNext()) {
+				Frame next = frames.next();
+				if (started) {
+					description.append(next.label).append(" -> ");
+				} else {
+					started = (next == frame);
+				}
+			}
+			return description.append(label).toString();
+		}
+	}
+
+	/**
+	 * It selects the constructor, which the factory tries first, the same
+	 * way as {@link PodamFactoryImpl} does.
+	 *
+	 * @param type
+	 *            the class of the POJO
+	 * @return the constructor or null, if the class has no constructors
+	 */
+	private Constructor<?> selectConstructor(Class<?> type) {
+
+		Constructor<?>[] constructors = type.getConstructors();
+		if (constructors.length == 0) {
+			constructors = type.getDeclaredConstructors();
+		}
+		if (constructors.length == 0) {
+			return null;
+		}
+		strategy.sort(constructors, Order.LIGHT_FIRST);
+		return constructors[0];
+	}
+
+	/**
+	 * It resolves a generic type to a class.
+	 *
+	 * @param type
+	 *            the generic type
+	 * @param typeArgsMap
+	 *            the generic type arguments of the enclosing POJO
+	 * @param typeArgs
+	 *            holder receiving the generic type arguments of the type
+	 * @return the class or {@link Object}, if the type cannot be resolved
+	 */
+	private static Class<?> resolve(Type type, Map<String, Type> typeArgsMap,
+			AtomicReference<Type[]> typeArgs) {
+
+		Class<?> resolved = TypeManufacturerUtil.resolveGenericParameter(type,
+				typeArgsMap, typeArgs);
+		return null != resolved ? resolved : Object.class;
+	}
+
+	/**
+	 * It returns generic type arguments of a container, raw containers
+	 * hold objects.
+	 *
+	 * @param typeArgs
+	 *            the generic type arguments
+	 * @param count
+	 *            the expected number of arguments
+	 * @return the generic type arguments
+	 */
+	private static Type[] getTypeArgs(Type[] typeArgs, int count) {
+
+		if (typeArgs.length >= count) {
+			return typeArgs;
+		}
+		Type[] objects = new Type[count];
+		for (int i = 0; i < count; i++) {
+			objects[i] = Object.class;
+		}
+		return objects;
+	}
+
+	/**
+	 * Checks, if a class is filled without walking its attributes.
+	 *
+	 * @param type
+	 *            the class
+	 * @return true for wrappers and other JDK classes
+	 */
+	private static boolean isLeaf(Class<?> type) {
+
+		String name = type.getName();
+		return name.startsWith("java.") || name.startsWith("javax.");
+	}
+
+	/**
+	 * It returns the class manufactured for a type.
+	 *
+	 * @param type
+	 *            the declared type
+	 * @return the class, which the strategy instantiates for the type
+	 */
+	private Class<?> getImplementation(Class<?> type) {
+
+		if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+			return strategy.getSpecificClass(type);
+		}
+		return type;
+	}
+
+	/**
+	 * It returns the size of containers.
+	 *
+	 * @param annotations
+	 *            the annotations of the attribute
+	 * @param elementType
+	 *            the class of elements
+	 * @param fanOut
+	 *            number of containers
+	 * @return number of elements
+	 */
+	private int getCollectionSize(List<Annotation> annotations,
+			Class<?> elementType, double fanOut) {
+
+		int size;
+		try {
+			size = TypeManufacturerUtil.findCollectionSize(strategy,
+					annotations, elementType, null, null);
+		} catch (Exception e) {
+			throw new PodamMockeryException(
+					"Unable to find size of container of " + elementType, e);
+		}
+		CollectionSizePolicy policy = strategy instanceof AbstractRandomDataProviderStrategy
+				? ((AbstractRandomDataProviderStrategy) strategy).getCollectionSizePolicy()
+				: null;
+		if (null != policy) {
+			size = policy.getNumberOfElements(size, (long) fanOut);
+		}
+		return size;
+	}
+
+	/**
+	 * It returns the length of strings.
+	 *
+	 * @param annotations
+	 *            the annotations of the attribute
+	 * @return number of characters
+	 */
+	private static int getStringLength(List<Annotation> annotations) {
+
+		for (Annotation annotation : annotations) {
+			if (annotation instanceof PodamStringValue) {
+				PodamStringValue stringValue = (PodamStringValue) annotation;
+				return stringValue.strValue().isEmpty()
+						? stringValue.length() : stringValue.strValue().length();
+			}
+		}
+		return PodamConstants.STR_DEFAULT_LENGTH;
+	}
+}
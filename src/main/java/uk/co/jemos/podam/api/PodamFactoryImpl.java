@@ -12,10 +12,17 @@ import org.slf4j.LoggerFactory;
 
 import uk.co.jemos.podam.api.DataProviderStrategy.Order;
 import uk.co.jemos.podam.common.AttributeStrategy;
+import uk.co.jemos.podam.common.ElementSource;
 import uk.co.jemos.podam.common.ManufacturingContext;
+import uk.co.jemos.podam.common.ManufacturingTask;
 import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamConstructor;
+import uk.co.jemos.podam.common.VirtualList;
+import uk.co.jemos.podam.common.VirtualMap;
+import uk.co.jemos.podam.exceptions.PodamCancellationException;
 import uk.co.jemos.podam.exceptions.PodamMockeryException;
+import uk.co.jemos.podam.typeManufacturers.PrimitiveTypeManufacturer;
+import uk.co.jemos.podam.typeManufacturers.TypeManufacturer;
 import uk.co.jemos.podam.typeManufacturers.TypeManufacturerUtil;
 
 import javax.xml.ws.Holder;
@@ -23,7 +30,13 @@ import javax.xml.ws.Holder;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -51,6 +64,21 @@ public class PodamFactoryImpl implements PodamFactory {
 	/** Empty type map */
 	private static final Map<String, Type> NULL_TYPE_ARGS_MAP = new HashMap<String, Type>();
 
+	/** Non-primitive array element types, which can be filled in bulk */
+	private static final Set<Class<?>> LEAF_ARRAY_COMPONENTS = new HashSet<Class<?>>(
+			Arrays.<Class<?>>asList(Integer.class, Long.class, Double.class,
+					Float.class, Short.class, Byte.class, Character.class,
+					Boolean.class, String.class));
+
+	/** Number of chunks container elements are split into at threshold size */
+	private static final int PARALLEL_CHUNKS_PER_THRESHOLD = 4;
+
+	/** Number of values produced in bulk between checks of the cancellation token */
+	private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+	/** Odd constant spreading seeds of elements of virtual containers */
+	private static final long VIRTUAL_SEED_INCREMENT = 0x9E3779B97F4A7C15L;
+
 
 	// ------------------->> Instance / variables
 
@@ -81,6 +109,31 @@ public class PodamFactoryImpl implements PodamFactory {
 	private ClassInfoStrategy classInfoStrategy
 			= DefaultClassInfoStrategy.getInstance();
 
+	/**
+	 * The executor manufacturing elements of large containers in parallel.
+	 * <p>
+	 * The default is null, all the elements are manufactured by the
+	 * calling thread.
+	 * </p>
+	 */
+	private Executor parallelExecutor;
+
+	/** The smallest number of container elements manufactured in parallel */
+	private int parallelThreshold = Integer.MAX_VALUE;
+
+	/** Whether POJOs are populated from a work queue instead of recursively */
+	private boolean iterativePopulation;
+
+	/** Whether interfaces are implemented by lazily populated proxies */
+	private boolean lazyInterfaces;
+
+	/** Whether attributes are populated by writing their fields directly */
+	private boolean fieldInjection;
+
+	/** Accessible fields by fields found in class information */
+	private final ConcurrentMap<Field, Field> injectedFields
+			= new ConcurrentHashMap<Field, Field>();
+
 	// ------------------->> Constructors
 
 	/**
@@ -135,8 +188,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@Override
 	public <T> T manufacturePojoWithFullData(Class<T> pojoClass, Type... genericTypeArgs) {
-		ManufacturingContext manufacturingCtx = new ManufacturingContext();
-		manufacturingCtx.getPojos().put(pojoClass, 1);
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
 		manufacturingCtx.setConstructorOrdering(Order.HEAVY_FIRST);
 		return doManufacturePojo(pojoClass, manufacturingCtx, genericTypeArgs);
     }
@@ -146,8 +198,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@Override
 	public <T> T manufacturePojo(Class<T> pojoClass, Type... genericTypeArgs) {
-		ManufacturingContext manufacturingCtx = new ManufacturingContext();
-		manufacturingCtx.getPojos().put(pojoClass, 1);
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
 		return doManufacturePojo(pojoClass, manufacturingCtx, genericTypeArgs);
 	}
 
@@ -156,24 +207,344 @@ public class PodamFactoryImpl implements PodamFactory {
 	 */
 	@Override
 	public <T> T populatePojo(T pojo, Type... genericTypeArgs) {
-		ManufacturingContext manufacturingCtx = new ManufacturingContext();
-		manufacturingCtx.getPojos().put(pojo.getClass(), 1);
-		final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
-		Type[] genericTypeArgsExtra = TypeManufacturerUtil.fillTypeArgMap(typeArgsMap,
-                pojo.getClass(), genericTypeArgs);
-		try {
-			List<Annotation> annotations = null;
-			return this.populatePojoInternal(pojo, annotations,
-					manufacturingCtx, typeArgsMap, genericTypeArgsExtra);
-		} catch (InstantiationException e) {
-			throw new PodamMockeryException(e.getMessage(), e);
-		} catch (IllegalAccessException e) {
-			throw new PodamMockeryException(e.getMessage(), e);
-		} catch (InvocationTargetException e) {
-			throw new PodamMockeryException(e.getMessage(), e);
-		} catch (ClassNotFoundException e) {
-			throw new PodamMockeryException(e.getMessage(), e);
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojo.getClass());
+		return doPopulatePojo(pojo, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Generic method which returns an instance of the given class, in which
+	 * only the attributes selected by the projection are filled with dummy
+	 * values.
+	 * 
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 * @param projection
+	 *            The projection selecting the attributes to fill
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return An instance of &lt;T&gt; with the selected attributes filled
+	 *            with dummy values
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @see AttributeProjection
+	 * @since 7.1.1
+	 */
+	public <T> T manufacturePojo(AttributeProjection projection,
+			Class<T> pojoClass, Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
+		manufacturingCtx.setProjection(projection.isComplete() ? null : projection);
+		return doManufacturePojo(pojoClass, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Fills the attributes of the given POJO selected by the projection.
+	 * 
+	 * @param <T>
+	 *            The type for which should be populated
+	 * @param projection
+	 *            The projection selecting the attributes to fill
+	 * @param pojo
+	 *            An instance to be filled with dummy values
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same instance with the selected attributes filled
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @see AttributeProjection
+	 * @since 7.1.1
+	 */
+	public <T> T populatePojo(AttributeProjection projection, T pojo,
+			Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojo.getClass());
+		manufacturingCtx.setProjection(projection.isComplete() ? null : projection);
+		return doPopulatePojo(pojo, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Overwrites the attributes of an already populated POJO with new dummy
+	 * values, reusing the objects of its graph.
+	 * <p>
+	 * Nested POJOs, collections and arrays referenced by the attributes are
+	 * populated again in place instead of being replaced, collections keep
+	 * their sizes and elements of lists and arrays are populated again, if
+	 * they are POJOs, or overwritten otherwise. Only leaf values, such as
+	 * strings, numbers and dates, missing objects and entries of maps are
+	 * manufactured anew. This suits harnesses, which recycle a fixed set of
+	 * instances as their next records.
+	 * </p>
+	 * 
+	 * @param <T>
+	 *            The type of the instance
+	 * @param pojo
+	 *            A populated instance to be filled with new dummy values
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same instance filled with new dummy values
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @since 7.1.1
+	 */
+	public <T> T rerandomizePojo(T pojo, Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojo.getClass());
+		manufacturingCtx.setReusingValues(true);
+		return doPopulatePojo(pojo, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Fills only the missing values of a partially populated POJO.
+	 * <p>
+	 * Unlike {@link #populatePojo(Object, Type...)}, attributes already set
+	 * are left untouched. An attribute is missing, if it is null or, for
+	 * primitive attributes, if it has the default value, such as zero or
+	 * false. Nested POJOs, collections, maps and arrays, which are already
+	 * set, are not replaced, but their missing values are filled in the same
+	 * way, while missing attributes are manufactured in full. This suits
+	 * large pre-seeded fixtures, which need only a few values filled.
+	 * </p>
+	 * 
+	 * @param <T>
+	 *            The type of the instance
+	 * @param pojo
+	 *            A partially populated instance to be completed
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same instance with the missing values filled
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @since 7.1.1
+	 */
+	public <T> T populateMissingValues(T pojo, Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojo.getClass());
+		manufacturingCtx.setReusingValues(true);
+		manufacturingCtx.setKeepingValues(true);
+		return doPopulatePojo(pojo, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Generic method which returns an instance of the given class filled with
+	 * values, unless the token stops manufacturing first.
+	 *
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 * @param cancellationToken
+	 *            The token stopping manufacturing
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return An instance of &lt;T&gt; filled with dummy values, partially
+	 *         filled or null, if the token was cancelled and its policy is
+	 *         {@link CancellationToken.Policy#RETURN_PARTIAL}
+	 * @throws PodamCancellationException
+	 *             if the token was cancelled and its policy is
+	 *             {@link CancellationToken.Policy#FAIL}
+	 * @see #manufacturePojo(Class, Type...)
+	 * @since 7.1.1
+	 */
+	public <T> T manufacturePojo(CancellationToken cancellationToken,
+			Class<T> pojoClass, Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
+		manufacturingCtx.setCancellationToken(cancellationToken);
+		T pojo = doManufacturePojo(pojoClass, manufacturingCtx, genericTypeArgs);
+		isCancelled(manufacturingCtx);
+		return pojo;
+	}
+
+	/**
+	 * Fills given class filled with values, unless the token stops
+	 * manufacturing first.
+	 *
+	 * @param <T>
+	 *            The type for which should be populated
+	 * @param cancellationToken
+	 *            The token stopping manufacturing
+	 * @param pojo
+	 *            An instance to be filled with dummy values
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same instance, filled or partially filled, if the token
+	 *         was cancelled and its policy is
+	 *         {@link CancellationToken.Policy#RETURN_PARTIAL}
+	 * @throws PodamCancellationException
+	 *             if the token was cancelled and its policy is
+	 *             {@link CancellationToken.Policy#FAIL}
+	 * @see #populatePojo(Object, Type...)
+	 * @since 7.1.1
+	 */
+	public <T> T populatePojo(CancellationToken cancellationToken, T pojo,
+			Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojo.getClass());
+		manufacturingCtx.setCancellationToken(cancellationToken);
+		doPopulatePojo(pojo, manufacturingCtx, genericTypeArgs);
+		isCancelled(manufacturingCtx);
+		return pojo;
+	}
+
+	/**
+	 * Generic method which returns an instance of the given class filled with
+	 * values within the budget.
+	 *
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 * @param budget
+	 *            The budget limiting created objects, it replaces the budget
+	 *            of the strategy
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return An instance of &lt;T&gt; filled with dummy values, partially
+	 *         filled or null, if the budget was exhausted
+	 * @see #manufacturePojo(Class, Type...)
+	 * @since 7.1.1
+	 */
+	public <T> T manufacturePojo(ManufacturingBudget budget,
+			Class<T> pojoClass, Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
+		manufacturingCtx.setBudgetUsage(budget.newUsage());
+		return doManufacturePojo(pojoClass, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Fills given class filled with values within the budget.
+	 *
+	 * @param <T>
+	 *            The type for which should be populated
+	 * @param budget
+	 *            The budget limiting created objects, it replaces the budget
+	 *            of the strategy
+	 * @param pojo
+	 *            An instance to be filled with dummy values
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same instance, partially filled, if the budget was
+	 *         exhausted
+	 * @see #populatePojo(Object, Type...)
+	 * @since 7.1.1
+	 */
+	public <T> T populatePojo(ManufacturingBudget budget, T pojo,
+			Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojo.getClass());
+		manufacturingCtx.setBudgetUsage(budget.newUsage());
+		return doPopulatePojo(pojo, manufacturingCtx, genericTypeArgs);
+	}
+
+	/**
+	 * Generic method which returns a list of instances of the given class
+	 * filled with dummy values, using the default data provider strategy.
+	 * 
+	 * <p>
+	 * This is a bulk equivalent of {@link #manufacturePojo(Class, Type...)},
+	 * which shares the class analysis and the manufacturing set up between
+	 * all the instances.
+	 * </p>
+	 * 
+	 * @param <T>
+	 *            The type for which filled instances are required
+	 * @param pojoClass
+	 *            The name of the class for which instances filled with values
+	 *            are required
+	 * @param count
+	 *            The number of instances to manufacture
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return A list of {@code count} instances of &lt;T&gt; filled with
+	 *            dummy values
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @since 7.1.1
+	 */
+	public <T> List<T> manufacturePojos(Class<T> pojoClass, int count,
+			Type... genericTypeArgs) {
+		return manufacturePojos(new ArrayList<T>(count), pojoClass, count,
+				genericTypeArgs);
+	}
+
+	/**
+	 * Generic method which adds to the collection instances of the given
+	 * class filled with dummy values, using the default data provider
+	 * strategy.
+	 * 
+	 * @param <T>
+	 *            The type for which filled instances are required
+	 * @param <C>
+	 *            The type of the collection to fill
+	 * @param collection
+	 *            The collection to add manufactured instances to
+	 * @param pojoClass
+	 *            The name of the class for which instances filled with values
+	 *            are required
+	 * @param count
+	 *            The number of instances to manufacture
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same collection for chaining
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @see #manufacturePojos(Class, int, Type...)
+	 * @since 7.1.1
+	 */
+	public <T, C extends Collection<? super T>> C manufacturePojos(C collection,
+			Class<T> pojoClass, int count, Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
+		AttributeMetadata pojoMetadata = new AttributeMetadata(pojoClass,
+				pojoClass, genericTypeArgs, null, null);
+		for (int i = 0; i < count; i++) {
+			collection.add(doManufacturePojo(pojoClass, pojoMetadata,
+					manufacturingCtx, i, count, genericTypeArgs));
+		}
+		return collection;
+	}
+
+	/**
+	 * Generic method which fills all the elements of the array with
+	 * instances of the given class filled with dummy values, using the
+	 * default data provider strategy.
+	 * 
+	 * @param <T>
+	 *            The type for which filled instances are required
+	 * @param array
+	 *            The array to fill with manufactured instances
+	 * @param pojoClass
+	 *            The name of the class for which instances filled with values
+	 *            are required
+	 * @param genericTypeArgs
+	 *            The generic Type arguments for a generic class instance
+	 * @return The same array for chaining
+	 * 
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 * @see #manufacturePojos(Class, int, Type...)
+	 * @since 7.1.1
+	 */
+	public <T> T[] manufacturePojos(T[] array, Class<? extends T> pojoClass,
+			Type... genericTypeArgs) {
+		ManufacturingContext manufacturingCtx = createManufacturingContext(pojoClass);
+		AttributeMetadata pojoMetadata = new AttributeMetadata(pojoClass,
+				pojoClass, genericTypeArgs, null, null);
+		for (int i = 0; i < array.length; i++) {
+			array[i] = doManufacturePojo(pojoClass, pojoMetadata,
+					manufacturingCtx, i, array.length, genericTypeArgs);
 		}
+		return array;
 	}
 
 	// ------------------->> Getters / Setters
@@ -229,61 +600,557 @@ public class PodamFactoryImpl implements PodamFactory {
 		return this;
 	}
 
-	// ------------------->> Private methods
+	/**
+	 * It returns the executor manufacturing elements of large containers
+	 * in parallel.
+	 *
+	 * @return the executor or null, if parallel manufacturing is disabled
+	 * @since 7.1.1
+	 */
+	public Executor getParallelExecutor() {
+		return parallelExecutor;
+	}
 
 	/**
-	 * It attempts to create an instance of the given class with a static method
-	 * of the factory
+	 * It returns the smallest number of container elements manufactured
+	 * in parallel.
+	 *
+	 * @return the parallel threshold
+	 * @since 7.1.1
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * It enables parallel manufacturing of elements of large collections,
+	 * maps and arrays within one graph.
 	 * <p>
-	 * This method attempts to instantiate POJO with a static method of provided
-	 * factory, for example, getInstance().
+	 * Elements of a container with at least {@code threshold} elements are
+	 * split into ranges of fixed size, which are manufactured by tasks on the
+	 * executor and placed into the container in index order. The calling
+	 * thread runs the ranges, which were not started by the executor yet,
+	 * so it never waits for a busy executor. Each range is manufactured with
+	 * a forked manufacturing context and a random number generator seeded
+	 * from the generator of the calling thread, so the graph does not depend
+	 * on scheduling, when the generator of the calling thread is seeded.
+	 * Containers within ranges are filled sequentially.
+	 * </p>
+	 * <p>
+	 * Strategies and type manufacturers are used concurrently, so they have
+	 * to be thread-safe. Containers are always filled sequentially with
+	 * memoization enabled, as memoized objects are shared by the graph.
 	 * </p>
 	 *
-	 * @param <T>
-	 *            The type of Pojo class
-	 * @param factoryClass
-	 *            The factory class, which will be used for POJO instantiation
-	 * @param pojoClass
-	 *            The name of the class for which an instance filled with values
-	 * @param manufacturingCtx
-	 *            the manufacturing context
-	 * @param typeArgsMap
-	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
-	 *            example) with their actual types
-	 * @param genericTypeArgs
-	 *            The generic type arguments for the current generic class
-	 *            instance
+	 * @param executor
+	 *            the executor or null to disable parallel manufacturing
+	 * @param threshold
+	 *            the smallest number of container elements manufactured in
+	 *            parallel
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public PodamFactoryImpl setParallelExecutor(Executor executor,
+			int threshold) {
+		if (threshold <= 0) {
+			throw new IllegalArgumentException(
+					"The parallel threshold should be positive: " + threshold);
+		}
+		this.parallelExecutor = executor;
+		this.parallelThreshold = threshold;
+		return this;
+	}
+
+	/**
+	 * Checks, if POJOs are populated from a work queue.
 	 *
+	 * @return true, if iterative population is enabled
+	 * @since 7.1.1
+	 */
+	public boolean isIterativePopulation() {
+		return iterativePopulation;
+	}
+
+	/**
+	 * It switches between recursive and iterative population of POJOs.
+	 * <p>
+	 * By default a POJO assigned to an attribute is populated before the
+	 * attribute is set, which takes a few stack frames per level of the
+	 * graph, so deep graphs may overflow the stack. Iterative population
+	 * instantiates the POJO, sets the attribute and schedules population of
+	 * the POJO on a work queue of the manufacturing context, which is
+	 * drained in a loop, so chains of POJOs referenced by setters or fields
+	 * take constant stack space.
+	 * </p>
+	 * <p>
+	 * Setters thus receive POJOs, which are not populated yet, so setters
+	 * copying state of their arguments should not be used with this mode.
+	 * Elements are added to collections and maps by a task scheduled before
+	 * their populations, so containers are filled, once their elements are
+	 * populated, and setters may receive them empty as well. Constructor
+	 * and method arguments are always populated before they are used, the
+	 * work queue is drained right after they are manufactured, so graphs
+	 * nested through constructor arguments still take stack frames per
+	 * level and their depth remains limited by the stack. Each scheduled
+	 * task copies the depth counts of the context, which costs memory
+	 * proportional to the number of classes on the path of the POJO.
+	 * </p>
 	 *
-	 * @return An instance of the given class
-	 * @throws IllegalArgumentException
-	 *             If an illegal argument was passed to the constructor
-	 * @throws InstantiationException
-	 *             If an exception occurred during instantiation
-	 * @throws IllegalAccessException
-	 *             If security was violated while creating the object
-	 * @throws InvocationTargetException
-	 *             If an exception occurred while invoking the constructor or
-	 *             factory method
-	 * @throws ClassNotFoundException
-	 *             If it was not possible to create a class from a string
+	 * @param iterativePopulation
+	 *            true to populate POJOs from a work queue
+	 * @return itself
+	 * @since 7.1.1
 	 */
-	private <T> T instantiatePojoWithFactory(
-			Class<?> factoryClass, Class<T> pojoClass,
-			ManufacturingContext manufacturingCtx,
-			Map<String, Type> typeArgsMap, Type... genericTypeArgs)
-			throws InstantiationException, IllegalAccessException,
-			InvocationTargetException, ClassNotFoundException {
+	public PodamFactoryImpl setIterativePopulation(boolean iterativePopulation) {
+		this.iterativePopulation = iterativePopulation;
+		return this;
+	}
 
-		// If no publicly accessible constructors are available,
-		// the best we can do is to find a constructor (e.g.
-		// getInstance())
+	/**
+	 * Checks, if interfaces are implemented by lazily populated proxies.
+	 *
+	 * @return true, if lazy interfaces are enabled
+	 * @since 7.1.1
+	 */
+	public boolean isLazyInterfaces() {
+		return lazyInterfaces;
+	}
 
-		Method[] declaredMethods = TypeManufacturerUtil.findSuitableConstructors(
-				factoryClass, pojoClass);
-		strategy.sort(declaredMethods, manufacturingCtx.getConstructorOrdering());
+	/**
+	 * It makes the factory implement interfaces by lazily populated proxies.
+	 * <p>
+	 * Interfaces, which have no specific class or factory in the strategy,
+	 * are usually resorted to the external factory. With this mode they are
+	 * implemented by dynamic proxies instead. Nothing is manufactured,
+	 * until a getter of the proxy is called for the first time, then the
+	 * value of the attribute is manufactured and returned by all the later
+	 * calls. Values passed to setters replace the manufactured ones. Graphs
+	 * of interfaces thus cost only the parts, which are actually accessed.
+	 * </p>
+	 * <p>
+	 * Attributes are manufactured with a copy of the manufacturing context,
+	 * after the manufacturing call completed, so they are not limited by
+	 * its cancellation token or budget. Interfaces of the JDK, collections
+	 * and maps are not affected. Abstract classes are not affected either,
+	 * as proxies cannot extend classes.
+	 * </p>
+	 *
+	 * @param lazyInterfaces
+	 *            true to implement interfaces by lazily populated proxies
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public PodamFactoryImpl setLazyInterfaces(boolean lazyInterfaces) {
+		this.lazyInterfaces = lazyInterfaces;
+		return this;
+	}
 
-		// A candidate factory method is a method which returns the
+	/**
+	 * Checks, if attributes are populated by writing their fields directly.
+	 *
+	 * @return true, if field injection is enabled
+	 * @since 7.1.1
+	 */
+	public boolean isFieldInjection() {
+		return fieldInjection;
+	}
+
+	/**
+	 * It makes the factory populate attributes by writing their fields
+	 * directly instead of calling setters.
+	 * <p>
+	 * Attributes are the fields found by the class info strategy, so fields
+	 * excluded by annotations, such as {@link uk.co.jemos.podam.common.PodamExclude},
+	 * or by name are not written. Setters with side effects or validation
+	 * are bypassed and classes without setters are populated completely,
+	 * including their final fields. Fields are made accessible once per
+	 * factory and primitive fields are written without boxing, when the
+	 * type manufacturer can produce unboxed values. Final fields initialized
+	 * with compile time constants may still be read as the constants.
+	 * </p>
+	 *
+	 * @param fieldInjection
+	 *            true to write fields directly
+	 * @return itself
+	 * @since 7.1.1
+	 */
+	public PodamFactoryImpl setFieldInjection(boolean fieldInjection) {
+		this.fieldInjection = fieldInjection;
+		return this;
+	}
+
+	// ------------------->> Private methods
+
+	/**
+	 * It creates a manufacturing context for the root POJO
+	 *
+	 * @param pojoClass
+	 *            The class of the root POJO
+	 * @return new manufacturing context
+	 */
+	private ManufacturingContext createManufacturingContext(Class<?> pojoClass) {
+
+		ManufacturingContext manufacturingCtx = new ManufacturingContext();
+		manufacturingCtx.getPojos().put(pojoClass, 1);
+		if (iterativePopulation) {
+			manufacturingCtx.enableTasks();
+		}
+		ManufacturingBudget budget = getManufacturingBudget();
+		if (null != budget) {
+			manufacturingCtx.setBudgetUsage(budget.newUsage());
+		}
+		return manufacturingCtx;
+	}
+
+	/**
+	 * It returns the budget of the strategy, which limits each
+	 * manufacturing call
+	 *
+	 * @return the budget or null, if the strategy has no budget
+	 */
+	private ManufacturingBudget getManufacturingBudget() {
+
+		return strategy instanceof AbstractRandomDataProviderStrategy
+				? ((AbstractRandomDataProviderStrategy) strategy).getManufacturingBudget()
+				: null;
+	}
+
+	/**
+	 * Checks, if manufacturing was cancelled.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @return true, if the cancellation token of the context was cancelled
+	 *         and the graph should be returned as it is
+	 * @throws PodamCancellationException
+	 *             if the token was cancelled and manufacturing should fail
+	 */
+	private static boolean isCancelled(ManufacturingContext manufacturingCtx) {
+
+		CancellationToken token = manufacturingCtx.getCancellationToken();
+		if (null == token || !token.isCancelled()) {
+			return false;
+		}
+		if (token.getPolicy() == CancellationToken.Policy.FAIL) {
+			throw new PodamCancellationException("Manufacturing was cancelled");
+		}
+		return true;
+	}
+
+	/**
+	 * Checks, if manufacturing was cancelled, once per chunk of values
+	 * produced in bulk.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param index
+	 *            the index of the next value
+	 * @return true, if the next value starts a chunk and manufacturing
+	 *         was cancelled
+	 * @throws PodamCancellationException
+	 *             if the token was cancelled and manufacturing should fail
+	 */
+	private static boolean isCancelledAt(ManufacturingContext manufacturingCtx,
+			int index) {
+
+		return index % CANCELLATION_CHECK_INTERVAL == 0
+				&& isCancelled(manufacturingCtx);
+	}
+
+	/**
+	 * Checks, if manufacturing of objects of the type should stop.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param type
+	 *            the class of objects
+	 * @return true, if manufacturing was cancelled or the budget of the
+	 *         type is exhausted
+	 * @throws PodamCancellationException
+	 *             if the token was cancelled and manufacturing should fail
+	 */
+	private static boolean shouldStop(ManufacturingContext manufacturingCtx,
+			Class<?> type) {
+
+		ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+		if (null != budgetUsage && budgetUsage.isExhausted(type)) {
+			budgetUsage.recordStop();
+			return true;
+		}
+		return isCancelled(manufacturingCtx);
+	}
+
+	/**
+	 * It returns how many times the budget stopped manufacturing.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @return the number of stops or 0, if there is no budget
+	 */
+	private static long getStops(ManufacturingContext manufacturingCtx) {
+
+		ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+		return null != budgetUsage ? budgetUsage.getStops() : 0;
+	}
+
+	/**
+	 * It limits the number of values produced in bulk to the budget.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param type
+	 *            the class of values
+	 * @param count
+	 *            the requested number of values
+	 * @return the number of values, which can be produced
+	 */
+	private static int getRemainingElements(ManufacturingContext manufacturingCtx,
+			Class<?> type, int count) {
+
+		ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+		return null != budgetUsage ? budgetUsage.getRemaining(type, count) : count;
+	}
+
+	/**
+	 * It charges the budget with objects created without manufacturing
+	 * them one by one.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param type
+	 *            the class of objects
+	 * @param count
+	 *            the number of objects
+	 */
+	private static void consumeElements(ManufacturingContext manufacturingCtx,
+			Class<?> type, int count) {
+
+		ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+		if (null != budgetUsage) {
+			budgetUsage.consumeElements(type, count);
+		}
+	}
+
+	/**
+	 * It charges the budget with the storage of elements added to a
+	 * collection or a map.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param container
+	 *            the collection or the map
+	 * @param count
+	 *            the number of added elements
+	 */
+	private static void consumeStorage(ManufacturingContext manufacturingCtx,
+			Object container, int count) {
+
+		ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+		if (null != budgetUsage && count > 0) {
+			budgetUsage.consumeBytes(ManufacturingBudget.estimateStorageSize(
+					container.getClass(), count));
+		}
+	}
+
+	/**
+	 * It runs tasks scheduled in the context, until only {@code mark} tasks
+	 * remain.
+	 * <p>
+	 * The last scheduled task runs first, so tasks scheduled by a task run
+	 * before the older ones and the work queue stays short. Production
+	 * counts of the context are restored afterwards. If a task fails, the
+	 * tasks scheduled after the mark are discarded.
+	 * </p>
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param mark
+	 *            the number of tasks, which were scheduled before
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 */
+	private void runTasks(ManufacturingContext manufacturingCtx, int mark)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		Deque<ManufacturingTask> tasks = manufacturingCtx.getTasks();
+		if (null == tasks || tasks.size() <= mark) {
+			return;
+		}
+		Map<Class<?>, Integer> pojos = manufacturingCtx.getPojos();
+		Map<Class<?>, Integer> savedPojos = new HashMap<Class<?>, Integer>(pojos);
+		boolean completed = false;
+		try {
+			while (tasks.size() > mark) {
+				ManufacturingTask task = tasks.pop();
+				pojos.clear();
+				pojos.putAll(task.getPojos());
+				task.run(manufacturingCtx);
+			}
+			completed = true;
+		} finally {
+			if (!completed) {
+				while (tasks.size() > mark) {
+					tasks.pop();
+				}
+			}
+			pojos.clear();
+			pojos.putAll(savedPojos);
+		}
+	}
+
+	/**
+	 * It schedules a task completing a container, before populations of
+	 * its elements are scheduled, so it runs after them.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param completion
+	 *            the task completing the container
+	 * @return true, if the task was scheduled, or false, if the context has
+	 *         no work queue, so the caller runs the task, once the elements
+	 *         are manufactured
+	 */
+	private static boolean scheduleCompletion(
+			ManufacturingContext manufacturingCtx, ManufacturingTask completion) {
+
+		Deque<ManufacturingTask> tasks = manufacturingCtx.getTasks();
+		if (null == tasks) {
+			return false;
+		}
+		tasks.push(completion);
+		return true;
+	}
+
+	/**
+	 * It populates the POJO or schedules its population, if the context
+	 * has a work queue.
+	 *
+	 * @param <T>
+	 *            The type of the POJO
+	 * @param pojo
+	 *            An instance to be filled with dummy values
+	 * @param annotations
+	 *            a list of annotations attached to this POJO defined elsewhere
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 */
+	private <T> void schedulePopulation(final T pojo,
+			final List<Annotation> annotations,
+			ManufacturingContext manufacturingCtx,
+			final Map<String, Type> typeArgsMap,
+			final Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		Deque<ManufacturingTask> tasks = manufacturingCtx.getTasks();
+		if (null == tasks) {
+			populatePojoInternal(pojo, annotations, manufacturingCtx,
+					typeArgsMap, genericTypeArgs);
+			return;
+		}
+		final AttributeProjection projection = manufacturingCtx.getProjection();
+		final boolean reusingValues = manufacturingCtx.isReusingValues();
+		final boolean keepingValues = manufacturingCtx.isKeepingValues();
+		tasks.push(new ManufacturingTask(manufacturingCtx.getPojos()) {
+
+			@Override
+			public void run(ManufacturingContext taskCtx)
+					throws InstantiationException, IllegalAccessException,
+					InvocationTargetException, ClassNotFoundException {
+				AttributeProjection previous = taskCtx.getProjection();
+				boolean previousReusing = taskCtx.isReusingValues();
+				boolean previousKeeping = taskCtx.isKeepingValues();
+				taskCtx.setProjection(projection);
+				taskCtx.setReusingValues(reusingValues);
+				taskCtx.setKeepingValues(keepingValues);
+				try {
+					populatePojoInternal(pojo, annotations, taskCtx,
+							typeArgsMap, genericTypeArgs);
+				} finally {
+					taskCtx.setProjection(previous);
+					taskCtx.setReusingValues(previousReusing);
+					taskCtx.setKeepingValues(previousKeeping);
+				}
+			}
+		});
+	}
+
+	/**
+	 * It attempts to create an instance of the given class with a static method
+	 * of the factory
+	 * <p>
+	 * This method attempts to instantiate POJO with a static method of provided
+	 * factory, for example, getInstance().
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type of Pojo class
+	 * @param factoryClass
+	 *            The factory class, which will be used for POJO instantiation
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 *
+	 *
+	 * @return An instance of the given class
+	 * @throws IllegalArgumentException
+	 *             If an illegal argument was passed to the constructor
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private <T> T instantiatePojoWithFactory(
+			Class<?> factoryClass, Class<T> pojoClass,
+			ManufacturingContext manufacturingCtx,
+			Map<String, Type> typeArgsMap, Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		// If no publicly accessible constructors are available,
+		// the best we can do is to find a constructor (e.g.
+		// getInstance())
+
+		Method[] declaredMethods = TypeManufacturerUtil.findSuitableConstructors(
+				factoryClass, pojoClass);
+		strategy.sort(declaredMethods, manufacturingCtx.getConstructorOrdering());
+
+		// A candidate factory method is a method which returns the
 		// Class type
 
 		// The parameters to pass to the method invocation
@@ -361,6 +1228,8 @@ public class PodamFactoryImpl implements PodamFactory {
 			try {
 				retValue = instantiatePojoWithFactory(
 						pojoClass, pojoClass, manufacturingCtx, typeArgsMap, genericTypeArgs);
+			} catch (PodamCancellationException e) {
+				throw e;
 			} catch (Exception e) {
 				LOG.debug("We couldn't create an instance for pojo: "
 						+ pojoClass + " with factory methods, will "
@@ -395,6 +1264,8 @@ public class PodamFactoryImpl implements PodamFactory {
 					LOG.debug("We could create an instance with constructor: "
 							+ constructor);
 					break;
+				} catch (PodamCancellationException e) {
+					throw e;
 				} catch (Exception e) {
 					LOG.debug("We couldn't create an instance for pojo: {} with"
 							+ " constructor: {}. Will try with another one.",
@@ -426,8 +1297,10 @@ public class PodamFactoryImpl implements PodamFactory {
 			Object declaringInstance = null;
 			AttributeMetadata pojoMetadata = new AttributeMetadata(pojoClass,
 					pojoClass, genericTypeArgs, declaringClass, declaringInstance);
-			return this.manufacturePojoInternal(pojoClass, pojoMetadata,
+			T pojo = this.manufacturePojoInternal(pojoClass, pojoMetadata,
                     manufacturingCtx, genericTypeArgs);
+			runTasks(manufacturingCtx, 0);
+			return pojo;
 		} catch (InstantiationException e) {
 			throw new PodamMockeryException(e.getMessage(), e);
 		} catch (IllegalAccessException e) {
@@ -440,40 +1313,236 @@ public class PodamFactoryImpl implements PodamFactory {
 	}
 
 	/**
-	 * Generic method which returns an instance of the given class filled with
-	 * values dictated by the strategy
+	 * Populates the pojo
 	 *
-	 * @param <T>
-	 *            The type for which a filled instance is required
-	 *
-	 * @param pojoClass
-	 *            The name of the class for which an instance filled with values
-	 *            is required
-	 * @param pojoMetadata
-	 *            attribute metadata for POJOs produced recursively
-	 * @param manufacturingCtx
-	 *            the manufacturing context
-	 * @param genericTypeArgs
-	 *            The generic type arguments for the current generic class
-	 *            instance
-	 * @return An instance of &lt;T&gt; filled with dummy values
-	 * @throws InstantiationException
-	 *             If an exception occurred during instantiation
-	 * @throws IllegalAccessException
-	 *             If security was violated while creating the object
-	 * @throws InvocationTargetException
-	 *             If an exception occurred while invoking the constructor or
-	 *             factory method
-	 * @throws ClassNotFoundException
-	 *             If manufactured class cannot be loaded
-	 * @throws PodamMockeryException
-	 *             if a problem occurred while creating a POJO instance or while
-	 *             setting its state
+	 * @param <T> The type of the instance
+	 * @param pojo the instance to populate
+	 * @param manufacturingCtx the initialized manufacturing context
+	 * @param genericTypeArgs generic arguments for the pojo class
+	 * @return the same instance
 	 */
-	private <T> T manufacturePojoInternal(Class<T> pojoClass,
-			AttributeMetadata pojoMetadata, ManufacturingContext manufacturingCtx,
-			Type... genericTypeArgs)
-			throws InstantiationException, IllegalAccessException,
+	private <T> T doPopulatePojo(T pojo, ManufacturingContext manufacturingCtx,
+			Type... genericTypeArgs) {
+		final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
+		Type[] genericTypeArgsExtra = TypeManufacturerUtil.fillTypeArgMap(typeArgsMap,
+                pojo.getClass(), genericTypeArgs);
+		try {
+			List<Annotation> annotations = null;
+			this.populatePojoInternal(pojo, annotations,
+					manufacturingCtx, typeArgsMap, genericTypeArgsExtra);
+			runTasks(manufacturingCtx, 0);
+			return pojo;
+		} catch (InstantiationException e) {
+			throw new PodamMockeryException(e.getMessage(), e);
+		} catch (IllegalAccessException e) {
+			throw new PodamMockeryException(e.getMessage(), e);
+		} catch (InvocationTargetException e) {
+			throw new PodamMockeryException(e.getMessage(), e);
+		} catch (ClassNotFoundException e) {
+			throw new PodamMockeryException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Manufactures and populates one of many instances of the pojo class
+	 * sharing the manufacturing context, each instance gets its own budget
+	 *
+	 * @param <T> The type of the instance to return
+	 * @param pojoClass the class to instantiate
+	 * @param pojoMetadata the attribute metadata of the pojo class
+	 * @param manufacturingCtx the initialized manufacturing context
+	 * @param index the index of the instance
+	 * @param count the total number of instances
+	 * @param genericTypeArgs generic arguments for the pojo class
+	 * @return instance of @pojoClass or null in case it cannot be instantiated
+	 * @throws PodamMockeryException
+	 *             if the instance cannot be manufactured, the message tells
+	 *             the index of the instance
+	 */
+	private <T> T doManufacturePojo(Class<T> pojoClass,
+			AttributeMetadata pojoMetadata, ManufacturingContext manufacturingCtx,
+			int index, int count, Type... genericTypeArgs) {
+		ManufacturingBudget budget = getManufacturingBudget();
+		if (null != budget) {
+			manufacturingCtx.setBudgetUsage(budget.newUsage());
+		}
+		try {
+			T pojo = this.manufacturePojoInternal(pojoClass, pojoMetadata,
+					manufacturingCtx, genericTypeArgs);
+			runTasks(manufacturingCtx, 0);
+			return pojo;
+		} catch (Exception e) {
+			throw new PodamMockeryException("Unable to manufacture instance "
+					+ index + " of " + count + " of " + pojoClass, e);
+		}
+	}
+
+	/**
+	 * Generic method which returns an instance of the given class filled with
+	 * values dictated by the strategy
+	 *
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 *
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param pojoMetadata
+	 *            attribute metadata for POJOs produced recursively
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return An instance of &lt;T&gt; filled with dummy values
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	private <T> T manufacturePojoInternal(Class<T> pojoClass,
+			AttributeMetadata pojoMetadata, ManufacturingContext manufacturingCtx,
+			Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		boolean limited = !pojoClass.isPrimitive();
+		if (limited && shouldStop(manufacturingCtx, pojoClass)) {
+			LOG.debug("Manufacturing of {} stopped", pojoClass);
+			return null;
+		}
+
+		/* Pooled instances are shared regardless of type arguments, so
+		 * generic references get new instances */
+		ReferencePool pool = limited && 0 == genericTypeArgs.length
+				? getReferencePool(pojoClass) : null;
+		if (null != pool) {
+			return manufactureReference(pool, pojoClass, pojoMetadata,
+					manufacturingCtx, genericTypeArgs);
+		}
+		return manufactureNewPojo(pojoClass, pojoMetadata, manufacturingCtx,
+				null, 0, genericTypeArgs);
+	}
+
+	/**
+	 * It returns the pool of instances of the given class
+	 *
+	 * @param pojoClass
+	 *            The class of referenced instances
+	 * @return the pool or null, if the strategy has no pool of the class
+	 */
+	private ReferencePool getReferencePool(Class<?> pojoClass) {
+
+		return strategy instanceof AbstractRandomDataProviderStrategy
+				? ((AbstractRandomDataProviderStrategy) strategy)
+						.getReferencePool(pojoClass)
+				: null;
+	}
+
+	/**
+	 * It returns an instance from the pool of the given class, manufacturing
+	 * instances of the pool, if it is not filled yet
+	 *
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 * @param pool
+	 *            The pool of instances of the class
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param pojoMetadata
+	 *            attribute metadata for POJOs produced recursively
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return A pooled instance of &lt;T&gt;
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	private <T> T manufactureReference(ReferencePool pool, Class<T> pojoClass,
+			AttributeMetadata pojoMetadata, ManufacturingContext manufacturingCtx,
+			Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		if (pool.getFilling() == ReferencePool.Filling.EAGER) {
+			for (int i = 0; i < pool.getSize(); i++) {
+				if (null == pool.get(i)) {
+					manufactureNewPojo(pojoClass, pojoMetadata,
+							manufacturingCtx, pool, i, genericTypeArgs);
+				}
+			}
+		}
+
+		int index = pool.nextIndex(PodamUtils.getRandom());
+		Object reference = pool.get(index);
+		if (null != reference) {
+			LOG.debug("Fetched pooled {} from slot {}", pojoClass, index);
+			return pojoClass.cast(reference);
+		}
+		return manufactureNewPojo(pojoClass, pojoMetadata, manufacturingCtx,
+				pool, index, genericTypeArgs);
+	}
+
+	/**
+	 * It returns a new instance of the given class filled with values
+	 * dictated by the strategy
+	 *
+	 * @param <T>
+	 *            The type for which a filled instance is required
+	 * @param pojoClass
+	 *            The name of the class for which an instance filled with values
+	 *            is required
+	 * @param pojoMetadata
+	 *            attribute metadata for POJOs produced recursively
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param pool
+	 *            The pool to add the instance to, after it is populated, or
+	 *            null
+	 * @param poolIndex
+	 *            The slot of the pool to add the instance to
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return An instance of &lt;T&gt; filled with dummy values
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 * @throws PodamMockeryException
+	 *             if a problem occurred while creating a POJO instance or while
+	 *             setting its state
+	 */
+	private <T> T manufactureNewPojo(Class<T> pojoClass,
+			AttributeMetadata pojoMetadata, ManufacturingContext manufacturingCtx,
+			ReferencePool pool, int poolIndex, Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
 		// reuse object from memoization table
@@ -491,14 +1560,19 @@ public class PodamFactoryImpl implements PodamFactory {
 		final Map<String, Type> typeArgsMap = new HashMap<String, Type>();
 		Type[] genericTypeArgsExtra = TypeManufacturerUtil.fillTypeArgMap(typeArgsMap,
 				pojoClass, genericTypeArgs);
+		int mark = null != manufacturingCtx.getTasks()
+				? manufacturingCtx.getTasks().size() : 0;
+		long stops = getStops(manufacturingCtx);
 
 		T retValue = (T) strategy.getTypeValue(pojoMetadata, typeArgsMap, pojoClass);
 		if (null == retValue) {
 
 			if (pojoClass.isInterface()) {
 
-				return getValueForAbstractType(pojoClass, pojoMetadata,
-						manufacturingCtx, typeArgsMap, genericTypeArgs);
+				return addReference(pool, poolIndex, pojoClass,
+						getValueForAbstractType(pojoClass, pojoMetadata,
+								manufacturingCtx, typeArgsMap, genericTypeArgs),
+						manufacturingCtx, mark, stops);
 			}
 
 			try {
@@ -513,23 +1587,93 @@ public class PodamFactoryImpl implements PodamFactory {
 		}
 
 		if (retValue == null) {
-			return getValueForAbstractType(pojoClass, pojoMetadata,
-					manufacturingCtx, typeArgsMap, genericTypeArgs);
+			return addReference(pool, poolIndex, pojoClass,
+					getValueForAbstractType(pojoClass, pojoMetadata,
+							manufacturingCtx, typeArgsMap, genericTypeArgs),
+					manufacturingCtx, mark, stops);
 		} else {
 
+			ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+			if (!pojoClass.isPrimitive() && null != budgetUsage) {
+				budgetUsage.consume(retValue.getClass());
+			}
+
 			// update memoization cache with new object
 			// the reference is stored before properties are set so that recursive
 			// properties can use it
 			strategy.cacheMemoizedObject(pojoMetadata, retValue);
 
 			List<Annotation> annotations = null;
-			populatePojoInternal(retValue, annotations, manufacturingCtx,
+			schedulePopulation(retValue, annotations, manufacturingCtx,
 					typeArgsMap, genericTypeArgsExtra);
+			retValue = addReference(pool, poolIndex, pojoClass, retValue,
+					manufacturingCtx, mark, stops);
 		}
 
 		return retValue;
 	}
 
+	/**
+	 * It adds a new instance to the slot of the pool, once it is populated,
+	 * unless the slot was filled concurrently
+	 * <p>
+	 * Instances, which may be populated partially, because manufacturing
+	 * was cancelled, stopped by the budget while they were populated or
+	 * limited by a projection, are not shared. If population fails, the
+	 * instance is never added.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            The type of the instance
+	 * @param pool
+	 *            The pool or null
+	 * @param poolIndex
+	 *            The slot of the pool
+	 * @param pojoClass
+	 *            The class of the instance
+	 * @param instance
+	 *            The new instance or null
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param mark
+	 *            the number of tasks, which were scheduled before the
+	 *            instance was manufactured
+	 * @param stops
+	 *            the number of times the budget stopped manufacturing,
+	 *            before the instance was manufactured
+	 * @return the instance in the slot or the new instance, if there is no
+	 *         pool or the instance is not shared
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 */
+	private <T> T addReference(ReferencePool pool, int poolIndex,
+			Class<T> pojoClass, T instance,
+			ManufacturingContext manufacturingCtx, int mark, long stops)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		if (null == pool || null == instance) {
+			return instance;
+		}
+		/* Other threads may get the instance as soon as it is in the pool,
+		 * so its scheduled population has to complete first */
+		runTasks(manufacturingCtx, mark);
+		if (isCancelled(manufacturingCtx)
+				|| getStops(manufacturingCtx) != stops
+				|| null != manufacturingCtx.getProjection()) {
+			LOG.debug("Not pooling partially populated {}", pojoClass);
+			return instance;
+		}
+		return pojoClass.cast(pool.offer(poolIndex, instance));
+	}
+
 
 
     /**
@@ -576,8 +1720,8 @@ public class PodamFactoryImpl implements PodamFactory {
 			}
 			String attributeName = null;
 			fillArray(pojo, attributeName,
-					pojoClass.getClass().getComponentType(),
-					pojoClass.getClass().getComponentType(),
+					pojoClass.getComponentType(),
+					pojoClass.getComponentType(),
 					annotations,
 					manufacturingCtx, typeArgsMap);
 		} else if (pojo instanceof Collection) {
@@ -607,14 +1751,41 @@ public class PodamFactoryImpl implements PodamFactory {
 			fillMap(mapArguments, manufacturingCtx);
 		}
 
-		ClassInfo classInfo = classInfoStrategy.getClassInfo(pojo.getClass());
+		ClassInfo classInfo = getClassInfo(pojoClass, manufacturingCtx);
 
 		Set<ClassAttribute> classAttributes = classInfo.getClassAttributes();
 
+		AttributeProjection projection = manufacturingCtx.getProjection();
+		/* Internals of JDK classes are never written */
+		boolean injectFields = fieldInjection
+				&& !pojoClass.getName().startsWith("java.")
+				&& !pojoClass.getName().startsWith("javax.");
 		for (ClassAttribute attribute : classAttributes) {
 
-			if (!populateReadWriteField(pojo, attribute, typeArgsMap, manufacturingCtx)) {
-				populateReadOnlyField(pojo, attribute, typeArgsMap, manufacturingCtx, genericTypeArgs);
+			if (isCancelled(manufacturingCtx)) {
+				return pojo;
+			}
+			if (null != projection) {
+				AttributeProjection attributeProjection
+						= projection.getAttributeProjection(attribute.getName());
+				if (null == attributeProjection) {
+					LOG.debug("Skipping unselected attribute {}", attribute);
+					continue;
+				}
+				manufacturingCtx.setProjection(attributeProjection.isComplete()
+						? null : attributeProjection);
+			}
+			try {
+				if (injectFields && null != attribute.getAttribute()
+						&& !attribute.getAttribute().isSynthetic()) {
+					injectField(pojo, attribute, typeArgsMap,
+							manufacturingCtx, genericTypeArgs);
+				} else if (!populateReadWriteField(pojo, attribute, typeArgsMap,
+						manufacturingCtx, genericTypeArgs)) {
+					populateReadOnlyField(pojo, attribute, typeArgsMap, manufacturingCtx, genericTypeArgs);
+				}
+			} finally {
+				manufacturingCtx.setProjection(projection);
 			}
 		}
 
@@ -632,6 +1803,27 @@ public class PodamFactoryImpl implements PodamFactory {
 		return pojo;
 	}
 
+	/**
+	 * It returns class information of the class, analysing the class only
+	 * once per manufacturing context
+	 *
+	 * @param pojoClass
+	 *            The class to retrieve info from
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @return class information of the class
+	 */
+	private ClassInfo getClassInfo(Class<?> pojoClass,
+			ManufacturingContext manufacturingCtx) {
+
+		ClassInfo classInfo = manufacturingCtx.getClassInfos().get(pojoClass);
+		if (null == classInfo) {
+			classInfo = classInfoStrategy.getClassInfo(pojoClass);
+			manufacturingCtx.getClassInfos().put(pojoClass, classInfo);
+		}
+		return classInfo;
+	}
+
 	/**
 	 * Fills a field with a getter
 	 *
@@ -693,51 +1885,277 @@ public class PodamFactoryImpl implements PodamFactory {
 
 			LOG.debug("Populating read-only field {}", getter);
 
-			Type[] genericTypeArgsAll;
-			Map<String, Type> paramTypeArgsMap;
-			Type genericPojoType = getter.getGenericReturnType();
-			if (genericPojoType instanceof ParameterizedType) {
+			List<Annotation> pojoAttributeAnnotations =
+					PodamUtils.getAttributeAnnotations(
+							attribute.getAttribute(), getter);
 
-				paramTypeArgsMap = new HashMap<String, Type>(typeArgsMap);
+			populateExistingValue(fieldValue, getter, pojoType,
+					getter.getGenericReturnType(), pojoAttributeAnnotations,
+					typeArgsMap, manufacturingCtx, genericTypeArgs);
+			return true;
+		} else {
 
-				ParameterizedType paramType = (ParameterizedType) genericPojoType;
-				Type[] actualTypes = paramType.getActualTypeArguments();
-				TypeManufacturerUtil.fillTypeArgMap(paramTypeArgsMap,
-						pojoType, actualTypes);
-				genericTypeArgsAll = TypeManufacturerUtil.fillTypeArgMap(paramTypeArgsMap,
-						pojoType, genericTypeArgs);
+			return false;
+		}
+	}
 
-			} else {
+	/**
+	 * Populates an object already referenced by an attribute in place
+	 *
+	 * @param value
+	 *            The current value of the attribute
+	 * @param accessor
+	 *            The getter or field of the attribute for logging
+	 * @param pojoType
+	 *            The type of the attribute
+	 * @param genericPojoType
+	 *            The generic type of the attribute
+	 * @param annotations
+	 *            The annotations of the attribute
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @throws ClassNotFoundException 
+	 *              If class being manufactured cannot be loaded
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 */
+	private void populateExistingValue(Object value, Member accessor,
+			Class<?> pojoType, Type genericPojoType,
+			List<Annotation> annotations, Map<String, Type> typeArgsMap,
+			ManufacturingContext manufacturingCtx, Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+					InvocationTargetException, ClassNotFoundException {
+
+		Type[] genericTypeArgsAll;
+		Map<String, Type> paramTypeArgsMap;
+		if (genericPojoType instanceof ParameterizedType) {
+
+			paramTypeArgsMap = new HashMap<String, Type>(typeArgsMap);
+
+			ParameterizedType paramType = (ParameterizedType) genericPojoType;
+			Type[] actualTypes = paramType.getActualTypeArguments();
+			TypeManufacturerUtil.fillTypeArgMap(paramTypeArgsMap,
+					pojoType, actualTypes);
+			genericTypeArgsAll = TypeManufacturerUtil.fillTypeArgMap(paramTypeArgsMap,
+					pojoType, genericTypeArgs);
+
+		} else {
+
+			paramTypeArgsMap = typeArgsMap;
+			genericTypeArgsAll = genericTypeArgs;
+		}
+
+		Class<?> fieldClass = value.getClass();
+		Integer depth = manufacturingCtx.getPojos().get(fieldClass);
+		if (depth == null) {
+			depth = 0;
+		}
+		if (depth < strategy.getMaxDepth(fieldClass)) {
+
+			manufacturingCtx.getPojos().put(fieldClass, depth + 1);
+			schedulePopulation(value, annotations,
+					manufacturingCtx, paramTypeArgsMap, genericTypeArgsAll);
+			manufacturingCtx.getPojos().put(fieldClass, depth);
+		} else {
+
+			LOG.warn("Loop of depth " + depth + " in filling read-only field {} detected.",
+					accessor);
+		}
+	}
+
+	/**
+	 * Fills an attribute by writing its field directly
+	 *
+	 * @param <T>
+	 *            The type for which should be populated
+	 * @param pojo
+	 *            The POJO being filled with values
+	 * @param attribute
+	 *            a attribute we are filling
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @throws ClassNotFoundException 
+	 *              If class being manufactured cannot be loaded
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 */
+	private <T> void injectField(T pojo, ClassAttribute attribute,
+			Map<String, Type> typeArgsMap, ManufacturingContext manufacturingCtx,
+			Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+					InvocationTargetException, ClassNotFoundException {
+
+		Field field = getInjectedField(attribute.getAttribute());
+		Class<?> attributeType = field.getType();
+
+		LOG.debug("Injecting field {}", field);
 
-				paramTypeArgsMap = typeArgsMap;
-				genericTypeArgsAll = genericTypeArgs;
+		/* Accessors may carry the annotations, as for setter population */
+		List<Method> accessors = new ArrayList<Method>(2);
+		Method setter = PodamUtils.selectLatestMethod(attribute.getSetters());
+		if (null != setter) {
+			accessors.add(setter);
+		}
+		Method getter = PodamUtils.selectLatestMethod(attribute.getGetters());
+		if (null != getter) {
+			accessors.add(getter);
+		}
+		List<Annotation> pojoAttributeAnnotations
+				= PodamUtils.getAttributeAnnotations(attribute.getAttribute(),
+						accessors.toArray(new Method[accessors.size()]));
+
+		AttributeStrategy<?> attributeStrategy
+				= TypeManufacturerUtil.findAttributeStrategy(strategy, pojoAttributeAnnotations, attributeType);
+
+		if (manufacturingCtx.isReusingValues()) {
+
+			Object currentValue = field.get(pojo);
+			if (null == attributeStrategy && isReusableValue(currentValue)) {
+
+				populateExistingValue(currentValue, field, attributeType,
+						field.getGenericType(), pojoAttributeAnnotations,
+						typeArgsMap, manufacturingCtx, genericTypeArgs);
+				return;
 			}
+			if (manufacturingCtx.isKeepingValues()
+					&& !isMissingValue(currentValue, attributeType)) {
 
-			List<Annotation> pojoAttributeAnnotations =
-					PodamUtils.getAttributeAnnotations(
-							attribute.getAttribute(), getter);
+				LOG.debug("Keeping the value of {}", attribute);
+				return;
+			}
+		}
 
-			Class<?> fieldClass = fieldValue.getClass();
-			Integer depth = manufacturingCtx.getPojos().get(fieldClass);
-			if (depth == null) {
-				depth = 0;
+		Object fieldValue;
+		if (null != attributeStrategy) {
+
+			fieldValue = TypeManufacturerUtil.returnAttributeDataStrategyValue(
+					attributeType, pojoAttributeAnnotations, attributeStrategy);
+
+		} else {
+
+			if (attributeType.isPrimitive() && injectPrimitiveField(pojo, field,
+					new AttributeMetadata(attribute.getName(), attributeType,
+							attributeType, PodamConstants.NO_TYPES,
+							pojoAttributeAnnotations, pojo.getClass(), pojo))) {
+				return;
 			}
-			if (depth < strategy.getMaxDepth(fieldClass)) {
+			fieldValue = manufactureGenericAttributeValue(pojo, manufacturingCtx,
+					attributeType, field.getGenericType(), pojoAttributeAnnotations,
+					attribute.getName(), typeArgsMap);
+		}
 
-				manufacturingCtx.getPojos().put(fieldClass, depth + 1);
-				populatePojoInternal(fieldValue, pojoAttributeAnnotations,
-						manufacturingCtx, paramTypeArgsMap, genericTypeArgsAll);
-				manufacturingCtx.getPojos().put(fieldClass, depth);
-			} else {
+		if (null == fieldValue && attributeType.isPrimitive()) {
+			LOG.debug("No value for primitive field {}, skipping", field);
+			return;
+		}
+		field.set(pojo, fieldValue);
+	}
 
-				LOG.warn("Loop of depth " + depth + " in filling read-only field {} detected.",
-						getter);
+	/**
+	 * It returns an accessible copy of a field, which is prepared once and
+	 * shared by all the manufacturing contexts.
+	 *
+	 * @param field
+	 *            the field found in class information
+	 * @return accessible field
+	 */
+	private Field getInjectedField(Field field) {
+
+		Field injectedField = injectedFields.get(field);
+		if (null == injectedField) {
+			field.setAccessible(true);
+			injectedField = injectedFields.putIfAbsent(field, field);
+			if (null == injectedField) {
+				injectedField = field;
 			}
-			return true;
-		} else {
+		}
+		return injectedField;
+	}
+
+	/**
+	 * It writes an unboxed value into a primitive field, if the type
+	 * manufacturer of the field type can produce unboxed values.
+	 *
+	 * @param pojo
+	 *            The POJO being filled with values
+	 * @param field
+	 *            accessible primitive field
+	 * @param attributeMetadata
+	 *            metadata of the attribute
+	 * @return true, if the field was written, false, if the value has to be
+	 *         manufactured as an object
+	 * @throws IllegalAccessException
+	 *             If security was violated while writing the field
+	 */
+	private boolean injectPrimitiveField(Object pojo, Field field,
+			AttributeMetadata attributeMetadata) throws IllegalAccessException {
 
+		if (strategy.isMemoizationEnabled()
+				|| !(strategy instanceof AbstractRandomDataProviderStrategy)) {
 			return false;
 		}
+		Class<?> type = field.getType();
+		TypeManufacturer<?> manufacturer = ((AbstractRandomDataProviderStrategy) strategy)
+				.getTypeManufacturer(type);
+
+		if (int.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfInt) {
+			field.setInt(pojo, ((PrimitiveTypeManufacturer.OfInt) manufacturer)
+					.nextInt(strategy, attributeMetadata));
+		} else if (long.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfLong) {
+			field.setLong(pojo, ((PrimitiveTypeManufacturer.OfLong) manufacturer)
+					.nextLong(strategy, attributeMetadata));
+		} else if (double.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfDouble) {
+			field.setDouble(pojo, ((PrimitiveTypeManufacturer.OfDouble) manufacturer)
+					.nextDouble(strategy, attributeMetadata));
+		} else if (float.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfFloat) {
+			field.setFloat(pojo, ((PrimitiveTypeManufacturer.OfFloat) manufacturer)
+					.nextFloat(strategy, attributeMetadata));
+		} else if (short.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfShort) {
+			field.setShort(pojo, ((PrimitiveTypeManufacturer.OfShort) manufacturer)
+					.nextShort(strategy, attributeMetadata));
+		} else if (byte.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfByte) {
+			field.setByte(pojo, ((PrimitiveTypeManufacturer.OfByte) manufacturer)
+					.nextByte(strategy, attributeMetadata));
+		} else if (char.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfChar) {
+			field.setChar(pojo, ((PrimitiveTypeManufacturer.OfChar) manufacturer)
+					.nextChar(strategy, attributeMetadata));
+		} else if (boolean.class.equals(type)
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfBoolean) {
+			field.setBoolean(pojo, ((PrimitiveTypeManufacturer.OfBoolean) manufacturer)
+					.nextBoolean(strategy, attributeMetadata));
+		} else {
+			return false;
+		}
+		return true;
 	}
 
 	/**
@@ -754,6 +2172,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *            example) with their actual types
 	 * @param manufacturingCtx
 	 *            the manufacturing context
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
 	 * @return true, if attribute was found and populated
 	 * @throws ClassNotFoundException 
 	 *              If class being manufactured cannot be loaded
@@ -766,7 +2187,8 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             factory method
 	 */
 	private <T> boolean populateReadWriteField(T pojo, ClassAttribute attribute,
-			Map<String, Type> typeArgsMap, ManufacturingContext manufacturingCtx)
+			Map<String, Type> typeArgsMap, ManufacturingContext manufacturingCtx,
+			Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 					InvocationTargetException, ClassNotFoundException {
 
@@ -804,6 +2226,23 @@ public class PodamFactoryImpl implements PodamFactory {
 
 		AttributeStrategy<?> attributeStrategy
 				= TypeManufacturerUtil.findAttributeStrategy(strategy, pojoAttributeAnnotations, attributeType);
+		if (manufacturingCtx.isReusingValues()) {
+
+			Object currentValue = getAttributeValue(pojo, attribute);
+			if (null == attributeStrategy && isReusableValue(currentValue)) {
+
+				LOG.debug("Populating again the value of {}", attribute);
+				return populateReadOnlyField(pojo, attribute, typeArgsMap,
+						manufacturingCtx, genericTypeArgs);
+			}
+			if (manufacturingCtx.isKeepingValues()
+					&& !isMissingValue(currentValue, attributeType)) {
+
+				LOG.debug("Keeping the value of {}", attribute);
+				return true;
+			}
+		}
+
 		Object setterArg = null;
 		if (null != attributeStrategy) {
 
@@ -812,46 +2251,242 @@ public class PodamFactoryImpl implements PodamFactory {
 
 		} else {
 
-			AtomicReference<Type[]> typeGenericTypeArgs
-					= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
-			// If the parameter is a generic parameterized type resolve
-			// the actual type arguments
-			Type genericType = setter.getGenericParameterTypes()[0];
+			setterArg = manufactureGenericAttributeValue(pojo, manufacturingCtx,
+					attributeType, setter.getGenericParameterTypes()[0],
+					pojoAttributeAnnotations, attribute.getName(), typeArgsMap);
+		}
 
-			final Type[] typeArguments;
-			if (!(genericType instanceof GenericArrayType)) {
-				attributeType = TypeManufacturerUtil.resolveGenericParameter(genericType,
-						typeArgsMap, typeGenericTypeArgs);
-				typeArguments = typeGenericTypeArgs.get();
-			} else {
-				typeArguments = PodamConstants.NO_TYPES;
+		try {
+			setter.invoke(pojo, setterArg);
+		} catch(IllegalAccessException e) {
+			LOG.warn("{} is not accessible. Setting it to accessible."
+					+ " However this is a security hack and your code"
+					+ " should really adhere to JavaBeans standards.",
+					setter.toString());
+			setter.setAccessible(true);
+			setter.invoke(pojo, setterArg);
+		}
+		return true;
+	}
+
+	/**
+	 * It manufactures the value of an attribute, resolving its generic type
+	 *
+	 * @param pojo
+	 *            The POJO being filled with values
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param attributeType
+	 *            The raw type of the attribute
+	 * @param genericType
+	 *            The generic type of the attribute
+	 * @param annotations
+	 *            The annotations of the attribute
+	 * @param attributeName
+	 *            The attribute name
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @return The value for the attribute
+	 * @throws ClassNotFoundException 
+	 *              If class being manufactured cannot be loaded
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 */
+	private Object manufactureGenericAttributeValue(Object pojo,
+			ManufacturingContext manufacturingCtx, Class<?> attributeType,
+			Type genericType, List<Annotation> annotations,
+			String attributeName, Map<String, Type> typeArgsMap)
+			throws InstantiationException, IllegalAccessException,
+					InvocationTargetException, ClassNotFoundException {
+
+		AtomicReference<Type[]> typeGenericTypeArgs
+				= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
+		// If the parameter is a generic parameterized type resolve
+		// the actual type arguments
+		final Type[] typeArguments;
+		if (!(genericType instanceof GenericArrayType)) {
+			attributeType = TypeManufacturerUtil.resolveGenericParameter(genericType,
+					typeArgsMap, typeGenericTypeArgs);
+			typeArguments = typeGenericTypeArgs.get();
+		} else {
+			typeArguments = PodamConstants.NO_TYPES;
+		}
+
+		for (int i = 0; i < typeArguments.length; i++) {
+			if (typeArguments[i] instanceof TypeVariable) {
+				Class<?> resolvedType = TypeManufacturerUtil.resolveGenericParameter(typeArguments[i],
+                        typeArgsMap, typeGenericTypeArgs);
+				if (!Collection.class.isAssignableFrom(resolvedType) && !Map.class.isAssignableFrom(resolvedType)) {
+					typeArguments[i] = resolvedType;
+				}
 			}
+		}
+
+		return manufactureAttributeValue(pojo, manufacturingCtx,
+				attributeType, genericType, annotations, attributeName,
+				typeArgsMap, typeArguments);
+	}
+
+	/**
+	 * It reads the current value of an attribute with its getter or, if the
+	 * attribute has no getter, from its field.
+	 *
+	 * @param pojo
+	 *            The POJO being filled with values
+	 * @param attribute
+	 *            The attribute to read
+	 * @return the value of the attribute or null, if it cannot be read
+	 */
+	private static Object getAttributeValue(Object pojo,
+			ClassAttribute attribute) {
+
+		Method getter = PodamUtils.selectLatestMethod(attribute.getGetters());
+		if (null != getter && getter.getParameterTypes().length == 0) {
+			try {
+				return getter.invoke(pojo, PodamConstants.NO_ARGS);
+			} catch (Exception e) {
+				LOG.debug("Cannot access {}, skipping", getter);
+				return null;
+			}
+		}
+		Field field = attribute.getAttribute();
+		if (null != field && !Modifier.isStatic(field.getModifiers())) {
+			try {
+				if (!field.isAccessible()) {
+					field.setAccessible(true);
+				}
+				return field.get(pojo);
+			} catch (Exception e) {
+				LOG.debug("Cannot access {}, skipping", field);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Checks, if an attribute value is missing, so it has to be
+	 * manufactured, when only missing values are filled.
+	 *
+	 * @param value
+	 *            the current value of the attribute
+	 * @param attributeType
+	 *            the type of the attribute
+	 * @return true, if the value is null or the default value of a
+	 *         primitive attribute
+	 */
+	private static boolean isMissingValue(Object value, Class<?> attributeType) {
+
+		if (null == value) {
+			return true;
+		}
+		if (!attributeType.isPrimitive()) {
+			return false;
+		}
+		if (value instanceof Boolean) {
+			return !((Boolean) value);
+		}
+		if (value instanceof Character) {
+			return ((Character) value) == 0;
+		}
+		return ((Number) value).doubleValue() == 0;
+	}
+
+	/**
+	 * Checks, if an existing value can be populated again in place, when
+	 * the graph is populated again.
+	 *
+	 * @param value
+	 *            the current value of an attribute or element
+	 * @return true for POJOs, containers and non-empty arrays, false for
+	 *         missing values, leaf values, pooled references and bound
+	 *         virtual containers, which cannot be bound again
+	 */
+	private boolean isReusableValue(Object value) {
+
+		if (null == value) {
+			return false;
+		}
+		Class<?> valueClass = value.getClass();
+		if (valueClass.isArray()) {
+			return Array.getLength(value) > 0;
+		}
+		if (value instanceof VirtualList) {
+			return !((VirtualList<?>) value).isBound();
+		}
+		if (value instanceof VirtualMap) {
+			return !((VirtualMap<?, ?>) value).isBound();
+		}
+		if (value instanceof Collection || value instanceof Map) {
+			return true;
+		}
+		String name = valueClass.getName();
+		return !(value instanceof Enum)
+				&& !Proxy.isProxyClass(valueClass)
+				&& !name.startsWith("java.") && !name.startsWith("javax.")
+				&& null == getReferencePool(valueClass);
+	}
+
+	/**
+	 * It populates again an existing element of a container in place.
+	 *
+	 * @param value
+	 *            the current element
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the element
+	 * @return true, if the element was kept, false, if it has to be replaced
+	 *         by a new value
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 */
+	private boolean repopulateValue(Object value,
+			ManufacturingContext manufacturingCtx, Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
 
-			for (int i = 0; i < typeArguments.length; i++) {
-				if (typeArguments[i] instanceof TypeVariable) {
-					Class<?> resolvedType = TypeManufacturerUtil.resolveGenericParameter(typeArguments[i],
-                            typeArgsMap, typeGenericTypeArgs);
-					if (!Collection.class.isAssignableFrom(resolvedType) && !Map.class.isAssignableFrom(resolvedType)) {
-						typeArguments[i] = resolvedType;
-					}
-				}
-			}
+		if (!isReusableValue(value)) {
+			return false;
+		}
+		Class<?> valueClass = value.getClass();
+		Map<String, Type> typeArgsMap = new HashMap<String, Type>();
+		Type[] genericTypeArgsExtra;
+		try {
+			genericTypeArgsExtra = TypeManufacturerUtil.fillTypeArgMap(
+					typeArgsMap, valueClass, genericTypeArgs);
+		} catch (IllegalArgumentException e) {
+			LOG.debug("Replacing {}: {}", valueClass, e.getMessage());
+			return false;
+		}
 
-			setterArg = manufactureAttributeValue(pojo, manufacturingCtx,
-					attributeType, genericType,
-					pojoAttributeAnnotations, attribute.getName(),
-					typeArgsMap, typeArguments);
+		Integer depth = manufacturingCtx.getPojos().get(valueClass);
+		if (depth == null) {
+			depth = 0;
 		}
+		if (depth < strategy.getMaxDepth(valueClass)) {
 
-		try {
-			setter.invoke(pojo, setterArg);
-		} catch(IllegalAccessException e) {
-			LOG.warn("{} is not accessible. Setting it to accessible."
-					+ " However this is a security hack and your code"
-					+ " should really adhere to JavaBeans standards.",
-					setter.toString());
-			setter.setAccessible(true);
-			setter.invoke(pojo, setterArg);
+			manufacturingCtx.getPojos().put(valueClass, depth + 1);
+			List<Annotation> annotations = null;
+			schedulePopulation(value, annotations, manufacturingCtx,
+					typeArgsMap, genericTypeArgsExtra);
+			manufacturingCtx.getPojos().put(valueClass, depth);
+		} else {
+
+			LOG.debug("Loop of depth {} in populating again {}, keeping it",
+					depth, valueClass);
 		}
 		return true;
 	}
@@ -908,6 +2543,63 @@ public class PodamFactoryImpl implements PodamFactory {
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
+		/* New values are manufactured in full */
+		boolean reusingValues = manufacturingCtx.isReusingValues();
+		boolean keepingValues = manufacturingCtx.isKeepingValues();
+		manufacturingCtx.setReusingValues(false);
+		manufacturingCtx.setKeepingValues(false);
+		try {
+			return doManufactureAttributeValue(pojo, manufacturingCtx,
+					attributeType, genericAttributeType, annotations,
+					attributeName, typeArgsMap, genericTypeArgs);
+		} finally {
+			manufacturingCtx.setReusingValues(reusingValues);
+			manufacturingCtx.setKeepingValues(keepingValues);
+		}
+	}
+
+	/**
+	 * It manufactures and returns the value for a POJO attribute with the
+	 * manufacturing context already set up for new values.
+	 *
+	 * @param pojo
+	 *            The POJO being filled with values
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param attributeType
+	 *            The type of the attribute
+	 * @param genericAttributeType
+	 *            The generic type of the attribute
+	 * @param annotations
+	 *            The annotations for the attribute being considered
+	 * @param attributeName
+	 *            The attribute name
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return The value for an attribute
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *              If class being manufactured cannot be loaded
+	 * @see #manufactureAttributeValue(Object, ManufacturingContext, Class, Type, List, String, Map, Type...)
+	 */
+	private Object doManufactureAttributeValue(Object pojo,
+			ManufacturingContext manufacturingCtx, Class<?> attributeType,
+			Type genericAttributeType, List<Annotation> annotations,
+			String attributeName, Map<String, Type> typeArgsMap,
+			Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
 		Object attributeValue = null;
 
 		Class<?> pojoClass = (pojo instanceof Class ? (Class<?>) pojo : pojo.getClass());
@@ -1052,7 +2744,11 @@ public class PodamFactoryImpl implements PodamFactory {
 			Class<Collection<Object>> collectionType
 					= (Class<Collection<Object>>) attributeMetadata.getAttributeType();
 			retValue = strategy.getTypeValue(attributeMetadata, typeArgsMap, collectionType);
-			if (null != retValue && null != defaultValue) {
+			if (null != retValue) {
+				consumeElements(manufacturingCtx, retValue.getClass(), 1);
+			}
+			if (null != retValue && null != defaultValue
+					&& !(retValue instanceof VirtualList)) {
 				retValue.addAll(defaultValue);
 			}
 		}
@@ -1199,9 +2895,9 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *
 	 */
 	private void fillCollection(ManufacturingContext manufacturingCtx,
-			List<Annotation> annotations, String attributeName,
-			Collection<? super Object> collection,
-			Class<?> collectionElementType, Type... genericTypeArgs)
+			final List<Annotation> annotations, final String attributeName,
+			final Collection<? super Object> collection,
+			final Class<?> collectionElementType, final Type... genericTypeArgs)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
@@ -1210,9 +2906,40 @@ public class PodamFactoryImpl implements PodamFactory {
 		Holder<AttributeStrategy<?>> elementStrategyHolder
 				= new Holder<AttributeStrategy<?>>();
 		Holder<AttributeStrategy<?>> keyStrategyHolder = null;
-		Integer nbrElements = TypeManufacturerUtil.findCollectionSize(strategy, annotations,
-                collectionElementType, elementStrategyHolder, keyStrategyHolder);
-		AttributeStrategy<?> elementStrategy = elementStrategyHolder.value;
+		int nbrElements = getNumberOfElements(manufacturingCtx,
+				TypeManufacturerUtil.findCollectionSize(strategy, annotations,
+						collectionElementType, elementStrategyHolder, keyStrategyHolder));
+		final AttributeStrategy<?> elementStrategy = elementStrategyHolder.value;
+
+		if (collection instanceof VirtualList) {
+
+			@SuppressWarnings("unchecked")
+			VirtualList<Object> list = (VirtualList<Object>) collection;
+			if (list.isBound()) {
+				LOG.debug("Skipping bound virtual list {}", attributeName);
+				return;
+			}
+			list.bind(nbrElements, new VirtualElementSource<Object>(manufacturingCtx, nbrElements) {
+
+				@Override
+				protected Object manufacture(ManufacturingContext elementCtx)
+						throws InstantiationException, IllegalAccessException,
+						InvocationTargetException, ClassNotFoundException {
+
+					return manufactureCollectionElement(collection, elementCtx,
+							annotations, attributeName, collectionElementType,
+							elementStrategy, genericTypeArgs);
+				}
+			});
+			return;
+		}
+
+		if (manufacturingCtx.isReusingValues() && !collection.isEmpty()) {
+			refillCollection(manufacturingCtx, annotations, attributeName,
+					collection, collectionElementType, elementStrategy,
+					genericTypeArgs);
+			return;
+		}
 
 		try {
 			if (collection.size() > nbrElements) {
@@ -1220,26 +2947,343 @@ public class PodamFactoryImpl implements PodamFactory {
 				collection.clear();
 			}
 
-			for (int i = collection.size(); i < nbrElements; i++) {
+			int count = getRemainingElements(manufacturingCtx,
+					collectionElementType, nbrElements - collection.size());
+			int added = fillWithTypeValues(manufacturingCtx, collection,
+					attributeName, collectionElementType, annotations,
+					elementStrategy, collection, count, genericTypeArgs);
+			if (added >= 0) {
+				consumeElements(manufacturingCtx, collectionElementType, added);
+				consumeStorage(manufacturingCtx, collection, added);
+				return;
+			}
+
+			final Object[] elements = new Object[nbrElements - collection.size()];
+			fillElements(manufacturingCtx, elements.length, new ElementFiller() {
 
-				// The default
-				Object element = TypeManufacturerUtil.returnAttributeDataStrategyValue(
-							collectionElementType, annotations, elementStrategy);
+				@Override
+				public int fill(ManufacturingContext rangeCtx, int from, int to)
+						throws InstantiationException, IllegalAccessException,
+						InvocationTargetException, ClassNotFoundException {
 
-				if (null == element) {
+					int i = from;
+					for (; i < to
+							&& !shouldStop(rangeCtx, collectionElementType); i++) {
 
-					element = manufactureAttributeValue(collection, manufacturingCtx,
-							collectionElementType, collectionElementType,
-							annotations, attributeName, NULL_TYPE_ARGS_MAP, genericTypeArgs);
+						elements[i] = manufactureCollectionElement(collection,
+								rangeCtx, annotations, attributeName,
+								collectionElementType, elementStrategy, genericTypeArgs);
+					}
+					return i;
 				}
-				collection.add(element);
-			}
+
+				@Override
+				public void complete(ManufacturingContext completionCtx,
+						BitSet filled) {
+
+					try {
+						/* After cancellation only manufactured elements are added */
+						for (int i = 0; i < elements.length; i++) {
+							if (filled.get(i)) {
+								collection.add(elements[i]);
+							}
+						}
+					} catch (UnsupportedOperationException e) {
+
+						LOG.warn("Cannot fill immutable collection {}", collection.getClass());
+					}
+					consumeStorage(completionCtx, collection, filled.cardinality());
+				}
+			});
 		} catch (UnsupportedOperationException e) {
 
 			LOG.warn("Cannot fill immutable collection {}", collection.getClass());
 		}
 	}
 
+	/**
+	 * It populates again a collection of a graph, which is populated again,
+	 * keeping its size. Elements, which can be reused, are populated again
+	 * in place, other elements are replaced.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param annotations
+	 *            The annotations for this attribute
+	 * @param attributeName
+	 *            The attribute name of collection in enclosing POJO class
+	 * @param collection
+	 *            the collection to be populated again
+	 * @param collectionElementType
+	 *            The type of the collection element
+	 * @param elementStrategy
+	 *            The strategy of elements or null
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private void refillCollection(ManufacturingContext manufacturingCtx,
+			List<Annotation> annotations, String attributeName,
+			final Collection<? super Object> collection,
+			Class<?> collectionElementType, AttributeStrategy<?> elementStrategy,
+			Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		try {
+			if (collection instanceof List) {
+
+				@SuppressWarnings("unchecked")
+				ListIterator<Object> iterator
+						= ((List<Object>) collection).listIterator();
+				while (iterator.hasNext()
+						&& !shouldStop(manufacturingCtx, collectionElementType)) {
+
+					Object element = iterator.next();
+					if (!repopulateValue(element, manufacturingCtx,
+							genericTypeArgs) && !isKeptElement(element,
+									manufacturingCtx)) {
+						iterator.set(manufactureCollectionElement(collection,
+								manufacturingCtx, annotations, attributeName,
+								collectionElementType, elementStrategy,
+								genericTypeArgs));
+					}
+				}
+				return;
+			}
+
+			/* Elements of sets may change their hash codes, so they are
+			 * added again, once they are populated */
+			final Object[] elements = collection.toArray();
+			collection.clear();
+			ManufacturingTask completion = new ManufacturingTask(
+					manufacturingCtx.getPojos()) {
+
+				@Override
+				public void run(ManufacturingContext completionCtx) {
+
+					try {
+						for (Object element : elements) {
+							collection.add(element);
+						}
+					} catch (UnsupportedOperationException e) {
+
+						LOG.warn("Cannot refill immutable collection {}",
+								collection.getClass());
+					}
+				}
+			};
+			boolean scheduled = scheduleCompletion(manufacturingCtx, completion);
+			for (int i = 0; i < elements.length; i++) {
+				if (!shouldStop(manufacturingCtx, collectionElementType)
+						&& !repopulateValue(elements[i], manufacturingCtx,
+								genericTypeArgs)
+						&& !isKeptElement(elements[i], manufacturingCtx)) {
+					elements[i] = manufactureCollectionElement(collection,
+							manufacturingCtx, annotations, attributeName,
+							collectionElementType, elementStrategy,
+							genericTypeArgs);
+				}
+			}
+			if (!scheduled) {
+				completion.run(manufacturingCtx);
+			}
+		} catch (UnsupportedOperationException e) {
+
+			LOG.warn("Cannot refill immutable collection {}", collection.getClass());
+		}
+	}
+
+	/**
+	 * Checks, if an element of a container is kept, when only missing
+	 * values are filled.
+	 *
+	 * @param element
+	 *            the current element
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @return true, if the element is set and values already set are kept
+	 */
+	private static boolean isKeptElement(Object element,
+			ManufacturingContext manufacturingCtx) {
+		return null != element && manufacturingCtx.isKeepingValues();
+	}
+
+	/**
+	 * It manufactures an element of a collection.
+	 *
+	 * @param collection
+	 *            the collection, the element is manufactured for
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param annotations
+	 *            The annotations for this attribute
+	 * @param attributeName
+	 *            The attribute name of collection in enclosing POJO class
+	 * @param collectionElementType
+	 *            The type of the POJO for this collection element
+	 * @param elementStrategy
+	 *            The strategy of elements or null
+	 * @param genericTypeArgs
+	 *            The generic type arguments for the current generic class
+	 *            instance
+	 * @return the element
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private Object manufactureCollectionElement(Object collection,
+			ManufacturingContext manufacturingCtx, List<Annotation> annotations,
+			String attributeName, Class<?> collectionElementType,
+			AttributeStrategy<?> elementStrategy, Type... genericTypeArgs)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		// The default
+		Object element = TypeManufacturerUtil.returnAttributeDataStrategyValue(
+				collectionElementType, annotations, elementStrategy);
+
+		if (null == element) {
+
+			element = manufactureAttributeValue(collection, manufacturingCtx,
+					collectionElementType, collectionElementType,
+					annotations, attributeName, NULL_TYPE_ARGS_MAP, genericTypeArgs);
+		}
+		return element;
+	}
+
+	/**
+	 * It adds values of the element type to a collection at once, if the
+	 * manufacturer of the type supports it. Values are added in chunks,
+	 * so cancellation is checked between them.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param container
+	 *            The collection, map or array, which elements are produced
+	 * @param attributeName
+	 *            The attribute name of the container in enclosing POJO class
+	 * @param elementType
+	 *            The type of the elements
+	 * @param annotations
+	 *            The annotations for the container attribute
+	 * @param elementStrategy
+	 *            The strategy for the elements or null
+	 * @param target
+	 *            The collection to add values to
+	 * @param count
+	 *            The number of values to add
+	 * @param genericTypeArgs
+	 *            The generic type arguments of the elements
+	 * @return the number of values added, fewer after cancellation, or -1,
+	 *         if they have to be manufactured one by one
+	 */
+	private int fillWithTypeValues(ManufacturingContext manufacturingCtx,
+			Object container, String attributeName,
+			Class<?> elementType, List<Annotation> annotations,
+			AttributeStrategy<?> elementStrategy,
+			Collection<? super Object> target, int count,
+			Type... genericTypeArgs) {
+
+		if (count <= 0 || !isDefaultStrategy(elementStrategy)
+				|| strategy.isMemoizationEnabled()
+				|| !(strategy instanceof AbstractRandomDataProviderStrategy)) {
+			return -1;
+		}
+		AttributeMetadata elementMetadata = new AttributeMetadata(
+				attributeName, elementType, elementType, genericTypeArgs,
+				annotations, container.getClass(), container);
+		@SuppressWarnings("unchecked")
+		Class<Object> valueType = (Class<Object>) elementType;
+		int added = 0;
+		while (added < count && !isCancelled(manufacturingCtx)) {
+
+			int chunk = Math.min(count - added, CANCELLATION_CHECK_INTERVAL);
+			if (!((AbstractRandomDataProviderStrategy) strategy)
+					.fillCollectionWithTypeValues(elementMetadata,
+							NULL_TYPE_ARGS_MAP, valueType, target, chunk)) {
+				return -1;
+			}
+			added += chunk;
+		}
+		return added;
+	}
+
+	/**
+	 * It fills an array with values of its component type at once, if the
+	 * manufacturer of the type supports it. Large arrays are filled in
+	 * chunks, so cancellation is checked between them.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @param elementMetadata
+	 *            The metadata of the array elements
+	 * @param array
+	 *            The array to fill
+	 * @return the number of leading elements filled, fewer after
+	 *         cancellation, or -1, if they have to be manufactured one by one
+	 */
+	private int fillArrayWithTypeValues(ManufacturingContext manufacturingCtx,
+			AttributeMetadata elementMetadata, Object array) {
+
+		AbstractRandomDataProviderStrategy randomStrategy
+				= (AbstractRandomDataProviderStrategy) strategy;
+		Class<?> componentType = elementMetadata.getAttributeType();
+		int length = Array.getLength(array);
+		if (length <= CANCELLATION_CHECK_INTERVAL) {
+			if (isCancelled(manufacturingCtx)) {
+				return 0;
+			}
+			return randomStrategy.fillArrayWithTypeValues(elementMetadata,
+					NULL_TYPE_ARGS_MAP, componentType, array) ? length : -1;
+		}
+
+		Object chunk = Array.newInstance(componentType, CANCELLATION_CHECK_INTERVAL);
+		int filled = 0;
+		while (filled < length && !isCancelled(manufacturingCtx)) {
+
+			int chunkLength = Math.min(length - filled, CANCELLATION_CHECK_INTERVAL);
+			if (chunkLength < CANCELLATION_CHECK_INTERVAL) {
+				chunk = Array.newInstance(componentType, chunkLength);
+			}
+			if (!randomStrategy.fillArrayWithTypeValues(elementMetadata,
+					NULL_TYPE_ARGS_MAP, componentType, chunk)) {
+				return -1;
+			}
+			System.arraycopy(chunk, 0, array, filled, chunkLength);
+			filled += chunkLength;
+		}
+		return filled;
+	}
+
+	/**
+	 * Checks, if no specific strategy was requested for container elements
+	 *
+	 * @param elementStrategy
+	 *            The strategy for the elements or null
+	 * @return true, if elements should be produced by the type manufacturers
+	 */
+	private static boolean isDefaultStrategy(AttributeStrategy<?> elementStrategy) {
+
+		return null == elementStrategy
+				|| ObjectStrategy.class.equals(elementStrategy.getClass());
+	}
+
 	/**
 	 * It manufactures and returns a Map with at least one element in it
 	 *
@@ -1287,7 +3331,11 @@ public class PodamFactoryImpl implements PodamFactory {
 			Class<Map<Object,Object>> mapType
 					= (Class<Map<Object, Object>>) attributeMetadata.getAttributeType();
 			retValue = strategy.getTypeValue(attributeMetadata, typeArgsMap, mapType);
-			if (null != retValue && null != defaultValue) {
+			if (null != retValue) {
+				consumeElements(manufacturingCtx, retValue.getClass(), 1);
+			}
+			if (null != retValue && null != defaultValue
+					&& !(retValue instanceof VirtualMap)) {
 				retValue.putAll(defaultValue);
 			}
 		}
@@ -1459,7 +3507,7 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If it was not possible to create a class from a string
 	 *
 	 */
-	private void fillMap(MapArguments mapArguments, ManufacturingContext manufacturingCtx)
+	private void fillMap(final MapArguments mapArguments, ManufacturingContext manufacturingCtx)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
@@ -1469,52 +3517,199 @@ public class PodamFactoryImpl implements PodamFactory {
 				= new Holder<AttributeStrategy<?>>();
 		Holder<AttributeStrategy<?>> keyStrategyHolder
 				= new Holder<AttributeStrategy<?>>();
-		Integer nbrElements = TypeManufacturerUtil.findCollectionSize(strategy, mapArguments.getAnnotations(),
-                mapArguments.getElementClass(), elementStrategyHolder,
-                keyStrategyHolder);
-		AttributeStrategy<?> keyStrategy = keyStrategyHolder.value;
-		AttributeStrategy<?> elementStrategy = elementStrategyHolder.value;
+		int nbrElements = getNumberOfElements(manufacturingCtx,
+				TypeManufacturerUtil.findCollectionSize(strategy, mapArguments.getAnnotations(),
+						mapArguments.getElementClass(), elementStrategyHolder,
+						keyStrategyHolder));
+		final AttributeStrategy<?> keyStrategy = keyStrategyHolder.value;
+		final AttributeStrategy<?> elementStrategy = elementStrategyHolder.value;
 
-		Map<? super Object, ? super Object> map = mapArguments.getMapToBeFilled();
-		try {
-			if (map.size() > nbrElements) {
+		final Map<? super Object, ? super Object> map = mapArguments.getMapToBeFilled();
+		if (map instanceof VirtualMap) {
 
-				map.clear();
+			@SuppressWarnings("unchecked")
+			VirtualMap<Object, Object> virtualMap = (VirtualMap<Object, Object>) map;
+			if (virtualMap.isBound()) {
+				LOG.debug("Skipping bound virtual map {}",
+						mapArguments.getAttributeName());
+				return;
 			}
+			/* Keys are derived from indices, so only values are manufactured */
+			virtualMap.bind(nbrElements,
+					new VirtualElementSource<Object>(manufacturingCtx, nbrElements) {
 
-			for (int i = map.size(); i < nbrElements; i++) {
+				@Override
+				protected Object manufacture(ManufacturingContext elementCtx)
+						throws InstantiationException, IllegalAccessException,
+						InvocationTargetException, ClassNotFoundException {
+
+					return manufactureMapKeyOrElement(mapArguments, false,
+							elementStrategy, elementCtx);
+				}
+			});
+			return;
+		}
 
-				Object keyValue = null;
+		try {
+			if (manufacturingCtx.isKeepingValues() && !map.isEmpty()) {
 
-				Object elementValue = null;
+				for (Object value : map.values()) {
+					repopulateValue(value, manufacturingCtx,
+							mapArguments.getElementGenericTypeArgs());
+				}
+				return;
+			} else if (manufacturingCtx.isReusingValues() && !map.isEmpty()) {
 
-				MapKeyOrElementsArguments valueArguments = new MapKeyOrElementsArguments();
-				valueArguments.setAttributeName(mapArguments.getAttributeName());
-				valueArguments.setMapToBeFilled(mapArguments.getMapToBeFilled());
-				valueArguments.getAnnotations().addAll(mapArguments.getAnnotations());
-				valueArguments.setKeyOrValueType(mapArguments.getKeyOrValueType());
-				valueArguments.setElementStrategy(keyStrategy);
-				valueArguments.setGenericTypeArgs(mapArguments
-						.getKeyGenericTypeArgs());
+				/* Keys cannot be changed in place, entries are replaced */
+				nbrElements = map.size();
+				map.clear();
+			} else if (map.size() > nbrElements) {
 
-				keyValue = getMapKeyOrElementValue(valueArguments, manufacturingCtx);
+				map.clear();
+			}
 
-				valueArguments.setKeyOrValueType(mapArguments.getElementClass());
-				valueArguments.setElementStrategy(elementStrategy);
-				valueArguments.setGenericTypeArgs(mapArguments
-						.getElementGenericTypeArgs());
+			final int size = map.size();
+			int count = Math.min(
+					getRemainingElements(manufacturingCtx,
+							mapArguments.getKeyOrValueType(), nbrElements - size),
+					getRemainingElements(manufacturingCtx,
+							mapArguments.getElementClass(), nbrElements - size));
+			/* After cancellation only entries with both values are put */
+			List<Object> keyValues = new ArrayList<Object>(count);
+			int added = fillWithTypeValues(manufacturingCtx, map,
+					mapArguments.getAttributeName(),
+					mapArguments.getKeyOrValueType(), mapArguments.getAnnotations(),
+					keyStrategy, keyValues, count,
+					mapArguments.getKeyGenericTypeArgs());
+			if (added >= 0) {
+				consumeElements(manufacturingCtx,
+						mapArguments.getKeyOrValueType(), added);
+				count = added;
+			} else {
+				keyValues = null;
+			}
+			List<Object> elementValues = new ArrayList<Object>(count);
+			added = fillWithTypeValues(manufacturingCtx, map,
+					mapArguments.getAttributeName(),
+					mapArguments.getElementClass(), mapArguments.getAnnotations(),
+					elementStrategy, elementValues, count,
+					mapArguments.getElementGenericTypeArgs());
+			if (added >= 0) {
+				consumeElements(manufacturingCtx,
+						mapArguments.getElementClass(), added);
+				count = added;
+			} else {
+				elementValues = null;
+			}
 
-				elementValue = getMapKeyOrElementValue(valueArguments, manufacturingCtx);
+			final Object[] keys = null != keyValues
+					? keyValues.toArray() : new Object[count];
+			final Object[] elements = null != elementValues
+					? elementValues.toArray() : new Object[count];
+			final boolean manufactureKeys = null == keyValues;
+			final boolean manufactureElements = null == elementValues;
+			final int entryCount = count;
+			ElementFiller filler = new ElementFiller() {
+
+				@Override
+				public int fill(ManufacturingContext rangeCtx, int from, int to)
+						throws InstantiationException, IllegalAccessException,
+						InvocationTargetException, ClassNotFoundException {
+
+					int i = from;
+					for (; i < to
+							&& !shouldStop(rangeCtx, mapArguments.getElementClass()); i++) {
+
+						if (manufactureKeys) {
+							keys[i] = manufactureMapKeyOrElement(mapArguments,
+									true, keyStrategy, rangeCtx);
+						}
+
+						if (manufactureElements) {
+							elements[i] = manufactureMapKeyOrElement(mapArguments,
+									false, elementStrategy, rangeCtx);
+						}
+					}
+					return i;
+				}
 
-				/* ConcurrentHashMap doesn't allow null values */
-				if (elementValue != null || !(map instanceof ConcurrentHashMap)) {
-					map.put(keyValue, elementValue);
+				@Override
+				public void complete(ManufacturingContext completionCtx,
+						BitSet filled) {
+
+					try {
+						for (int i = 0; i < entryCount; i++) {
+
+							/* After cancellation only manufactured entries are put */
+							if (!filled.get(i)) {
+								continue;
+							}
+							/* ConcurrentHashMap doesn't allow null values */
+							if (elements[i] != null || !(map instanceof ConcurrentHashMap)) {
+								map.put(keys[i], elements[i]);
+							}
+						}
+					} catch (UnsupportedOperationException e) {
+
+						LOG.warn("Cannot fill immutable map {}", map.getClass());
+					}
+					consumeStorage(completionCtx, map, map.size() - size);
 				}
+			};
+			if (manufactureKeys || manufactureElements) {
+				fillElements(manufacturingCtx, count, filler);
+			} else {
+				BitSet filled = new BitSet(count);
+				filled.set(0, count);
+				filler.complete(manufacturingCtx, filled);
 			}
 		} catch (UnsupportedOperationException e) {
 
-			LOG.warn("Cannot fill immutable map {}", map.getClass());
+			LOG.warn("Cannot fill immutable map {}", map.getClass());
+		}
+	}
+
+	/**
+	 * It manufactures a key or an element of a map.
+	 *
+	 * @param mapArguments
+	 *            The arguments of the map
+	 * @param key
+	 *            true to manufacture a key, false to manufacture an element
+	 * @param keyOrElementStrategy
+	 *            The strategy of keys or elements or null
+	 * @param manufacturingCtx
+	 *            the manufacturing context
+	 * @return A Map key or value
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private Object manufactureMapKeyOrElement(MapArguments mapArguments,
+			boolean key, AttributeStrategy<?> keyOrElementStrategy,
+			ManufacturingContext manufacturingCtx)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		MapKeyOrElementsArguments valueArguments = new MapKeyOrElementsArguments();
+		valueArguments.setAttributeName(mapArguments.getAttributeName());
+		valueArguments.setMapToBeFilled(mapArguments.getMapToBeFilled());
+		valueArguments.getAnnotations().addAll(mapArguments.getAnnotations());
+		valueArguments.setElementStrategy(keyOrElementStrategy);
+		if (key) {
+			valueArguments.setKeyOrValueType(mapArguments.getKeyOrValueType());
+			valueArguments.setGenericTypeArgs(mapArguments.getKeyGenericTypeArgs());
+		} else {
+			valueArguments.setKeyOrValueType(mapArguments.getElementClass());
+			valueArguments.setGenericTypeArgs(mapArguments.getElementGenericTypeArgs());
 		}
+		return getMapKeyOrElementValue(valueArguments, manufacturingCtx);
 	}
 
 	/**
@@ -1604,10 +3799,10 @@ public class PodamFactoryImpl implements PodamFactory {
 	 *             If it was not possible to create a class from a string
 	 *
 	 */
-	private void fillArray(Object array, String attributeName, Class<?> elementType,
-			Type genericElementType, List<Annotation> annotations,
+	private void fillArray(final Object array, final String attributeName, Class<?> elementType,
+			Type genericElementType, final List<Annotation> annotations,
 			ManufacturingContext manufacturingCtx,
-			Map<String, Type> typeArgsMap)
+			final Map<String, Type> typeArgsMap)
 			throws InstantiationException, IllegalAccessException,
 			InvocationTargetException, ClassNotFoundException {
 
@@ -1638,28 +3833,487 @@ public class PodamFactoryImpl implements PodamFactory {
 		TypeManufacturerUtil.findCollectionSize(strategy,
 				annotations, elementType,
 				elementStrategyHolder, keyStrategyHolder);
-		AttributeStrategy<?> elementStrategy = elementStrategyHolder.value;
+		final AttributeStrategy<?> elementStrategy = elementStrategyHolder.value;
+
+		AttributeMetadata elementMetadata = new AttributeMetadata(
+				attributeName, componentType, genericComponentType,
+				genericTypeArgs.get(), annotations, array.getClass(), array);
+
+		int length = Array.getLength(array);
+		/* Arrays, which cannot be filled within the budget, are filled one
+		 * element after another */
+		if (isDefaultStrategy(elementStrategy) && !strategy.isMemoizationEnabled()
+				&& !manufacturingCtx.isKeepingValues()
+				&& strategy instanceof AbstractRandomDataProviderStrategy
+				&& getRemainingElements(manufacturingCtx, componentType, length) == length) {
+			int filled = fillArrayWithTypeValues(manufacturingCtx,
+					elementMetadata, array);
+			if (filled >= 0) {
+				consumeElements(manufacturingCtx, componentType, filled);
+				return;
+			}
+		}
+
+		if (isLeafArrayComponent(componentType)) {
+			fillLeafArray(array, elementMetadata, elementStrategy,
+					manufacturingCtx, typeArgsMap);
+			return;
+		}
+
+		final Class<?> elementClass = componentType;
+		final Type genericElementClass = genericComponentType;
+		final Type[] elementGenericTypeArgs = genericTypeArgs.get();
+		fillElements(manufacturingCtx, Array.getLength(array), new ElementFiller() {
+
+			@Override
+			public int fill(ManufacturingContext rangeCtx, int from, int to)
+					throws InstantiationException, IllegalAccessException,
+					InvocationTargetException, ClassNotFoundException {
+
+				int i = from;
+				for (; i < to
+						&& !shouldStop(rangeCtx, elementClass); i++) {
+
+					Object arrayElement = Array.get(array, i);
+					boolean reusing = rangeCtx.isReusingValues();
+					boolean keeping = rangeCtx.isKeepingValues();
+					if (reusing && repopulateValue(arrayElement, rangeCtx,
+							elementGenericTypeArgs)) {
+						continue;
+					}
+
+					if (null == arrayElement || (!keeping && (reusing || arrayElement.getClass().isPrimitive() || arrayElement instanceof Number))) {
+						// The default
+						arrayElement = TypeManufacturerUtil.returnAttributeDataStrategyValue(
+								elementClass, annotations, elementStrategy);
+
+						if (null == arrayElement) {
+							arrayElement = manufactureAttributeValue(array, rangeCtx,
+									elementClass, genericElementClass,
+									annotations, attributeName,
+									typeArgsMap, elementGenericTypeArgs);
+						}
+
+						Array.set(array, i, arrayElement);
+					}
+				}
+				return i;
+			}
+		});
+	}
+
+	/**
+	 * It adjusts the number of elements of a container with the collection
+	 * size policy of the strategy.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context of the container
+	 * @param nbrElements
+	 *            the requested number of elements
+	 * @return the number of elements to manufacture
+	 */
+	private int getNumberOfElements(ManufacturingContext manufacturingCtx,
+			int nbrElements) {
+
+		CollectionSizePolicy policy = strategy instanceof AbstractRandomDataProviderStrategy
+				? ((AbstractRandomDataProviderStrategy) strategy).getCollectionSizePolicy()
+				: null;
+		if (null == policy) {
+			return nbrElements;
+		}
+		int adjusted = policy.getNumberOfElements(nbrElements,
+				manufacturingCtx.getFanOut());
+		if (adjusted != nbrElements) {
+			LOG.debug("Adjusted container size from {} to {} at fan-out {}",
+					new Object[] { nbrElements, adjusted, manufacturingCtx.getFanOut() });
+		}
+		return adjusted;
+	}
+
+	/**
+	 * It manufactures a range of container elements, splitting it into
+	 * parallel tasks, if the range is large enough, and completes the
+	 * container, once the elements are populated.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context of the container
+	 * @param count
+	 *            the number of elements
+	 * @param filler
+	 *            the code manufacturing elements
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private void fillElements(ManufacturingContext manufacturingCtx,
+			int count, ElementFiller filler)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		long fanOut = manufacturingCtx.getFanOut();
+		long elementsFanOut = fanOut * Math.max(1, count);
+		manufacturingCtx.setFanOut(elementsFanOut < fanOut ? Long.MAX_VALUE : elementsFanOut);
+		try {
+			fillElementRanges(manufacturingCtx, count, filler);
+		} finally {
+			manufacturingCtx.setFanOut(fanOut);
+		}
+	}
+
+	/**
+	 * It manufactures a range of container elements with the fan-out of the
+	 * elements set in the manufacturing context.
+	 * <p>
+	 * Elements may be hashed by the container, so they are added, once they
+	 * are populated. If the context has a work queue, the completion of the
+	 * container is scheduled before the elements are manufactured, so it
+	 * runs after their populations and the queue is drained by the caller
+	 * instead of at each level of nested containers.
+	 * </p>
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context of the container
+	 * @param count
+	 *            the number of elements
+	 * @param filler
+	 *            the code manufacturing elements
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private void fillElementRanges(ManufacturingContext manufacturingCtx,
+			int count, final ElementFiller filler)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		final BitSet filled = new BitSet(count);
+		Executor executor = parallelExecutor;
+		if (null == executor || count < parallelThreshold
+				|| manufacturingCtx.isForked()
+				|| strategy.isMemoizationEnabled()) {
+			boolean scheduled = scheduleCompletion(manufacturingCtx,
+					new ManufacturingTask(manufacturingCtx.getPojos()) {
+
+				@Override
+				public void run(ManufacturingContext completionCtx) {
+					filler.complete(completionCtx, filled);
+				}
+			});
+			filled.set(0, filler.fill(manufacturingCtx, 0, count));
+			if (!scheduled) {
+				filler.complete(manufacturingCtx, filled);
+			}
+			return;
+		}
+
+		int rangeSize = Math.max(1,
+				parallelThreshold / PARALLEL_CHUNKS_PER_THRESHOLD);
+		Random seeds = PodamUtils.getRandom();
+		List<FutureTask<Integer>> ranges = new ArrayList<FutureTask<Integer>>();
+		for (int from = 0; from < count; from += rangeSize) {
+			ranges.add(new FutureTask<Integer>(new ElementRange(filler,
+					manufacturingCtx.fork(), from,
+					Math.min(count, from + rangeSize), seeds.nextLong())));
+		}
+		LOG.debug("Manufacturing {} elements in {} parallel ranges",
+				count, ranges.size());
+
+		try {
+			/* The first range is left to the calling thread */
+			for (int i = 1; i < ranges.size(); i++) {
+				try {
+					executor.execute(ranges.get(i));
+				} catch (RejectedExecutionException e) {
+					LOG.debug("Executor is saturated, the calling thread"
+							+ " manufactures remaining ranges", e);
+					break;
+				}
+			}
+			for (int i = 0; i < ranges.size(); i++) {
+				FutureTask<Integer> range = ranges.get(i);
+				/* Does nothing, if the executor has started the range */
+				range.run();
+				filled.set(i * rangeSize, range.get());
+			}
+			/* Ranges populate their elements before they complete */
+			filler.complete(manufacturingCtx, filled);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PodamMockeryException(
+					"Interrupted while manufacturing elements", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof InstantiationException) {
+				throw (InstantiationException) cause;
+			} else if (cause instanceof IllegalAccessException) {
+				throw (IllegalAccessException) cause;
+			} else if (cause instanceof InvocationTargetException) {
+				throw (InvocationTargetException) cause;
+			} else if (cause instanceof ClassNotFoundException) {
+				throw (ClassNotFoundException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new PodamMockeryException(cause.getMessage(), cause);
+		} finally {
+			for (FutureTask<Integer> range : ranges) {
+				range.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Checks, if array elements of the given type can be filled in bulk.
+	 * <p>
+	 * Bulk filling is possible for primitive, wrapper and String elements
+	 * unless memoization is enabled, as memoized values are shared between
+	 * all the elements.
+	 * </p>
+	 *
+	 * @param componentType
+	 *            The array element type
+	 * @return true, if elements can be filled by {@link #fillLeafArray}
+	 */
+	private boolean isLeafArrayComponent(Class<?> componentType) {
 
-		int nbrElements = Array.getLength(array);
-		for (int i = 0; i < nbrElements; i++) {
+		return (componentType.isPrimitive()
+				|| LEAF_ARRAY_COMPONENTS.contains(componentType))
+				&& !strategy.isMemoizationEnabled();
+	}
 
-			Object arrayElement = Array.get(array, i);
+	/**
+	 * It fills an array of primitive, wrapper or String elements.
+	 * <p>
+	 * Elements are produced in a tight loop directly by the strategy, sharing
+	 * one attribute metadata, and stored without reflection. Missing values
+	 * and values of other wrapper types are stored with {@link Array#set},
+	 * which widens them or rejects them as before.
+	 * </p>
+	 *
+	 * @param array
+	 *            The array POJO
+	 * @param elementMetadata
+	 *            The metadata of the array elements
+	 * @param elementStrategy
+	 *            The strategy for array elements or null
+	 * @param manufacturingCtx
+	 *            Manufacturing context
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private void fillLeafArray(Object array, AttributeMetadata elementMetadata,
+			AttributeStrategy<?> elementStrategy,
+			ManufacturingContext manufacturingCtx,
+			Map<String, Type> typeArgsMap)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
 
-			if (null == arrayElement || arrayElement.getClass().isPrimitive() || arrayElement instanceof Number) {
-				// The default
-				arrayElement = TypeManufacturerUtil.returnAttributeDataStrategyValue(
-						componentType, annotations, elementStrategy);
+		Class<?> componentType = elementMetadata.getAttributeType();
+		boolean keeping = manufacturingCtx.isKeepingValues();
+		if (!keeping && isDefaultStrategy(elementStrategy)
+				&& fillPrimitiveArray(array, elementMetadata, manufacturingCtx)) {
+			return;
+		}
 
-				if (null == arrayElement) {
-					arrayElement = manufactureAttributeValue(array, manufacturingCtx,
-							componentType, genericComponentType,
-							annotations, attributeName,
-							typeArgsMap, genericTypeArgs.get());
+		if (componentType.isPrimitive()) {
+			/* Like missing primitive attributes, only default values are
+			 * filled, when keeping values */
+			int length = Array.getLength(array);
+			for (int i = 0; i < length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				if (!keeping || isMissingValue(Array.get(array, i), componentType)) {
+					Array.set(array, i, nextLeafArrayElement(array, elementMetadata,
+							elementStrategy, manufacturingCtx, typeArgsMap));
+				}
+			}
+		} else {
+			Object[] values = (Object[]) array;
+			for (int i = 0; i < values.length
+					&& !shouldStop(manufacturingCtx, componentType); i++) {
+				if (null == values[i]
+						|| (manufacturingCtx.isReusingValues() && !keeping)) {
+					values[i] = nextLeafArrayElement(array, elementMetadata,
+							elementStrategy, manufacturingCtx, typeArgsMap);
 				}
+			}
+		}
+	}
+
+	/**
+	 * It fills a primitive array with unboxed values.
+	 * <p>
+	 * Only possible, if the manufacturer registered for the array component
+	 * type is a {@link PrimitiveTypeManufacturer} of this type.
+	 * </p>
+	 *
+	 * @param array
+	 *            The array POJO
+	 * @param elementMetadata
+	 *            The metadata of the array elements
+	 * @param manufacturingCtx
+	 *            Manufacturing context
+	 * @return true, if the array was filled or filling was cancelled
+	 */
+	private boolean fillPrimitiveArray(Object array,
+			AttributeMetadata elementMetadata,
+			ManufacturingContext manufacturingCtx) {
 
-				Array.set(array, i, arrayElement);
+		if (!(strategy instanceof AbstractRandomDataProviderStrategy)) {
+			return false;
+		}
+		TypeManufacturer<?> manufacturer = ((AbstractRandomDataProviderStrategy) strategy)
+				.getTypeManufacturer(elementMetadata.getAttributeType());
+
+		if (array instanceof int[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfInt) {
+			PrimitiveTypeManufacturer.OfInt ints
+					= (PrimitiveTypeManufacturer.OfInt) manufacturer;
+			int[] values = (int[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = ints.nextInt(strategy, elementMetadata);
+			}
+		} else if (array instanceof long[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfLong) {
+			PrimitiveTypeManufacturer.OfLong longs
+					= (PrimitiveTypeManufacturer.OfLong) manufacturer;
+			long[] values = (long[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = longs.nextLong(strategy, elementMetadata);
+			}
+		} else if (array instanceof double[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfDouble) {
+			PrimitiveTypeManufacturer.OfDouble doubles
+					= (PrimitiveTypeManufacturer.OfDouble) manufacturer;
+			double[] values = (double[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = doubles.nextDouble(strategy, elementMetadata);
+			}
+		} else if (array instanceof float[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfFloat) {
+			PrimitiveTypeManufacturer.OfFloat floats
+					= (PrimitiveTypeManufacturer.OfFloat) manufacturer;
+			float[] values = (float[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = floats.nextFloat(strategy, elementMetadata);
 			}
+		} else if (array instanceof short[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfShort) {
+			PrimitiveTypeManufacturer.OfShort shorts
+					= (PrimitiveTypeManufacturer.OfShort) manufacturer;
+			short[] values = (short[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = shorts.nextShort(strategy, elementMetadata);
+			}
+		} else if (array instanceof byte[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfByte) {
+			PrimitiveTypeManufacturer.OfByte bytes
+					= (PrimitiveTypeManufacturer.OfByte) manufacturer;
+			byte[] values = (byte[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = bytes.nextByte(strategy, elementMetadata);
+			}
+		} else if (array instanceof char[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfChar) {
+			PrimitiveTypeManufacturer.OfChar chars
+					= (PrimitiveTypeManufacturer.OfChar) manufacturer;
+			char[] values = (char[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = chars.nextChar(strategy, elementMetadata);
+			}
+		} else if (array instanceof boolean[]
+				&& manufacturer instanceof PrimitiveTypeManufacturer.OfBoolean) {
+			PrimitiveTypeManufacturer.OfBoolean booleans
+					= (PrimitiveTypeManufacturer.OfBoolean) manufacturer;
+			boolean[] values = (boolean[]) array;
+			for (int i = 0; i < values.length
+					&& !isCancelledAt(manufacturingCtx, i); i++) {
+				values[i] = booleans.nextBoolean(strategy, elementMetadata);
+			}
+		} else {
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * It produces a value for a primitive, wrapper or String array element.
+	 *
+	 * @param array
+	 *            The array POJO
+	 * @param elementMetadata
+	 *            The metadata of the array elements
+	 * @param elementStrategy
+	 *            The strategy for array elements or null
+	 * @param manufacturingCtx
+	 *            Manufacturing context
+	 * @param typeArgsMap
+	 *            a map relating the generic class arguments ("&lt;T, V&gt;" for
+	 *            example) with their actual types
+	 * @return The array element value
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If it was not possible to create a class from a string
+	 */
+	private Object nextLeafArrayElement(Object array,
+			AttributeMetadata elementMetadata, AttributeStrategy<?> elementStrategy,
+			ManufacturingContext manufacturingCtx, Map<String, Type> typeArgsMap)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException {
+
+		Class<?> componentType = elementMetadata.getAttributeType();
+		Object value = TypeManufacturerUtil.returnAttributeDataStrategyValue(
+				componentType, elementMetadata.getAttributeAnnotations(),
+				elementStrategy);
+		if (null == value) {
+			value = strategy.getTypeValue(elementMetadata, NULL_TYPE_ARGS_MAP,
+					componentType);
+		}
+		if (null != value) {
+			consumeElements(manufacturingCtx, componentType, 1);
+		} else {
+			value = manufactureAttributeValue(array, manufacturingCtx,
+					componentType, elementMetadata.getAttributeGenericType(),
+					elementMetadata.getAttributeAnnotations(),
+					elementMetadata.getAttributeName(), typeArgsMap);
 		}
+		return value;
 	}
 
 	/**
@@ -1699,6 +4353,20 @@ public class PodamFactoryImpl implements PodamFactory {
 		Class<Object> arrayType
 				= (Class<Object>) attributeMetadata.getAttributeType();
 		Object array = strategy.getTypeValue(attributeMetadata, typeArgsMap, arrayType);
+		if (null != array) {
+			Class<?> componentType = arrayType.getComponentType();
+			int length = Array.getLength(array);
+			int nbrElements = getNumberOfElements(manufacturingCtx, length);
+			ManufacturingBudget.Usage budgetUsage = manufacturingCtx.getBudgetUsage();
+			if (null != budgetUsage) {
+				nbrElements = budgetUsage.getRemainingLength(componentType, nbrElements);
+				budgetUsage.consume(arrayType, ManufacturingBudget.estimateArraySize(
+						componentType, nbrElements));
+			}
+			if (nbrElements < length) {
+				array = Array.newInstance(componentType, nbrElements);
+			}
+		}
 		fillArray(array, attributeMetadata.getAttributeName(),
 				attributeMetadata.getAttributeType(),
 				attributeMetadata.getAttributeGenericType(),
@@ -1906,9 +4574,21 @@ public class PodamFactoryImpl implements PodamFactory {
 			typeArgsMapForParam = typeArgsMap;
 		}
 
-		return manufactureAttributeValue(pojoClass, manufacturingCtx, parameterType,
-				genericType, annotations, parameterName, typeArgsMapForParam,
-				genericTypeArgs);
+		int mark = null != manufacturingCtx.getTasks()
+				? manufacturingCtx.getTasks().size() : 0;
+		/* Arguments are required to create POJOs, so they are not projected */
+		AttributeProjection projection = manufacturingCtx.getProjection();
+		manufacturingCtx.setProjection(null);
+		try {
+			Object parameterValue = manufactureAttributeValue(pojoClass,
+					manufacturingCtx, parameterType, genericType, annotations,
+					parameterName, typeArgsMapForParam, genericTypeArgs);
+			/* Arguments are used right away, so they are populated first */
+			runTasks(manufacturingCtx, mark);
+			return parameterValue;
+		} finally {
+			manufacturingCtx.setProjection(projection);
+		}
 	}
 
     /**
@@ -1952,10 +4632,460 @@ public class PodamFactoryImpl implements PodamFactory {
             }
         }
 
+        if (lazyInterfaces && isLazyInterface(pojoClass)) {
+            LazyPojoHandler handler = new LazyPojoHandler(pojoClass,
+                    manufacturingCtx, typeArgsMap);
+            return pojoClass.cast(Proxy.newProxyInstance(
+                    pojoClass.getClassLoader(), new Class<?>[] { pojoClass },
+                    handler));
+        }
+
         return resortToExternalFactory(manufacturingCtx,
                 "Cannot instantiate a class {}. Resorting to {} external factory",
                 pojoClass, genericTypeArgs);
     }
 
+    /**
+     * Checks, if the type can be implemented by a lazily populated proxy.
+     * @param pojoClass The Pojo class
+     * @return true, if the type is an interface of the application
+     */
+    private static boolean isLazyInterface(Class<?> pojoClass) {
+
+        if (!pojoClass.isInterface()
+                || Collection.class.isAssignableFrom(pojoClass)
+                || Map.class.isAssignableFrom(pojoClass)) {
+            return false;
+        }
+        String name = pojoClass.getName();
+        return !name.startsWith("java.") && !name.startsWith("javax.");
+    }
+
+
+
+	// ------------------->> Nested types
+
+	/**
+	 * Code manufacturing a range of container elements
+	 */
+	private abstract static class ElementFiller {
+
+		/**
+		 * It manufactures elements with indexes from {@code from} inclusive
+		 * to {@code to} exclusive, unless manufacturing is cancelled.
+		 *
+		 * @param manufacturingCtx
+		 *            the manufacturing context of the range
+		 * @param from
+		 *            the index of the first element
+		 * @param to
+		 *            the index after the last element
+		 * @return the index after the last manufactured element
+		 * @throws InstantiationException
+		 *             If an exception occurred during instantiation
+		 * @throws IllegalAccessException
+		 *             If security was violated while creating the object
+		 * @throws InvocationTargetException
+		 *             If an exception occurred while invoking the constructor
+		 *             or factory method
+		 * @throws ClassNotFoundException
+		 *             If it was not possible to create a class from a string
+		 */
+		public abstract int fill(ManufacturingContext manufacturingCtx,
+				int from, int to)
+				throws InstantiationException, IllegalAccessException,
+				InvocationTargetException, ClassNotFoundException;
+
+		/**
+		 * It completes the container, once the manufactured elements are
+		 * populated. Arrays hold their elements already, so by default
+		 * nothing is done.
+		 *
+		 * @param manufacturingCtx
+		 *            the manufacturing context of the container
+		 * @param filled
+		 *            the indexes of manufactured elements, all of them
+		 *            unless manufacturing was cancelled
+		 */
+		public void complete(ManufacturingContext manufacturingCtx,
+				BitSet filled) {
+		}
+	}
+
+	/**
+	 * Task manufacturing a range of container elements with its own random
+	 * number generator
+	 */
+	private class ElementRange implements Callable<Integer> {
+
+		/** The code manufacturing elements */
+		private final ElementFiller filler;
+
+		/** The forked manufacturing context of the range */
+		private final ManufacturingContext manufacturingCtx;
+
+		/** The index of the first element */
+		private final int from;
+
+		/** The index after the last element */
+		private final int to;
+
+		/** The seed of the random number generator of the range */
+		private final long seed;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param filler
+		 *            the code manufacturing elements
+		 * @param manufacturingCtx
+		 *            the forked manufacturing context of the range
+		 * @param from
+		 *            the index of the first element
+		 * @param to
+		 *            the index after the last element
+		 * @param seed
+		 *            the seed of the random number generator of the range
+		 */
+		ElementRange(ElementFiller filler,
+				ManufacturingContext manufacturingCtx, int from, int to,
+				long seed) {
+			this.filler = filler;
+			this.manufacturingCtx = manufacturingCtx;
+			this.from = from;
+			this.to = to;
+			this.seed = seed;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Integer call() throws Exception {
+
+			Random previous = PodamUtils.setThreadRandom(new Random(seed));
+			try {
+				int stop = filler.fill(manufacturingCtx, from, to);
+				runTasks(manufacturingCtx, 0);
+				return stop;
+			} finally {
+				PodamUtils.setThreadRandom(previous);
+			}
+		}
+	}
+
+	/**
+	 * Source manufacturing elements of a virtual container on access
+	 * <p>
+	 * Each element is manufactured with a copy of the manufacturing context
+	 * of the container and a random number generator seeded from the seed
+	 * of the container and the index of the element, so an index always
+	 * produces an equal element. Elements are accessed after the
+	 * manufacturing call completed, so they are not limited by its
+	 * cancellation token or budget.
+	 * </p>
+	 *
+	 * @param <E> The type of elements
+	 */
+	private abstract class VirtualElementSource<E> implements ElementSource<E> {
+
+		/** The manufacturing context of the container */
+		private final ManufacturingContext manufacturingCtx;
+
+		/** The seed of the container */
+		private final long seed;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param manufacturingCtx
+		 *            the manufacturing context of the container, which is
+		 *            copied
+		 * @param size
+		 *            the number of elements of the container
+		 */
+		VirtualElementSource(ManufacturingContext manufacturingCtx, int size) {
+			this.manufacturingCtx = manufacturingCtx.fork();
+			this.manufacturingCtx.setCancellationToken(null);
+			this.manufacturingCtx.setBudgetUsage(null);
+			long fanOut = manufacturingCtx.getFanOut() * Math.max(1, size);
+			this.manufacturingCtx.setFanOut(fanOut < manufacturingCtx.getFanOut()
+					? Long.MAX_VALUE : fanOut);
+			this.seed = PodamUtils.getRandom().nextLong();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public E getElement(int index) {
+
+			ManufacturingContext elementCtx = manufacturingCtx.fork();
+			Random previous = PodamUtils.setThreadRandom(
+					new Random(seed ^ (index * VIRTUAL_SEED_INCREMENT)));
+			try {
+				E element = manufacture(elementCtx);
+				runTasks(elementCtx, 0);
+				return element;
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new PodamMockeryException(
+						"Unable to manufacture element " + index, e);
+			} finally {
+				PodamUtils.setThreadRandom(previous);
+			}
+		}
+
+		/**
+		 * It manufactures an element.
+		 *
+		 * @param elementCtx
+		 *            the manufacturing context of the element
+		 * @return the element
+		 * @throws InstantiationException
+		 *             If an exception occurred during instantiation
+		 * @throws IllegalAccessException
+		 *             If security was violated while creating the object
+		 * @throws InvocationTargetException
+		 *             If an exception occurred while invoking the constructor or
+		 *             factory method
+		 * @throws ClassNotFoundException
+		 *             If it was not possible to create a class from a string
+		 */
+		protected abstract E manufacture(ManufacturingContext elementCtx)
+				throws InstantiationException, IllegalAccessException,
+				InvocationTargetException, ClassNotFoundException;
+	}
+
+	/**
+	 * Handler of a proxy implementing an interface, which manufactures
+	 * values of attributes on access
+	 * <p>
+	 * A value is manufactured, when the getter of the attribute is called
+	 * for the first time, with a copy of the manufacturing context of the
+	 * proxy, and cached for the later calls. Setters replace cached values.
+	 * Zero-argument methods, which are not getters, are treated as getters
+	 * of attributes named after them. Other void methods do nothing.
+	 * </p>
+	 */
+	private class LazyPojoHandler implements InvocationHandler {
+
+		/** Cached value of attributes, which were manufactured as null */
+		private final Object nullValue = new Object();
+
+		/** The implemented interface */
+		private final Class<?> pojoClass;
+
+		/** The manufacturing context of the proxy */
+		private final ManufacturingContext manufacturingCtx;
+
+		/** The actual types of type variables of the interface */
+		private final Map<String, Type> typeArgsMap;
+
+		/** Attributes of the interface and its super interfaces */
+		private final Map<Method, ClassAttribute> getters
+				= new HashMap<Method, ClassAttribute>();
+
+		/** Attributes set by setters */
+		private final Map<Method, ClassAttribute> setters
+				= new HashMap<Method, ClassAttribute>();
+
+		/** Values of accessed attributes */
+		private final Map<String, Object> values
+				= new ConcurrentHashMap<String, Object>();
+
+		/**
+		 * Constructor.
+		 *
+		 * @param pojoClass
+		 *            the implemented interface
+		 * @param manufacturingCtx
+		 *            the manufacturing context of the proxy, which is copied
+		 * @param typeArgsMap
+		 *            the actual types of type variables of the interface
+		 */
+		LazyPojoHandler(Class<?> pojoClass,
+				ManufacturingContext manufacturingCtx,
+				Map<String, Type> typeArgsMap) {
+
+			this.pojoClass = pojoClass;
+			this.manufacturingCtx = manufacturingCtx.fork();
+			this.manufacturingCtx.setCancellationToken(null);
+			this.manufacturingCtx.setBudgetUsage(null);
+			this.typeArgsMap = new HashMap<String, Type>(typeArgsMap);
+
+			Deque<Class<?>> interfaces = new ArrayDeque<Class<?>>();
+			Set<Class<?>> visited = new HashSet<Class<?>>();
+			interfaces.add(pojoClass);
+			while (!interfaces.isEmpty()) {
+				Class<?> type = interfaces.poll();
+				if (visited.add(type)) {
+					ClassInfo classInfo = getInterfaceInfo(type);
+					for (ClassAttribute attribute : classInfo.getClassAttributes()) {
+						for (Method getter : attribute.getGetters()) {
+							getters.put(getter, attribute);
+						}
+						for (Method setter : attribute.getSetters()) {
+							setters.put(setter, attribute);
+						}
+					}
+					interfaces.addAll(Arrays.asList(type.getInterfaces()));
+				}
+			}
+		}
+
+		/**
+		 * It returns class information of an interface, including
+		 * attributes, which have accessors only.
+		 *
+		 * @param type
+		 *            the interface
+		 * @return class information of the interface
+		 */
+		private ClassInfo getInterfaceInfo(Class<?> type) {
+
+			final ClassAttributeApprover approver
+					= classInfoStrategy.getClassAttributeApprover(type);
+			ClassAttributeApprover accessorApprover = new ClassAttributeApprover() {
+
+				@Override
+				public boolean approve(ClassAttribute attribute) {
+					return null == attribute.getAttribute()
+							|| null == approver || approver.approve(attribute);
+				}
+			};
+			AbstractClassInfoStrategy introspector = (classInfoStrategy
+					instanceof AbstractClassInfoStrategy
+					? (AbstractClassInfoStrategy) classInfoStrategy
+					: DefaultClassInfoStrategy.getInstance());
+			Set<String> excludedFields = classInfoStrategy.getExcludedFields(type);
+			if (null == excludedFields) {
+				excludedFields = Collections.emptySet();
+			}
+			return introspector.getClassInfo(type,
+					classInfoStrategy.getExcludedAnnotations(), excludedFields,
+					accessorApprover, Collections.<Method>emptyList());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args)
+				throws Throwable {
+
+			if (Object.class.equals(method.getDeclaringClass())) {
+				String name = method.getName();
+				if ("equals".equals(name)) {
+					return proxy == args[0];
+				} else if ("hashCode".equals(name)) {
+					return System.identityHashCode(proxy);
+				} else {
+					return pojoClass.getName() + "@"
+							+ Integer.toHexString(System.identityHashCode(proxy));
+				}
+			}
+
+			ClassAttribute attribute = setters.get(method);
+			if (null != attribute && args.length == 1) {
+				values.put(attribute.getName(),
+						null != args[0] ? args[0] : nullValue);
+				return method.getReturnType().isInstance(proxy) ? proxy : null;
+			}
+
+			if (null == args || args.length == 0) {
+				if (void.class.equals(method.getReturnType())) {
+					return null;
+				}
+				attribute = getters.get(method);
+				String attributeName = (null != attribute
+						? attribute.getName() : method.getName());
+				Object value = getValue(proxy, method, attribute, attributeName);
+				if (null == value && method.getReturnType().isPrimitive()) {
+					return Array.get(Array.newInstance(
+							method.getReturnType(), 1), 0);
+				}
+				return value;
+			}
+
+			if (void.class.equals(method.getReturnType())) {
+				return null;
+			}
+			throw new UnsupportedOperationException("Method " + method
+					+ " is not supported by lazily populated " + pojoClass);
+		}
+
+		/**
+		 * It returns the cached value of an attribute or manufactures it.
+		 *
+		 * @param proxy
+		 *            the proxy
+		 * @param getter
+		 *            the called getter
+		 * @param attribute
+		 *            the attribute of the getter or null
+		 * @param attributeName
+		 *            the name of the attribute
+		 * @return the value of the attribute
+		 */
+		private synchronized Object getValue(Object proxy, Method getter,
+				ClassAttribute attribute, String attributeName) {
+
+			Object value = values.get(attributeName);
+			if (null == value) {
+				value = manufacture(proxy, getter, attribute, attributeName);
+				values.put(attributeName, null != value ? value : nullValue);
+			}
+			return value != nullValue ? value : null;
+		}
+
+		/**
+		 * It manufactures the value of an attribute.
+		 *
+		 * @param proxy
+		 *            the proxy
+		 * @param getter
+		 *            the called getter
+		 * @param attribute
+		 *            the attribute of the getter or null
+		 * @param attributeName
+		 *            the name of the attribute
+		 * @return the value of the attribute
+		 */
+		private Object manufacture(Object proxy, Method getter,
+				ClassAttribute attribute, String attributeName) {
+
+			LOG.debug("Manufacturing lazy attribute {} of {}",
+					attributeName, pojoClass);
+
+			List<Annotation> annotations = PodamUtils.getAttributeAnnotations(
+					null != attribute ? attribute.getAttribute() : null, getter);
+
+			AtomicReference<Type[]> typeGenericTypeArgs
+					= new AtomicReference<Type[]>(PodamConstants.NO_TYPES);
+			Type genericType = getter.getGenericReturnType();
+			Class<?> attributeType = getter.getReturnType();
+			Type[] typeArguments = PodamConstants.NO_TYPES;
+			if (!(genericType instanceof GenericArrayType)) {
+				attributeType = TypeManufacturerUtil.resolveGenericParameter(
+						genericType, typeArgsMap, typeGenericTypeArgs);
+				typeArguments = typeGenericTypeArgs.get();
+			}
 
+			ManufacturingContext attributeCtx = manufacturingCtx.fork();
+			try {
+				Object value = manufactureAttributeValue(proxy, attributeCtx,
+						attributeType, genericType, annotations,
+						attributeName, typeArgsMap, typeArguments);
+				runTasks(attributeCtx, 0);
+				return value;
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new PodamMockeryException("Unable to manufacture "
+						+ attributeName + " of " + pojoClass, e);
+			}
+		}
+	}
 }
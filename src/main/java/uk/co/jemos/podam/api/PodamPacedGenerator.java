@@ -0,0 +1,516 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generator emitting manufactured POJOs at a steady rate, for soak and load
+ * tests.
+ * <p>
+ * Emission is paced by a token bucket: permits are issued at fixed
+ * intervals and each emitted POJO consumes one. If workers fall behind,
+ * they catch up with a burst of at most {@link #BURST_MILLIS} milliseconds
+ * worth of permits, the rest of the missed permits are dropped, so the
+ * rate never exceeds the target for long. Several workers share the
+ * schedule, so the target may be met, even if manufacturing a POJO takes
+ * longer than the interval between permits. The workers share one factory,
+ * see {@link PodamPojoSource} for requirements on its thread-safety.
+ * </p>
+ * <p>
+ * Throughput and lag, the delay between a permit and the emission of the
+ * POJO, are measured over whole seconds and available from
+ * {@link #getMetrics()}.
+ * </p>
+ *
+ * @param <T> The type of the emitted POJOs
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class PodamPacedGenerator<T> {
+
+	/**
+	 * Receiver of emitted POJOs, called by worker threads concurrently
+	 *
+	 * @param <T> The type of the emitted POJOs
+	 */
+	public interface Listener<T> {
+
+		/**
+		 * Called for each emitted POJO.
+		 *
+		 * @param pojo
+		 *            the emitted POJO
+		 */
+		void onPojo(T pojo);
+	}
+
+	/**
+	 * Snapshot of generator metrics
+	 */
+	@Immutable
+	public static class Metrics {
+
+		/** Total number of emitted POJOs */
+		private final long emitted;
+
+		/** Number of POJOs emitted in the last measured second */
+		private final long throughput;
+
+		/** Mean lag in the last measured second */
+		private final long meanLagNanos;
+
+		/** Maximal lag in the last measured second */
+		private final long maxLagNanos;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param emitted
+		 *            total number of emitted POJOs
+		 * @param throughput
+		 *            number of POJOs emitted in the last measured second
+		 * @param meanLagNanos
+		 *            mean lag in the last measured second
+		 * @param maxLagNanos
+		 *            maximal lag in the last measured second
+		 */
+		Metrics(long emitted, long throughput, long meanLagNanos,
+				long maxLagNanos) {
+			this.emitted = emitted;
+			this.throughput = throughput;
+			this.meanLagNanos = meanLagNanos;
+			this.maxLagNanos = maxLagNanos;
+		}
+
+		/**
+		 * It returns the total number of emitted POJOs.
+		 *
+		 * @return number of POJOs emitted since start
+		 */
+		public long getEmitted() {
+			return emitted;
+		}
+
+		/**
+		 * It returns the throughput of the last completed second.
+		 *
+		 * @return number of POJOs emitted in the last measured second
+		 */
+		public long getThroughput() {
+			return throughput;
+		}
+
+		/**
+		 * It returns the mean lag of the last completed second.
+		 *
+		 * @return mean delay between permits and emissions in nanoseconds
+		 */
+		public long getMeanLagNanos() {
+			return meanLagNanos;
+		}
+
+		/**
+		 * It returns the maximal lag of the last completed second.
+		 *
+		 * @return maximal delay between permits and emissions in nanoseconds
+		 */
+		public long getMaxLagNanos() {
+			return maxLagNanos;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString() {
+			return "Metrics [emitted=" + emitted + ", throughput=" + throughput
+					+ ", meanLagNanos=" + meanLagNanos + ", maxLagNanos="
+					+ maxLagNanos + "]";
+		}
+	}
+
+	/** Period of permits workers may catch up with at once */
+	public static final long BURST_MILLIS = 10;
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory.getLogger(PodamPacedGenerator.class);
+
+	/** Nanoseconds in one second */
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	/** Metrics before the first measured second */
+	private static final Metrics NO_METRICS = new Metrics(0, 0, 0, 0);
+
+	/** The source of emitted POJOs */
+	private final PodamPojoSource<T> source;
+
+	/** Interval between permits in nanoseconds */
+	private final long intervalNanos;
+
+	/** Number of workers */
+	private final int workers;
+
+	/** Maximal number of permits workers may catch up with at once */
+	private final long burstPermits;
+
+	/** Time of the next permit */
+	private final AtomicLong nextPermit = new AtomicLong();
+
+	/** Total number of emitted POJOs */
+	private final AtomicLong emitted = new AtomicLong();
+
+	/** Number of POJOs emitted in the current second */
+	private final AtomicLong windowCount = new AtomicLong();
+
+	/** Sum of lags in the current second */
+	private final AtomicLong windowLagSum = new AtomicLong();
+
+	/** Maximal lag in the current second */
+	private final AtomicLong windowMaxLag = new AtomicLong();
+
+	/** Index of the current second since start */
+	private volatile long windowIndex;
+
+	/** Metrics of the last completed second */
+	private volatile Metrics lastWindow = NO_METRICS;
+
+	/** Time of start */
+	private volatile long startNanos;
+
+	/** Whether workers should keep emitting */
+	private volatile boolean running;
+
+	/** Whether the generator was started */
+	private volatile boolean started;
+
+	/** Failure, which stopped the generator */
+	private volatile Throwable failure;
+
+	/** Counted down by finished workers */
+	private final CountDownLatch finished;
+
+	/** Threads running workers, unparked on stop */
+	private final Set<Thread> workerThreads = Collections.newSetFromMap(
+			new ConcurrentHashMap<Thread, Boolean>());
+
+	/**
+	 * Constructor.
+	 *
+	 * @param factory
+	 *            the factory manufacturing POJOs
+	 * @param pojoClass
+	 *            the class of the emitted POJOs
+	 * @param rate
+	 *            the target number of POJOs per second
+	 * @param workers
+	 *            the number of worker threads
+	 * @param genericTypeArgs
+	 *            the generic type arguments of the emitted POJOs
+	 * @throws IllegalArgumentException
+	 *             if rate or number of workers is not positive or
+	 *             memoization is enabled
+	 */
+	public PodamPacedGenerator(PodamFactory factory, Class<T> pojoClass,
+			double rate, int workers, Type... genericTypeArgs) {
+
+		if (!(rate > 0)) {
+			throw new IllegalArgumentException(
+					"The rate should be positive: " + rate);
+		}
+		if (workers <= 0) {
+			throw new IllegalArgumentException(
+					"The number of workers should be positive: " + workers);
+		}
+		this.source = new PodamPojoSource<T>(factory, pojoClass, genericTypeArgs);
+		DataProviderStrategy strategy = factory.getStrategy();
+		if (null != strategy && strategy.isMemoizationEnabled()) {
+			throw new IllegalArgumentException(
+					"POJOs cannot be generated concurrently with memoization enabled");
+		}
+		this.intervalNanos = Math.max(1, (long) (NANOS_PER_SECOND / rate));
+		this.burstPermits = Math.max(1,
+				TimeUnit.MILLISECONDS.toNanos(BURST_MILLIS) / intervalNanos);
+		this.workers = workers;
+		this.finished = new CountDownLatch(workers);
+	}
+
+	/**
+	 * It starts emitting POJOs to the listener.
+	 * <p>
+	 * One POJO is manufactured by the calling thread first to warm the
+	 * factory up, then the workers are started on the executor, which has
+	 * to run all of them at the same time.
+	 * </p>
+	 *
+	 * @param executor
+	 *            the executor running the workers
+	 * @param listener
+	 *            the listener receiving POJOs
+	 * @throws IllegalStateException
+	 *             if the generator was already started
+	 */
+	public synchronized void start(Executor executor,
+			Listener<? super T> listener) {
+
+		if (started) {
+			throw new IllegalStateException("The generator was already started");
+		}
+		started = true;
+		source.iterator(1).next();
+
+		Random seeds = PodamUtils.getRandom();
+		running = true;
+		startNanos = System.nanoTime();
+		nextPermit.set(startNanos);
+		LOG.debug("Emitting {} every {} ns by {} workers",
+				new Object[] { source, intervalNanos, workers });
+		for (int i = 0; i < workers; i++) {
+			executor.execute(new Worker(listener, seeds.nextLong()));
+		}
+	}
+
+	/**
+	 * It starts emitting POJOs to the queue.
+	 * <p>
+	 * Workers block, while the queue is full, which shows up as lag.
+	 * </p>
+	 *
+	 * @param executor
+	 *            the executor running the workers
+	 * @param queue
+	 *            the queue receiving POJOs
+	 * @throws IllegalStateException
+	 *             if the generator was already started
+	 * @see #start(Executor, Listener)
+	 */
+	public void start(Executor executor, final BlockingQueue<? super T> queue) {
+
+		start(executor, new Listener<T>() {
+			@Override
+			public void onPojo(T pojo) {
+				try {
+					queue.put(pojo);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					stop();
+				}
+			}
+		});
+	}
+
+	/**
+	 * It stops emitting POJOs. Workers waiting for permits are woken up,
+	 * workers manufacturing a POJO finish its emission.
+	 */
+	public void stop() {
+
+		running = false;
+		for (Thread thread : workerThreads) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	/**
+	 * It waits for the workers to finish after the generator was stopped.
+	 *
+	 * @param timeout
+	 *            the maximal time to wait
+	 * @param unit
+	 *            the unit of the timeout
+	 * @return true, if all the workers have finished
+	 * @throws InterruptedException
+	 *             if the calling thread was interrupted
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		return finished.await(timeout, unit);
+	}
+
+	/**
+	 * Checks, if the generator emits POJOs.
+	 *
+	 * @return true, if the generator was started and not stopped yet
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * It returns the failure of manufacturing or of the listener, which
+	 * stopped the generator.
+	 *
+	 * @return the failure or null
+	 */
+	public Throwable getFailure() {
+		return failure;
+	}
+
+	/**
+	 * It returns metrics of the last completed second.
+	 *
+	 * @return metrics snapshot
+	 */
+	public Metrics getMetrics() {
+
+		if (started) {
+			record(System.nanoTime(), -1);
+		}
+		Metrics window = lastWindow;
+		return new Metrics(emitted.get(), window.getThroughput(),
+				window.getMeanLagNanos(), window.getMaxLagNanos());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "PodamPacedGenerator [source=" + source + ", intervalNanos="
+				+ intervalNanos + ", workers=" + workers + "]";
+	}
+
+	/**
+	 * It takes the next permit from the bucket, dropping permits, which
+	 * are older than the burst.
+	 *
+	 * @return time of the permit
+	 */
+	private long acquirePermit() {
+
+		long oldest = System.nanoTime() - burstPermits * intervalNanos;
+		long current;
+		long permit;
+		do {
+			current = nextPermit.get();
+			permit = Math.max(current, oldest);
+		} while (!nextPermit.compareAndSet(current, permit + intervalNanos));
+		return permit;
+	}
+
+	/**
+	 * It records an emission, completing the current second, if a new
+	 * second started.
+	 *
+	 * @param now
+	 *            time of the emission
+	 * @param lagNanos
+	 *            delay of the emission after its permit or a negative
+	 *            number, if nothing was emitted
+	 */
+	private void record(long now, long lagNanos) {
+
+		long index = (now - startNanos) / NANOS_PER_SECOND;
+		if (index > windowIndex) {
+			completeWindow(index);
+		}
+		if (lagNanos >= 0) {
+			emitted.incrementAndGet();
+			windowCount.incrementAndGet();
+			windowLagSum.addAndGet(lagNanos);
+			long max;
+			do {
+				max = windowMaxLag.get();
+			} while (lagNanos > max && !windowMaxLag.compareAndSet(max, lagNanos));
+		}
+	}
+
+	/**
+	 * It publishes metrics of the completed second and starts a new one.
+	 *
+	 * @param index
+	 *            index of the new second
+	 */
+	private synchronized void completeWindow(long index) {
+
+		if (index <= windowIndex) {
+			return;
+		}
+		long count = windowCount.getAndSet(0);
+		long lagSum = windowLagSum.getAndSet(0);
+		long maxLag = windowMaxLag.getAndSet(0);
+		if (index == windowIndex + 1) {
+			lastWindow = new Metrics(0, count, 0 == count ? 0 : lagSum / count,
+					maxLag);
+		} else {
+			lastWindow = NO_METRICS;
+		}
+		windowIndex = index;
+	}
+
+	/**
+	 * Worker emitting POJOs on permits
+	 */
+	private class Worker implements Runnable {
+
+		/** The listener receiving POJOs */
+		private final Listener<? super T> listener;
+
+		/** Seed of the random generator of the worker */
+		private final long seed;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param listener
+		 *            the listener receiving POJOs
+		 * @param seed
+		 *            seed of the random generator of the worker
+		 */
+		Worker(Listener<? super T> listener, long seed) {
+			this.listener = listener;
+			this.seed = seed;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run() {
+
+			Thread thread = Thread.currentThread();
+			workerThreads.add(thread);
+			Random previous = PodamUtils.setThreadRandom(new Random(seed));
+			try {
+				/* POJOs are manufactured one at a time, when permitted */
+				Iterator<T> pojos = source.iterator(Long.MAX_VALUE, 1);
+				while (running) {
+					long permit = acquirePermit();
+					long delay;
+					while (running && (delay = permit - System.nanoTime()) > 0) {
+						LockSupport.parkNanos(delay);
+					}
+					if (!running) {
+						break;
+					}
+					listener.onPojo(pojos.next());
+					long now = System.nanoTime();
+					record(now, Math.max(0, now - permit));
+				}
+			} catch (RuntimeException e) {
+				LOG.warn("Generator {} failed", PodamPacedGenerator.this, e);
+				failure = e;
+				running = false;
+			} finally {
+				PodamUtils.setThreadRandom(previous);
+				workerThreads.remove(thread);
+				finished.countDown();
+			}
+		}
+	}
+}
@@ -0,0 +1,388 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.Immutable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.exceptions.PodamMockeryException;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Source of POJOs of one class manufactured on demand.
+ * <p>
+ * Sequential consumers iterate over the source, POJOs are manufactured
+ * in small batches sharing the manufacturing set up. On Java 8 and later
+ * the source plugs into streams with
+ * {@code StreamSupport.stream(source.spliterator(), false)}.
+ * </p>
+ * <p>
+ * {@link #manufacture(int, ExecutorService)} splits a range of POJOs into
+ * chunks manufactured concurrently. Each chunk is manufactured with its own
+ * manufacturing context and random number generator, so chunks do not
+ * contend on shared state. The factory is shared between chunks, so
+ * its strategies and type manufacturers have to be thread-safe and
+ * memoization has to be disabled, which holds for the default
+ * configuration of {@link PodamFactoryImpl}.
+ * </p>
+ *
+ * @param <T> The type of the manufactured POJOs
+ * @since 7.1.1
+ */
+@Immutable
+public class PodamPojoSource<T> implements Iterable<T> {
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory.getLogger(PodamPojoSource.class);
+
+	/** Number of POJOs manufactured at once by iterators */
+	private static final int BATCH_SIZE = 64;
+
+	/** Largest number of POJOs in a chunk manufactured by one task */
+	private static final int MAX_CHUNK_SIZE = 1024;
+
+	/** Number of chunks per processor, so fast tasks pick up more chunks */
+	private static final int CHUNKS_PER_PROCESSOR = 4;
+
+	/** The factory manufacturing POJOs */
+	private final PodamFactory factory;
+
+	/** The class of the manufactured POJOs */
+	private final Class<T> pojoClass;
+
+	/** The generic type arguments of the manufactured POJOs */
+	private final Type[] genericTypeArgs;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param factory
+	 *            the factory manufacturing POJOs
+	 * @param pojoClass
+	 *            the class of the manufactured POJOs
+	 * @param genericTypeArgs
+	 *            the generic type arguments of the manufactured POJOs
+	 */
+	public PodamPojoSource(PodamFactory factory, Class<T> pojoClass,
+			Type... genericTypeArgs) {
+
+		if (null == factory || null == pojoClass) {
+			throw new IllegalArgumentException(
+					"The factory and the POJO class cannot be null");
+		}
+		this.factory = factory;
+		this.pojoClass = pojoClass;
+		this.genericTypeArgs = genericTypeArgs.clone();
+	}
+
+	/**
+	 * It returns an unbounded iterator over newly manufactured POJOs.
+	 *
+	 * @return an iterator, which never runs out of POJOs
+	 */
+	@Override
+	public Iterator<T> iterator() {
+
+		return new PojoIterator(Long.MAX_VALUE, BATCH_SIZE);
+	}
+
+	/**
+	 * It returns an iterator over {@code count} newly manufactured POJOs.
+	 *
+	 * @param count
+	 *            the number of POJOs to iterate over
+	 * @return an iterator over {@code count} POJOs
+	 */
+	public Iterator<T> iterator(long count) {
+
+		return iterator(count, BATCH_SIZE);
+	}
+
+	/**
+	 * It returns an iterator over {@code count} newly manufactured POJOs,
+	 * which manufactures batches of the given size.
+	 *
+	 * @param count
+	 *            the number of POJOs to iterate over
+	 * @param batchSize
+	 *            the number of POJOs manufactured at once
+	 * @return an iterator over {@code count} POJOs
+	 */
+	Iterator<T> iterator(long count, int batchSize) {
+
+		if (count < 0) {
+			throw new IllegalArgumentException(
+					"The number of POJOs cannot be negative: " + count);
+		}
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException(
+					"The batch size should be positive: " + batchSize);
+		}
+		return new PojoIterator(count, batchSize);
+	}
+
+	/**
+	 * It returns a publisher of manufactured POJOs.
+	 *
+	 * @param count
+	 *            the number of POJOs published to each subscriber
+	 * @param bufferSize
+	 *            the number of POJOs manufactured ahead of demand
+	 * @param executor
+	 *            the executor manufacturing and publishing POJOs
+	 * @return a publisher manufacturing POJOs on demand of its subscribers
+	 * @throws IllegalArgumentException
+	 *             if count is negative, buffer size is not positive or
+	 *             executor is null
+	 */
+	public PodamPublisher<T> publisher(long count, int bufferSize,
+			Executor executor) {
+
+		return new PodamPublisher<T>(factory, pojoClass, genericTypeArgs,
+				count, bufferSize, executor);
+	}
+
+	/**
+	 * It manufactures POJOs concurrently on the executor.
+	 * <p>
+	 * The POJOs are split into chunks manufactured by separate tasks and
+	 * returned in the order of chunks. The calling thread waits for all the
+	 * tasks to complete. If a task fails, the remaining tasks are cancelled.
+	 * </p>
+	 *
+	 * @param count
+	 *            the number of POJOs to manufacture
+	 * @param executor
+	 *            the executor running the tasks
+	 * @return the list of {@code count} manufactured POJOs
+	 * @throws IllegalArgumentException
+	 *             if count is negative or memoization is enabled
+	 * @throws PodamMockeryException
+	 *             if a POJO could not be manufactured or the calling thread
+	 *             was interrupted
+	 */
+	public List<T> manufacture(int count, ExecutorService executor) {
+
+		if (count < 0) {
+			throw new IllegalArgumentException(
+					"The number of POJOs cannot be negative: " + count);
+		}
+		DataProviderStrategy strategy = factory.getStrategy();
+		if (null != strategy && strategy.isMemoizationEnabled()) {
+			throw new IllegalArgumentException(
+					"POJOs cannot be manufactured concurrently with memoization enabled");
+		}
+
+		int chunkSize = getChunkSize(count);
+		Random seeds = PodamUtils.getRandom();
+		List<Future<List<T>>> chunks = new ArrayList<Future<List<T>>>();
+		try {
+			for (int from = 0; from < count; from += chunkSize) {
+				int size = Math.min(chunkSize, count - from);
+				chunks.add(executor.submit(new Chunk(size, seeds.nextLong())));
+			}
+			LOG.debug("Manufacturing {} POJOs of {} in {} chunks",
+					new Object[] { count, pojoClass, chunks.size() });
+
+			List<T> pojos = new ArrayList<T>(count);
+			for (Future<List<T>> chunk : chunks) {
+				pojos.addAll(chunk.get());
+			}
+			return pojos;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PodamMockeryException(
+					"Interrupted while manufacturing " + pojoClass, e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			throw new PodamMockeryException(
+					"Unable to manufacture " + pojoClass, cause);
+		} finally {
+			for (Future<List<T>> chunk : chunks) {
+				chunk.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * It computes the size of chunks, so all the processors get a few.
+	 *
+	 * @param count
+	 *            the number of POJOs to manufacture
+	 * @return number of POJOs per chunk
+	 */
+	private static int getChunkSize(int count) {
+
+		int chunks = Runtime.getRuntime().availableProcessors()
+				* CHUNKS_PER_PROCESSOR;
+		int chunkSize = (count + chunks - 1) / chunks;
+		return Math.max(1, Math.min(MAX_CHUNK_SIZE, chunkSize));
+	}
+
+	/**
+	 * It adds POJOs to the collection, in bulk, if the factory supports it.
+	 *
+	 * @param <T>
+	 *            The type of the manufactured POJOs
+	 * @param <C>
+	 *            The type of the collection
+	 * @param factory
+	 *            the factory manufacturing POJOs
+	 * @param collection
+	 *            the collection to add POJOs to
+	 * @param pojoClass
+	 *            the class of the manufactured POJOs
+	 * @param count
+	 *            the number of POJOs to manufacture
+	 * @param genericTypeArgs
+	 *            the generic type arguments of the manufactured POJOs
+	 * @return the same collection
+	 * @see PodamFactoryImpl#manufacturePojos(Collection, Class, int, Type...)
+	 */
+	static <T, C extends Collection<? super T>> C manufacturePojos(
+			PodamFactory factory, C collection, Class<T> pojoClass,
+			int count, Type... genericTypeArgs) {
+
+		if (factory instanceof PodamFactoryImpl) {
+			return ((PodamFactoryImpl) factory).manufacturePojos(collection,
+					pojoClass, count, genericTypeArgs);
+		}
+		for (int i = 0; i < count; i++) {
+			collection.add(factory.manufacturePojo(pojoClass, genericTypeArgs));
+		}
+		return collection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "PodamPojoSource [pojoClass=" + pojoClass + "]";
+	}
+
+	/**
+	 * Task manufacturing a chunk of POJOs with its own random generator
+	 */
+	private class Chunk implements Callable<List<T>> {
+
+		/** Number of POJOs in the chunk */
+		private final int size;
+
+		/** Seed of the random generator of the chunk */
+		private final long seed;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param size
+		 *            number of POJOs in the chunk
+		 * @param seed
+		 *            seed of the random generator of the chunk
+		 */
+		Chunk(int size, long seed) {
+			this.size = size;
+			this.seed = seed;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public List<T> call() {
+
+			Random previous = PodamUtils.setThreadRandom(new Random(seed));
+			try {
+				return manufacturePojos(factory, new ArrayList<T>(size),
+						pojoClass, size, genericTypeArgs);
+			} finally {
+				PodamUtils.setThreadRandom(previous);
+			}
+		}
+	}
+
+	/**
+	 * Iterator manufacturing POJOs in batches
+	 */
+	private class PojoIterator implements Iterator<T> {
+
+		/** Number of POJOs manufactured at once */
+		private final int batchSize;
+
+		/** Manufactured POJOs not consumed yet */
+		private final List<T> batch;
+
+		/** Position of the next POJO in the batch */
+		private int position;
+
+		/** Number of POJOs not manufactured yet */
+		private long remaining;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param count
+		 *            the number of POJOs to iterate over
+		 * @param batchSize
+		 *            the number of POJOs manufactured at once
+		 */
+		PojoIterator(long count, int batchSize) {
+			this.remaining = count;
+			this.batchSize = batchSize;
+			this.batch = new ArrayList<T>(batchSize);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext() {
+			return position < batch.size() || remaining > 0;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public T next() {
+
+			if (position == batch.size()) {
+				if (remaining <= 0) {
+					throw new NoSuchElementException();
+				}
+				int size = (int) Math.min(batchSize, remaining);
+				batch.clear();
+				position = 0;
+				manufacturePojos(factory, batch, pojoClass, size, genericTypeArgs);
+				if (remaining != Long.MAX_VALUE) {
+					remaining -= size;
+				}
+			}
+			return batch.get(position++);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException(
+					"Manufactured POJOs cannot be removed");
+		}
+	}
+}
@@ -0,0 +1,670 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.exceptions.PodamMockeryException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Producer of copies of one manufactured POJO, for mass production of
+ * similar objects.
+ * <p>
+ * The prototype graph is manufactured once by the factory. Copies are then
+ * produced by per-class copy plans, which list the fields of each class in
+ * the graph, so a copy costs little more than the allocation of its
+ * objects. Strings, wrappers, enums and other immutable values are shared
+ * by all the copies, as are objects, which cannot be instantiated without
+ * arguments. References within the graph, including cycles, are preserved.
+ * </p>
+ * <p>
+ * Attributes selected by {@link #setRandomizedAttributes(String...)} and a
+ * random sample of attributes of the root POJO, see
+ * {@link #setSampledAttributes(int)}, are manufactured anew for each copy,
+ * the paths follow the syntax of {@link AttributeProjection}. Attributes
+ * selected by {@link #setSharedAttributes(String...)} keep referencing the
+ * objects of the prototype.
+ * </p>
+ *
+ * @param <T> The type of the copied POJOs
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class PodamPrototype<T> {
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory.getLogger(PodamPrototype.class);
+
+	/** Classes of immutable values, which are shared by copies */
+	private static final List<Class<?>> IMMUTABLE_TYPES = Arrays.<Class<?>>asList(
+			String.class, Boolean.class, Character.class, Byte.class,
+			Short.class, Integer.class, Long.class, Float.class, Double.class,
+			BigDecimal.class, BigInteger.class, Class.class);
+
+	/**
+	 * How objects of a class are copied
+	 */
+	private enum Kind {
+
+		/** The object is shared */
+		SHARED,
+
+		/** Elements of the array are copied */
+		ARRAY,
+
+		/** Elements of the collection are copied */
+		COLLECTION,
+
+		/** Keys and values of the map are copied */
+		MAP,
+
+		/** Fields of the object are copied */
+		FIELDS,
+
+		/** The object is cloned */
+		CLONE
+	}
+
+	/** The factory manufacturing the prototype and randomized attributes */
+	private final PodamFactoryImpl factory;
+
+	/** The prototype */
+	private final T prototype;
+
+	/** Names of attributes of the prototype */
+	private final List<String> rootAttributes = new ArrayList<String>();
+
+	/** Copy plans by class */
+	private final Map<Class<?>, CopyPlan> plans
+			= new ConcurrentHashMap<Class<?>, CopyPlan>();
+
+	/** Paths of attributes manufactured anew for each copy */
+	private volatile String[] randomizedPaths = new String[0];
+
+	/** Attributes manufactured anew for each copy or null */
+	private volatile AttributeProjection randomizedAttributes;
+
+	/** Number of attributes of the root POJO sampled for each copy */
+	private volatile int sampledAttributes;
+
+	/** Attributes keeping references of the prototype or null */
+	private volatile AttributeProjection sharedAttributes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param factory
+	 *            the factory manufacturing the prototype and randomized
+	 *            attributes
+	 * @param pojoClass
+	 *            the class of the prototype
+	 * @param genericTypeArgs
+	 *            the generic Type arguments for a generic class instance
+	 * @throws PodamMockeryException
+	 *             if the prototype cannot be manufactured
+	 */
+	public PodamPrototype(PodamFactoryImpl factory, Class<T> pojoClass,
+			Type... genericTypeArgs) {
+
+		if (null == factory) {
+			throw new IllegalArgumentException("The factory cannot be null");
+		}
+		this.factory = factory;
+		this.prototype = factory.manufacturePojo(pojoClass, genericTypeArgs);
+		if (null == prototype) {
+			throw new PodamMockeryException("Unable to manufacture prototype of "
+					+ pojoClass);
+		}
+		ClassInfo classInfo = factory.getClassStrategy().getClassInfo(
+				prototype.getClass());
+		for (ClassAttribute attribute : classInfo.getClassAttributes()) {
+			rootAttributes.add(attribute.getName());
+		}
+	}
+
+	/**
+	 * It returns the prototype.
+	 *
+	 * @return the manufactured prototype
+	 */
+	public T getPrototype() {
+		return prototype;
+	}
+
+	/**
+	 * It selects attributes manufactured anew for each copy.
+	 *
+	 * @param paths
+	 *            paths of the attributes, see {@link AttributeProjection}
+	 * @return itself
+	 */
+	public PodamPrototype<T> setRandomizedAttributes(String... paths) {
+		this.randomizedAttributes = (paths.length > 0
+				? new AttributeProjection(paths) : null);
+		this.randomizedPaths = paths.clone();
+		return this;
+	}
+
+	/**
+	 * It sets the number of attributes of the root POJO, which are chosen
+	 * randomly and manufactured anew for each copy.
+	 *
+	 * @param sampledAttributes
+	 *            number of sampled attributes, zero to sample none
+	 * @return itself
+	 */
+	public PodamPrototype<T> setSampledAttributes(int sampledAttributes) {
+		if (sampledAttributes < 0) {
+			throw new IllegalArgumentException(
+					"Number of sampled attributes cannot be negative: "
+					+ sampledAttributes);
+		}
+		this.sampledAttributes = sampledAttributes;
+		return this;
+	}
+
+	/**
+	 * It selects attributes, which keep referencing the objects of the
+	 * prototype instead of copies.
+	 *
+	 * @param paths
+	 *            paths of the attributes, see {@link AttributeProjection}
+	 * @return itself
+	 */
+	public PodamPrototype<T> setSharedAttributes(String... paths) {
+		this.sharedAttributes = (paths.length > 0
+				? new AttributeProjection(paths) : null);
+		return this;
+	}
+
+	/**
+	 * It produces a copy of the prototype.
+	 *
+	 * @return new copy
+	 * @throws PodamMockeryException
+	 *             if the prototype cannot be copied
+	 */
+	public T newCopy() {
+
+		AttributeProjection randomized = getRandomizedAttributes();
+		Copier copier = new Copier();
+		@SuppressWarnings("unchecked")
+		T copy = (T) copier.copy(prototype, sharedAttributes, randomized);
+		copier.randomize();
+		return copy;
+	}
+
+	/**
+	 * It produces copies of the prototype.
+	 *
+	 * @param count
+	 *            the number of copies
+	 * @return list of new copies
+	 * @throws PodamMockeryException
+	 *             if the prototype cannot be copied
+	 */
+	public List<T> newCopies(int count) {
+
+		List<T> copies = new ArrayList<T>(count);
+		for (int i = 0; i < count; i++) {
+			copies.add(newCopy());
+		}
+		return copies;
+	}
+
+	/**
+	 * It combines designated and sampled attributes.
+	 *
+	 * @return projection of randomized attributes or null
+	 */
+	private AttributeProjection getRandomizedAttributes() {
+
+		String[] paths = randomizedPaths;
+		int samples = Math.min(sampledAttributes, rootAttributes.size());
+		if (samples == 0) {
+			return randomizedAttributes;
+		}
+		List<String> names = new ArrayList<String>(rootAttributes);
+		Random random = PodamUtils.getRandom();
+		for (int i = 0; i < samples; i++) {
+			Collections.swap(names, i, i + random.nextInt(names.size() - i));
+		}
+		List<String> allPaths = new ArrayList<String>(names.subList(0, samples));
+		allPaths.addAll(Arrays.asList(paths));
+		return new AttributeProjection(allPaths.toArray(new String[allPaths.size()]));
+	}
+
+	/**
+	 * It returns the copy plan of a class.
+	 *
+	 * @param type
+	 *            the class
+	 * @return copy plan of the class
+	 */
+	private CopyPlan getPlan(Class<?> type) {
+
+		CopyPlan plan = plans.get(type);
+		if (null == plan) {
+			plan = createPlan(type);
+			LOG.debug("Copying {} by {}", type, plan.kind);
+			plans.put(type, plan);
+		}
+		return plan;
+	}
+
+	/**
+	 * It creates the copy plan of a class.
+	 *
+	 * @param type
+	 *            the class
+	 * @return new copy plan
+	 */
+	private static CopyPlan createPlan(Class<?> type) {
+
+		if (IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type)
+				|| Proxy.isProxyClass(type)) {
+			return new CopyPlan(Kind.SHARED, null, null, null);
+		}
+		if (type.isArray()) {
+			return new CopyPlan(Kind.ARRAY, null, null, null);
+		}
+		String name = type.getName();
+		if (name.startsWith("java.") || name.startsWith("javax.")) {
+			Kind kind;
+			if (Collection.class.isAssignableFrom(type)) {
+				kind = Kind.COLLECTION;
+			} else if (Map.class.isAssignableFrom(type)) {
+				kind = Kind.MAP;
+			} else {
+				kind = Kind.CLONE;
+			}
+			if (Kind.CLONE != kind && (SortedSet.class.isAssignableFrom(type)
+					|| SortedMap.class.isAssignableFrom(type))) {
+				Constructor<?> constructor = getConstructor(type, Comparator.class);
+				if (null != constructor) {
+					return new CopyPlan(kind, constructor, null, null);
+				}
+			}
+			Method clone = getCloneMethod(type);
+			if (null != clone) {
+				return new CopyPlan(kind, null, null, clone);
+			}
+			Constructor<?> constructor = getConstructor(type);
+			if (null != constructor && Kind.CLONE != kind) {
+				return new CopyPlan(kind, constructor, null, null);
+			}
+			return new CopyPlan(Kind.SHARED, null, null, null);
+		}
+
+		Constructor<?> constructor = getConstructor(type);
+		if (null == constructor) {
+			return new CopyPlan(Kind.SHARED, null, null, null);
+		}
+		List<Field> fields = new ArrayList<Field>();
+		for (Class<?> clazz = type; null != clazz && !Object.class.equals(clazz);
+				clazz = clazz.getSuperclass()) {
+			for (Field field : clazz.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					try {
+						field.setAccessible(true);
+					} catch (RuntimeException e) {
+						LOG.debug("{} is not accessible, {} is shared", field, type);
+						return new CopyPlan(Kind.SHARED, null, null, null);
+					}
+					fields.add(field);
+				}
+			}
+		}
+		return new CopyPlan(Kind.FIELDS, constructor,
+				fields.toArray(new Field[fields.size()]), null);
+	}
+
+	/**
+	 * It returns the public clone method of a class.
+	 *
+	 * @param type
+	 *            the class
+	 * @return the clone method or null, if the class is not cloneable
+	 */
+	private static Method getCloneMethod(Class<?> type) {
+
+		if (!Cloneable.class.isAssignableFrom(type)) {
+			return null;
+		}
+		try {
+			return type.getMethod("clone");
+		} catch (NoSuchMethodException e) {
+			LOG.debug("{} cannot be cloned", type);
+			return null;
+		}
+	}
+
+	/**
+	 * It returns a constructor of a class.
+	 *
+	 * @param type
+	 *            the class
+	 * @param parameterTypes
+	 *            types of the constructor arguments
+	 * @return accessible constructor or null, if there is none
+	 */
+	private static Constructor<?> getConstructor(Class<?> type,
+			Class<?>... parameterTypes) {
+
+		if (Modifier.isAbstract(type.getModifiers())
+				|| (null != type.getEnclosingClass()
+						&& !Modifier.isStatic(type.getModifiers()))) {
+			return null;
+		}
+		try {
+			Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+			constructor.setAccessible(true);
+			return constructor;
+		} catch (NoSuchMethodException e) {
+			return null;
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * How objects of a class are copied
+	 */
+	private static class CopyPlan {
+
+		/** How objects are copied */
+		private final Kind kind;
+
+		/**
+		 * The constructor without arguments, the constructor taking the
+		 * comparator of a sorted container or null
+		 */
+		private final Constructor<?> constructor;
+
+		/** Fields to copy or null */
+		private final Field[] fields;
+
+		/** The clone method or null */
+		private final Method clone;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param kind
+		 *            how objects are copied
+		 * @param constructor
+		 *            the constructor without arguments, the constructor
+		 *            taking the comparator of a sorted container or null
+		 * @param fields
+		 *            fields to copy or null
+		 * @param clone
+		 *            the clone method or null
+		 */
+		CopyPlan(Kind kind, Constructor<?> constructor, Field[] fields,
+				Method clone) {
+			this.kind = kind;
+			this.constructor = constructor;
+			this.fields = fields;
+			this.clone = clone;
+		}
+	}
+
+	/**
+	 * Copy of one graph
+	 */
+	private class Copier {
+
+		/** Copies of objects of the prototype */
+		private final Map<Object, Object> copies
+				= new IdentityHashMap<Object, Object>();
+
+		/** Names of attributes to manufacture anew by their POJOs */
+		private final Map<Object, List<String>> randomized
+				= new IdentityHashMap<Object, List<String>>();
+
+		/**
+		 * It copies an object of the prototype.
+		 *
+		 * @param value
+		 *            the object
+		 * @param shared
+		 *            attributes of the object keeping references or null
+		 * @param randomizedAttributes
+		 *            attributes of the object manufactured anew or null
+		 * @return copy of the object
+		 */
+		Object copy(Object value, AttributeProjection shared,
+				AttributeProjection randomizedAttributes) {
+
+			if (null == value || (null != shared && shared.isComplete())) {
+				return value;
+			}
+			Object copy = copies.get(value);
+			if (null != copy) {
+				return copy;
+			}
+			CopyPlan plan = getPlan(value.getClass());
+			try {
+				switch (plan.kind) {
+				case ARRAY:
+					return copyArray(value, shared, randomizedAttributes);
+				case COLLECTION:
+					return copyCollection(plan, value, shared, randomizedAttributes);
+				case MAP:
+					return copyMap(plan, value, shared, randomizedAttributes);
+				case FIELDS:
+					return copyFields(plan, value, shared, randomizedAttributes);
+				case CLONE:
+					copy = plan.clone.invoke(value);
+					copies.put(value, copy);
+					return copy;
+				default:
+					return value;
+				}
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new PodamMockeryException("Unable to copy " + value.getClass(), e);
+			}
+		}
+
+		/**
+		 * It copies an array.
+		 *
+		 * @param value
+		 *            the array
+		 * @param shared
+		 *            attributes of elements keeping references or null
+		 * @param randomizedAttributes
+		 *            attributes of elements manufactured anew or null
+		 * @return copy of the array
+		 */
+		private Object copyArray(Object value, AttributeProjection shared,
+				AttributeProjection randomizedAttributes) {
+
+			int length = Array.getLength(value);
+			Class<?> componentType = value.getClass().getComponentType();
+			Object copy = Array.newInstance(componentType, length);
+			copies.put(value, copy);
+			if (componentType.isPrimitive()) {
+				System.arraycopy(value, 0, copy, 0, length);
+			} else {
+				Object[] elements = (Object[]) value;
+				Object[] elementCopies = (Object[]) copy;
+				for (int i = 0; i < length; i++) {
+					elementCopies[i] = copy(elements[i], shared, randomizedAttributes);
+				}
+			}
+			return copy;
+		}
+
+		/**
+		 * It copies a collection.
+		 *
+		 * @param plan
+		 *            the copy plan of the collection
+		 * @param value
+		 *            the collection
+		 * @param shared
+		 *            attributes of elements keeping references or null
+		 * @param randomizedAttributes
+		 *            attributes of elements manufactured anew or null
+		 * @return copy of the collection
+		 * @throws Exception
+		 *             if the collection cannot be instantiated
+		 */
+		private Object copyCollection(CopyPlan plan, Object value,
+				AttributeProjection shared,
+				AttributeProjection randomizedAttributes) throws Exception {
+
+			@SuppressWarnings("unchecked")
+			Collection<Object> copy = (Collection<Object>) newContainer(plan, value);
+			copy.clear();
+			copies.put(value, copy);
+			for (Object element : (Collection<?>) value) {
+				copy.add(copy(element, shared, randomizedAttributes));
+			}
+			return copy;
+		}
+
+		/**
+		 * It copies a map.
+		 *
+		 * @param plan
+		 *            the copy plan of the map
+		 * @param value
+		 *            the map
+		 * @param shared
+		 *            attributes of keys and values keeping references or null
+		 * @param randomizedAttributes
+		 *            attributes of keys and values manufactured anew or null
+		 * @return copy of the map
+		 * @throws Exception
+		 *             if the map cannot be instantiated
+		 */
+		private Object copyMap(CopyPlan plan, Object value,
+				AttributeProjection shared,
+				AttributeProjection randomizedAttributes) throws Exception {
+
+			@SuppressWarnings("unchecked")
+			Map<Object, Object> copy = (Map<Object, Object>) newContainer(plan, value);
+			copy.clear();
+			copies.put(value, copy);
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				copy.put(copy(entry.getKey(), shared, randomizedAttributes),
+						copy(entry.getValue(), shared, randomizedAttributes));
+			}
+			return copy;
+		}
+
+		/**
+		 * It instantiates a container of the same kind and ordering.
+		 * <p>
+		 * Sorted containers are constructed with their comparator, other
+		 * containers are cloned, so they keep their settings, or constructed
+		 * without arguments. The new container may hold the original elements
+		 * and should be cleared.
+		 * </p>
+		 *
+		 * @param plan
+		 *            the copy plan of the container
+		 * @param value
+		 *            the container
+		 * @return new container
+		 * @throws Exception
+		 *             if the container cannot be instantiated
+		 */
+		private Object newContainer(CopyPlan plan, Object value) throws Exception {
+
+			if (null != plan.clone) {
+				return plan.clone.invoke(value);
+			}
+			if (plan.constructor.getParameterTypes().length == 0) {
+				return plan.constructor.newInstance();
+			}
+			Comparator<?> comparator = value instanceof SortedSet
+					? ((SortedSet<?>) value).comparator()
+					: ((SortedMap<?, ?>) value).comparator();
+			return plan.constructor.newInstance(comparator);
+		}
+
+		/**
+		 * It copies fields of a POJO.
+		 *
+		 * @param plan
+		 *            the copy plan of the POJO
+		 * @param value
+		 *            the POJO
+		 * @param shared
+		 *            attributes keeping references or null
+		 * @param randomizedAttributes
+		 *            attributes manufactured anew or null
+		 * @return copy of the POJO
+		 * @throws Exception
+		 *             if the POJO cannot be instantiated
+		 */
+		private Object copyFields(CopyPlan plan, Object value,
+				AttributeProjection shared,
+				AttributeProjection randomizedAttributes) throws Exception {
+
+			Object copy = plan.constructor.newInstance();
+			copies.put(value, copy);
+			for (Field field : plan.fields) {
+				String name = field.getName();
+				AttributeProjection fieldRandomized = (null != randomizedAttributes
+						? randomizedAttributes.getAttributeProjection(name) : null);
+				if (null != fieldRandomized && fieldRandomized.isComplete()) {
+					List<String> names = randomized.get(copy);
+					if (null == names) {
+						names = new ArrayList<String>();
+						randomized.put(copy, names);
+					}
+					names.add(name);
+				} else if (field.getType().isPrimitive()) {
+					field.set(copy, field.get(value));
+				} else {
+					AttributeProjection fieldShared = (null != shared
+							? shared.getAttributeProjection(name) : null);
+					field.set(copy, copy(field.get(value), fieldShared,
+							fieldRandomized));
+				}
+			}
+			return copy;
+		}
+
+		/**
+		 * It manufactures the randomized attributes of the copied POJOs.
+		 */
+		void randomize() {
+
+			for (Map.Entry<Object, List<String>> entry : randomized.entrySet()) {
+				List<String> names = entry.getValue();
+				factory.populatePojo(new AttributeProjection(
+						names.toArray(new String[names.size()])), entry.getKey());
+			}
+		}
+	}
+}
@@ -0,0 +1,370 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.exceptions.PodamMockeryException;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publisher of POJOs manufactured on demand of its subscribers.
+ * <p>
+ * The publisher follows the Reactive Streams protocol: POJOs are only
+ * emitted after they were requested with {@link Subscription#request(long)},
+ * signals are never delivered concurrently and a subscription may be
+ * cancelled at any time. {@link Subscriber} and {@link Subscription}
+ * mirror {@code org.reactivestreams} and {@code java.util.concurrent.Flow}
+ * interfaces, so adapting them takes a few delegating methods.
+ * </p>
+ * <p>
+ * Every subscriber gets its own sequence of POJOs. POJOs are manufactured
+ * on the executor ahead of demand into a buffer of limited size, so the
+ * publisher never gets further ahead of its subscriber than the buffer
+ * size. The factory is shared by all the subscriptions, see
+ * {@link PodamPojoSource} for requirements on its thread-safety.
+ * </p>
+ *
+ * @param <T> The type of the published POJOs
+ * @see PodamPojoSource#publisher(long, int, Executor)
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class PodamPublisher<T> {
+
+	/** Application logger */
+	private static final Logger LOG = LoggerFactory.getLogger(PodamPublisher.class);
+
+	/**
+	 * Receiver of published POJOs
+	 *
+	 * @param <T> The type of the published POJOs
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * Called once before any other signal.
+		 *
+		 * @param subscription
+		 *            the subscription to request POJOs from
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Called for each requested POJO. If it throws an exception, the
+		 * subscription is cancelled and terminated with the exception.
+		 *
+		 * @param pojo
+		 *            the next POJO
+		 */
+		void onNext(T pojo);
+
+		/**
+		 * Called once, if POJOs could not be manufactured or the protocol
+		 * was violated. No signals follow.
+		 *
+		 * @param error
+		 *            the failure
+		 */
+		void onError(Throwable error);
+
+		/**
+		 * Called once after the last POJO was published. No signals follow.
+		 */
+		void onComplete();
+	}
+
+	/**
+	 * Link between the publisher and one subscriber
+	 */
+	public interface Subscription {
+
+		/**
+		 * Requests more POJOs.
+		 *
+		 * @param n
+		 *            the number of POJOs to add to the demand, a non positive
+		 *            number fails the subscription
+		 */
+		void request(long n);
+
+		/**
+		 * Stops publishing POJOs and releases the buffered ones.
+		 */
+		void cancel();
+	}
+
+	/** The factory manufacturing POJOs */
+	private final PodamFactory factory;
+
+	/** The class of the published POJOs */
+	private final Class<T> pojoClass;
+
+	/** The generic type arguments of the published POJOs */
+	private final Type[] genericTypeArgs;
+
+	/** The number of POJOs published to each subscriber */
+	private final long count;
+
+	/** The number of POJOs manufactured ahead of demand */
+	private final int bufferSize;
+
+	/** The executor manufacturing and publishing POJOs */
+	private final Executor executor;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param factory
+	 *            the factory manufacturing POJOs
+	 * @param pojoClass
+	 *            the class of the published POJOs
+	 * @param genericTypeArgs
+	 *            the generic type arguments of the published POJOs
+	 * @param count
+	 *            the number of POJOs published to each subscriber
+	 * @param bufferSize
+	 *            the number of POJOs manufactured ahead of demand
+	 * @param executor
+	 *            the executor manufacturing and publishing POJOs
+	 */
+	PodamPublisher(PodamFactory factory, Class<T> pojoClass,
+			Type[] genericTypeArgs, long count, int bufferSize,
+			Executor executor) {
+
+		if (count < 0) {
+			throw new IllegalArgumentException(
+					"The number of POJOs cannot be negative: " + count);
+		}
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException(
+					"The buffer size should be positive: " + bufferSize);
+		}
+		if (null == executor) {
+			throw new IllegalArgumentException("The executor cannot be null");
+		}
+		this.factory = factory;
+		this.pojoClass = pojoClass;
+		this.genericTypeArgs = genericTypeArgs;
+		this.count = count;
+		this.bufferSize = bufferSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * Subscribes to POJOs. The subscriber receives its subscription
+	 * synchronously and all the other signals on the executor.
+	 *
+	 * @param subscriber
+	 *            the subscriber
+	 */
+	public void subscribe(Subscriber<? super T> subscriber) {
+
+		if (null == subscriber) {
+			throw new NullPointerException("The subscriber cannot be null");
+		}
+		PublisherSubscription subscription = new PublisherSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+		subscription.schedule();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "PodamPublisher [pojoClass=" + pojoClass + ", count=" + count
+				+ ", bufferSize=" + bufferSize + "]";
+	}
+
+	/**
+	 * Subscription serialising all the signals to one subscriber
+	 * <p>
+	 * Signals are delivered by a drain loop, which runs on the executor
+	 * and is entered by one thread at a time. Requests and cancellations
+	 * only update the state and make sure a drain loop runs after them.
+	 * </p>
+	 */
+	private class PublisherSubscription implements Subscription, Runnable {
+
+		/** The subscriber */
+		private final Subscriber<? super T> subscriber;
+
+		/** Number of pending drain requests, a drain runs while positive */
+		private final AtomicInteger pending = new AtomicInteger(1);
+
+		/** Total number of requested POJOs, capped at Long.MAX_VALUE */
+		private final AtomicLong requested = new AtomicLong();
+
+		/** POJOs manufactured ahead of demand, used by the drain loop only */
+		private final List<T> buffer = new ArrayList<T>();
+
+		/** Position of the next POJO in the buffer, used by the drain loop only */
+		private int position;
+
+		/** Number of published POJOs, used by the drain loop only */
+		private long published;
+
+		/** Number of manufactured POJOs, used by the drain loop only */
+		private long manufactured;
+
+		/** Set, when the subscription is cancelled or terminated */
+		private volatile boolean cancelled;
+
+		/** Protocol violation to be signalled */
+		private volatile IllegalArgumentException invalidRequest;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param subscriber
+		 *            the subscriber
+		 */
+		PublisherSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void request(long n) {
+
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException(
+						"The number of requested POJOs should be positive: " + n);
+			} else {
+				long current;
+				long next;
+				do {
+					current = requested.get();
+					next = current + n;
+					if (next < 0) {
+						next = Long.MAX_VALUE;
+					}
+				} while (!requested.compareAndSet(current, next));
+			}
+			drain();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void cancel() {
+
+			cancelled = true;
+			drain();
+		}
+
+		/**
+		 * It runs a drain loop, unless one is running already.
+		 */
+		private void drain() {
+
+			if (pending.getAndIncrement() == 0) {
+				schedule();
+			}
+		}
+
+		/**
+		 * It submits the drain loop to the executor.
+		 */
+		void schedule() {
+
+			try {
+				executor.execute(this);
+			} catch (RejectedExecutionException e) {
+				cancelled = true;
+				subscriber.onError(e);
+			}
+		}
+
+		/**
+		 * The drain loop
+		 */
+		@Override
+		public void run() {
+
+			int missed = 1;
+			do {
+				emit();
+				missed = pending.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * It publishes requested POJOs and refills the buffer.
+		 */
+		private void emit() {
+
+			while (!cancelled) {
+
+				IllegalArgumentException error = invalidRequest;
+				if (null != error) {
+					terminate(error);
+					return;
+				}
+				if (published == count) {
+					cancelled = true;
+					subscriber.onComplete();
+					return;
+				}
+				if (position == buffer.size()) {
+					int size = (int) Math.min(bufferSize, count - manufactured);
+					buffer.clear();
+					position = 0;
+					try {
+						PodamPojoSource.manufacturePojos(factory, buffer,
+								pojoClass, size, genericTypeArgs);
+					} catch (RuntimeException e) {
+						terminate(e);
+						return;
+					}
+					manufactured += size;
+				}
+				if (requested.get() == published) {
+					return;
+				}
+				T pojo = buffer.get(position);
+				if (null == pojo) {
+					terminate(new PodamMockeryException(
+							"Unable to manufacture " + pojoClass));
+					return;
+				}
+				buffer.set(position++, null);
+				published++;
+				try {
+					subscriber.onNext(pojo);
+				} catch (RuntimeException e) {
+					LOG.warn("Subscriber {} failed, cancelling its subscription",
+							subscriber, e);
+					terminate(e);
+					return;
+				}
+			}
+			buffer.clear();
+		}
+
+		/**
+		 * It terminates the subscription with an error.
+		 *
+		 * @param error
+		 *            the failure
+		 */
+		private void terminate(Throwable error) {
+
+			cancelled = true;
+			buffer.clear();
+			subscriber.onError(error);
+		}
+	}
+}
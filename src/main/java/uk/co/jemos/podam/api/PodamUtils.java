@@ -10,6 +10,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -40,6 +41,9 @@ public abstract class PodamUtils {
 	/** Random number generator */
 	private static final Random RANDOM = new Random();
 
+	/** Random number generators set for individual threads */
+	private static final ThreadLocal<Random> THREAD_RANDOM = new ThreadLocal<Random>();
+
 	/**
 	 * It returns a {@link Field} matching the attribute name or null if a field
 	 * was not found.
@@ -164,6 +168,44 @@ public abstract class PodamUtils {
 		return retValue;
 	}
 
+	/**
+	 * It returns the random number generator used by the current thread.
+	 *
+	 * @return the generator set for the current thread by
+	 *         {@link #setThreadRandom(Random)} or the shared generator
+	 * @since 7.1.1
+	 */
+	public static Random getRandom() {
+
+		Random random = THREAD_RANDOM.get();
+		return null != random ? random : RANDOM;
+	}
+
+	/**
+	 * It sets the random number generator used by the current thread.
+	 * <p>
+	 * Threads manufacturing POJOs in parallel may use generators of their
+	 * own to avoid contention on the shared generator or to produce
+	 * repeatable sequences of values from a seed.
+	 * </p>
+	 *
+	 * @param random
+	 *            the generator for the current thread or null to use the
+	 *            shared generator again
+	 * @return the generator previously set for the current thread or null
+	 * @since 7.1.1
+	 */
+	public static Random setThreadRandom(Random random) {
+
+		Random previous = THREAD_RANDOM.get();
+		if (null == random) {
+			THREAD_RANDOM.remove();
+		} else {
+			THREAD_RANDOM.set(random);
+		}
+		return previous;
+	}
+
 	/**
 	 * Generates random character from set valid for identifiers in Java language
 	 *
@@ -201,6 +243,32 @@ public abstract class PodamUtils {
 		return (int) getLongInRange(minValue, maxValue);
 	}
 
+	/**
+	 * It fills an array with random byte values between min and max value
+	 * (included) drawing all random bits in one go.
+	 *
+	 * @param bytes
+	 *            The array to fill
+	 * @param minValue
+	 *            The minimum value for the array elements
+	 * @param maxValue
+	 *            The maximum value for the array elements
+	 */
+	public static void fillBytesInRange(byte[] bytes, byte minValue, byte maxValue) {
+
+		if (minValue == maxValue) {
+			Arrays.fill(bytes, minValue);
+			return;
+		}
+		getRandom().nextBytes(bytes);
+		int span = maxValue - minValue + 1;
+		if (span < 256) {
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = (byte) (minValue + (((bytes[i] & 0xFF) * span) >>> 8));
+			}
+		}
+	}
+
 	/**
 	 * It returns a double/Double value between min and max value (included).
 	 * 
@@ -218,8 +286,9 @@ public abstract class PodamUtils {
 		}
 		double retValue;
 		double margin = (maxValue - minValue + 0.1);
+		Random random = getRandom();
 		do {
-			retValue = minValue + RANDOM.nextDouble() * margin;
+			retValue = minValue + random.nextDouble() * margin;
 		} while (retValue > maxValue);
 		return retValue;
 	}
@@ -0,0 +1,211 @@
+package uk.co.jemos.podam.api;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool of instances of a type shared by references to the type.
+ * <p>
+ * When a pool is registered for a type, POJOs referencing the type get one
+ * of a limited number of instances instead of a newly manufactured one,
+ * like rows of a table referenced by foreign keys. Instances are
+ * manufactured in the context of the reference, which needs them first,
+ * and stay in the pool across manufacturing calls, until it is cleared.
+ * An instance is added to the pool only after it is fully populated, so
+ * instances manufactured by cancelled or projected calls or truncated by
+ * the budget are not shared. Pools are looked up by the exact class of the reference
+ * and are not used for references with type arguments, so they suit
+ * entity types, which are not generic.
+ * </p>
+ *
+ * @see AbstractRandomDataProviderStrategy#addOrReplaceReferencePool(Class, ReferencePool)
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class ReferencePool {
+
+	/**
+	 * When instances of the pool are manufactured
+	 */
+	public enum Filling {
+
+		/** Each slot is filled, when it is selected for the first time */
+		LAZY,
+
+		/** All the slots are filled, when the pool is used for the first time */
+		EAGER
+	}
+
+	/**
+	 * How references select instances of the pool
+	 */
+	public enum Selection {
+
+		/** All the instances are selected equally often */
+		UNIFORM,
+
+		/**
+		 * Instances in the first slots are selected more often, about a
+		 * third of the references point to the first tenth of the pool
+		 */
+		SKEWED
+	}
+
+	/** When instances of the pool are manufactured */
+	private final Filling filling;
+
+	/** How references select instances of the pool */
+	private final Selection selection;
+
+	/** Instances of the pool, null for slots, which are not filled yet */
+	private final AtomicReferenceArray<Object> instances;
+
+	/**
+	 * Constructor of a lazily filled pool with uniform selection.
+	 *
+	 * @param size
+	 *            the number of instances of the pool
+	 */
+	public ReferencePool(int size) {
+		this(size, Filling.LAZY, Selection.UNIFORM);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param size
+	 *            the number of instances of the pool
+	 * @param filling
+	 *            when instances of the pool are manufactured
+	 * @param selection
+	 *            how references select instances of the pool
+	 */
+	public ReferencePool(int size, Filling filling, Selection selection) {
+
+		if (size <= 0) {
+			throw new IllegalArgumentException(
+					"The pool size should be positive: " + size);
+		}
+		if (null == filling || null == selection) {
+			throw new IllegalArgumentException(
+					"The pool filling and selection are required");
+		}
+		this.filling = filling;
+		this.selection = selection;
+		this.instances = new AtomicReferenceArray<Object>(size);
+	}
+
+	/**
+	 * It returns the number of instances of the pool.
+	 *
+	 * @return number of slots
+	 */
+	public int getSize() {
+		return instances.length();
+	}
+
+	/**
+	 * It returns when instances of the pool are manufactured.
+	 *
+	 * @return the filling of the pool
+	 */
+	public Filling getFilling() {
+		return filling;
+	}
+
+	/**
+	 * It returns how references select instances of the pool.
+	 *
+	 * @return the selection of the pool
+	 */
+	public Selection getSelection() {
+		return selection;
+	}
+
+	/**
+	 * It returns instances, which were manufactured so far.
+	 *
+	 * @return instances of the filled slots
+	 */
+	public List<Object> getInstances() {
+
+		List<Object> filled = new ArrayList<Object>(instances.length());
+		for (int i = 0; i < instances.length(); i++) {
+			Object instance = instances.get(i);
+			if (null != instance) {
+				filled.add(instance);
+			}
+		}
+		return filled;
+	}
+
+	/**
+	 * It empties all the slots, so the next references get newly
+	 * manufactured instances.
+	 */
+	public void clear() {
+		for (int i = 0; i < instances.length(); i++) {
+			instances.set(i, null);
+		}
+	}
+
+	/**
+	 * It selects a slot for a reference.
+	 *
+	 * @param random
+	 *            the random number generator
+	 * @return the index of the slot
+	 */
+	int nextIndex(Random random) {
+
+		double value = random.nextDouble();
+		if (selection == Selection.SKEWED) {
+			value *= value;
+		}
+		return Math.min((int) (value * instances.length()),
+				instances.length() - 1);
+	}
+
+	/**
+	 * It returns the instance in a slot.
+	 *
+	 * @param index
+	 *            the index of the slot
+	 * @return the instance or null, if the slot is not filled yet
+	 */
+	Object get(int index) {
+		return instances.get(index);
+	}
+
+	/**
+	 * It fills a slot, unless another reference filled it first.
+	 *
+	 * @param index
+	 *            the index of the slot
+	 * @param instance
+	 *            the manufactured instance
+	 * @return the instance in the slot, which is not the offered one, if
+	 *         the slot was filled concurrently
+	 */
+	Object offer(int index, Object instance) {
+
+		if (instances.compareAndSet(index, null, instance)) {
+			return instance;
+		}
+		Object current = instances.get(index);
+		return null != current ? current : instance;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return "ReferencePool [size=" + instances.length() + ", filling="
+				+ filling + ", selection=" + selection + "]";
+	}
+}
@@ -0,0 +1,23 @@
+package uk.co.jemos.podam.common;
+
+/**
+ * Source of elements of virtual containers, which derives each element
+ * from its index
+ *
+ * @param <E> The type of the elements
+ * @see VirtualList
+ * @see VirtualMap
+ * @since 7.1.1
+ */
+public interface ElementSource<E> {
+
+	/**
+	 * It produces an element. The same index has to produce equal elements,
+	 * so the container looks the same on every access.
+	 *
+	 * @param index
+	 *            the index of the element
+	 * @return the element
+	 */
+	E getElement(int index);
+}
@@ -1,8 +1,14 @@
 package uk.co.jemos.podam.common;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 
+import uk.co.jemos.podam.api.AttributeProjection;
+import uk.co.jemos.podam.api.CancellationToken;
+import uk.co.jemos.podam.api.ClassInfo;
+import uk.co.jemos.podam.api.ManufacturingBudget;
 import uk.co.jemos.podam.api.DataProviderStrategy.Order;
 
 /**
@@ -20,6 +26,75 @@ public class ManufacturingContext {
 	 * for loop detection */
 	private Map<Class<?>, Integer> pojos = new HashMap<Class<?>, Integer>();
 
+	/** Map with class information of classes already analysed in this
+	 * context */
+	private Map<Class<?>, ClassInfo> classInfos = new HashMap<Class<?>, ClassInfo>();
+
+	/** Set in copies of the context used by parallel tasks */
+	private boolean forked;
+
+	/** Scheduled tasks, the last scheduled task runs first, or null, if
+	 * POJOs are populated recursively */
+	private Deque<ManufacturingTask> tasks;
+
+	/** Token stopping manufacturing or null */
+	private CancellationToken cancellationToken;
+
+	/** Usage of the budget limiting created objects or null */
+	private ManufacturingBudget.Usage budgetUsage;
+
+	/** Number of containers manufactured at the current level of the graph */
+	private long fanOut = 1;
+
+	/** Projection of attributes of the current POJO or null, if all the
+	 * attributes are manufactured */
+	private AttributeProjection projection;
+
+	/** Whether existing objects of the graph are populated again instead of
+	 * being replaced */
+	private boolean reusingValues;
+
+	/** Whether values already set are kept, so only missing values are
+	 * manufactured, while existing objects of the graph are populated again */
+	private boolean keepingValues;
+
+	/**
+	 * It creates a copy of the context for a task manufacturing a part of
+	 * the graph in parallel with other tasks.
+	 * <p>
+	 * The copy starts with production counts of this context, so loop
+	 * detection continues at the current depth, and does not share any
+	 * mutable state with it.
+	 * </p>
+	 *
+	 * @return forked copy of the context
+	 */
+	public ManufacturingContext fork() {
+		ManufacturingContext copy = new ManufacturingContext();
+		copy.constructorOrdering = constructorOrdering;
+		copy.pojos.putAll(pojos);
+		copy.classInfos.putAll(classInfos);
+		copy.forked = true;
+		copy.cancellationToken = cancellationToken;
+		copy.budgetUsage = budgetUsage;
+		copy.fanOut = fanOut;
+		copy.projection = projection;
+		copy.reusingValues = reusingValues;
+		copy.keepingValues = keepingValues;
+		if (null != tasks) {
+			copy.tasks = new ArrayDeque<ManufacturingTask>();
+		}
+		return copy;
+	}
+
+	/**
+	 * Checks, if the context is used by a parallel task
+	 * @return true, if the context was created by {@link #fork()}
+	 */
+	public boolean isForked() {
+		return forked;
+	}
+
 	/**
 	 * Getter for constructor ordering
 	 * @return constructor ordering
@@ -45,4 +120,140 @@ public class ManufacturingContext {
 		return pojos;
 	}
 
+	/**
+	 * Getter for map with class information of classes already analysed
+	 * @return map with class information per class
+	 */
+	public Map<Class<?>, ClassInfo> getClassInfos() {
+		return classInfos;
+	}
+
+	/**
+	 * Getter for scheduled tasks
+	 * @return scheduled tasks or null, if POJOs are populated recursively
+	 */
+	public Deque<ManufacturingTask> getTasks() {
+		return tasks;
+	}
+
+	/**
+	 * It makes the context schedule population of POJOs as tasks instead
+	 * of populating them recursively.
+	 */
+	public void enableTasks() {
+		if (null == tasks) {
+			tasks = new ArrayDeque<ManufacturingTask>();
+		}
+	}
+
+	/**
+	 * Getter for cancellation token
+	 * @return token stopping manufacturing or null
+	 */
+	public CancellationToken getCancellationToken() {
+		return cancellationToken;
+	}
+
+	/**
+	 * Setter for cancellation token
+	 * @param cancellationToken
+	 *        token stopping manufacturing or null
+	 */
+	public void setCancellationToken(CancellationToken cancellationToken) {
+		this.cancellationToken = cancellationToken;
+	}
+
+	/**
+	 * Getter for budget usage
+	 * @return usage of the budget limiting created objects or null
+	 */
+	public ManufacturingBudget.Usage getBudgetUsage() {
+		return budgetUsage;
+	}
+
+	/**
+	 * Setter for budget usage
+	 * @param budgetUsage
+	 *        usage of the budget limiting created objects or null
+	 */
+	public void setBudgetUsage(ManufacturingBudget.Usage budgetUsage) {
+		this.budgetUsage = budgetUsage;
+	}
+
+	/**
+	 * Getter for fan-out
+	 * @return number of containers manufactured at the current level of
+	 *         the graph, the product of sizes of the enclosing containers
+	 */
+	public long getFanOut() {
+		return fanOut;
+	}
+
+	/**
+	 * Setter for fan-out
+	 * @param fanOut
+	 *        number of containers manufactured at the current level of
+	 *        the graph
+	 */
+	public void setFanOut(long fanOut) {
+		this.fanOut = fanOut;
+	}
+
+	/**
+	 * Getter for attribute projection
+	 * @return projection of attributes of the current POJO or null, if all
+	 *         the attributes are manufactured
+	 */
+	public AttributeProjection getProjection() {
+		return projection;
+	}
+
+	/**
+	 * Setter for attribute projection
+	 * @param projection
+	 *        projection of attributes of the current POJO or null, if all
+	 *        the attributes are manufactured
+	 */
+	public void setProjection(AttributeProjection projection) {
+		this.projection = projection;
+	}
+
+	/**
+	 * Getter for reuse of existing values
+	 * @return true, if existing objects of the graph are populated again
+	 *         instead of being replaced
+	 */
+	public boolean isReusingValues() {
+		return reusingValues;
+	}
+
+	/**
+	 * Setter for reuse of existing values
+	 * @param reusingValues
+	 *        whether existing objects of the graph are populated again
+	 *        instead of being replaced
+	 */
+	public void setReusingValues(boolean reusingValues) {
+		this.reusingValues = reusingValues;
+	}
+
+	/**
+	 * Getter for keeping of values already set
+	 * @return true, if values already set are kept and only missing values
+	 *         are manufactured
+	 */
+	public boolean isKeepingValues() {
+		return keepingValues;
+	}
+
+	/**
+	 * Setter for keeping of values already set
+	 * @param keepingValues
+	 *        whether values already set are kept and only missing values
+	 *        are manufactured
+	 */
+	public void setKeepingValues(boolean keepingValues) {
+		this.keepingValues = keepingValues;
+	}
+
 }
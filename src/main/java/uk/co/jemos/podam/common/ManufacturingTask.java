@@ -0,0 +1,58 @@
+package uk.co.jemos.podam.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Unit of work scheduled in a manufacturing context
+ * <p>
+ * A task remembers production counts of the context at the moment it was
+ * scheduled, so loop detection works at the same depth, when the task runs
+ * later.
+ * </p>
+ *
+ * @since 7.1.1
+ */
+public abstract class ManufacturingTask {
+
+	/** Production counts of objects per type, when the task was scheduled */
+	private final Map<Class<?>, Integer> pojos;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pojos
+	 *            production counts of objects per type, which are copied
+	 */
+	protected ManufacturingTask(Map<Class<?>, Integer> pojos) {
+		this.pojos = new HashMap<Class<?>, Integer>(pojos);
+	}
+
+	/**
+	 * Getter for production counts of objects per type
+	 * @return production counts, when the task was scheduled
+	 */
+	public Map<Class<?>, Integer> getPojos() {
+		return pojos;
+	}
+
+	/**
+	 * It runs the task.
+	 *
+	 * @param manufacturingCtx
+	 *            the manufacturing context with restored production counts
+	 * @throws InstantiationException
+	 *             If an exception occurred during instantiation
+	 * @throws IllegalAccessException
+	 *             If security was violated while creating the object
+	 * @throws InvocationTargetException
+	 *             If an exception occurred while invoking the constructor or
+	 *             factory method
+	 * @throws ClassNotFoundException
+	 *             If manufactured class cannot be loaded
+	 */
+	public abstract void run(ManufacturingContext manufacturingCtx)
+			throws InstantiationException, IllegalAccessException,
+			InvocationTargetException, ClassNotFoundException;
+}
@@ -0,0 +1,142 @@
+package uk.co.jemos.podam.common;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable list, which produces its elements on access instead of
+ * holding them
+ * <p>
+ * The list is created empty by a type manufacturer and bound to its size and
+ * source of elements by the factory, so its memory does not depend on its
+ * size. Elements are produced again on each access, unless they are still
+ * held by the cache of recently accessed elements, so equal, but not the
+ * same, elements may be returned for the same index.
+ * </p>
+ *
+ * @param <E> The type of the elements
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class VirtualList<E> extends AbstractList<E> implements RandomAccess {
+
+	/** Maximal number of recently accessed elements held */
+	private final int cacheSize;
+
+	/** Recently accessed elements per index, null, if there is no cache */
+	private final Map<Integer, E> cache;
+
+	/** Number of elements */
+	private volatile int size;
+
+	/** Source of elements, null, until the list is bound */
+	private volatile ElementSource<? extends E> source;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cacheSize
+	 *            maximal number of recently accessed elements held, 0 to
+	 *            produce elements on each access
+	 */
+	public VirtualList(final int cacheSize) {
+
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException(
+					"Cache size cannot be negative: " + cacheSize);
+		}
+		this.cacheSize = cacheSize;
+		if (cacheSize > 0) {
+			cache = new LinkedHashMap<Integer, E>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Integer, E> eldest) {
+					return size() > cacheSize;
+				}
+			};
+		} else {
+			cache = null;
+		}
+	}
+
+	/**
+	 * It binds the list to its elements.
+	 *
+	 * @param size
+	 *            the number of elements
+	 * @param source
+	 *            the source of elements
+	 * @throws IllegalStateException
+	 *             if the list is bound already
+	 */
+	public synchronized void bind(int size, ElementSource<? extends E> source) {
+
+		if (size < 0 || null == source) {
+			throw new IllegalArgumentException("Invalid size " + size
+					+ " or source " + source);
+		}
+		if (null != this.source) {
+			throw new IllegalStateException("The list is bound already");
+		}
+		this.size = size;
+		this.source = source;
+	}
+
+	/**
+	 * Checks, if the list is bound to its elements.
+	 *
+	 * @return true, if the list has got a source of elements
+	 */
+	public boolean isBound() {
+		return null != source;
+	}
+
+	/**
+	 * It returns the size of the cache.
+	 *
+	 * @return maximal number of recently accessed elements held
+	 */
+	public int getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public E get(int index) {
+
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: "
+					+ size);
+		}
+		if (null == cache) {
+			return source.getElement(index);
+		}
+		synchronized (cache) {
+			E element = cache.get(index);
+			if (null != element) {
+				return element;
+			}
+		}
+		E element = source.getElement(index);
+		synchronized (cache) {
+			cache.put(index, element);
+		}
+		return element;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+}
@@ -0,0 +1,241 @@
+package uk.co.jemos.podam.common;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Unmodifiable map, which produces its entries on access instead of
+ * holding them
+ * <p>
+ * Values are held by a {@link VirtualList}. Keys are derived from the
+ * index of their entry, so they cannot collide and lookups by key take
+ * constant time, while lookups by value produce all the values. Keys are
+ * strings, integers or longs, whichever of them the key type accepts first,
+ * see {@link #isSupportedKeyType(Class)}.
+ * </p>
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class VirtualMap<K, V> extends AbstractMap<K, V> {
+
+	/** Class of the keys derived from indices */
+	private final Class<?> keyClass;
+
+	/** Values of the map */
+	private final VirtualList<V> values;
+
+	/** View of the entries */
+	private final Set<Entry<K, V>> entrySet = new AbstractSet<Entry<K, V>>() {
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new Iterator<Entry<K, V>>() {
+
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < values.size();
+				}
+
+				@Override
+				public Entry<K, V> next() {
+
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					int current = index++;
+					return new SimpleImmutableEntry<K, V>(
+							getKey(current), values.get(current));
+				}
+
+				@Override
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return values.size();
+		}
+	};
+
+	/**
+	 * Constructor.
+	 *
+	 * @param keyType
+	 *            the type of the keys
+	 * @param cacheSize
+	 *            maximal number of recently accessed values held, 0 to
+	 *            produce values on each access
+	 * @throws IllegalArgumentException
+	 *             if keys cannot be derived for the key type
+	 */
+	public VirtualMap(Class<?> keyType, int cacheSize) {
+
+		keyClass = findKeyClass(keyType);
+		if (null == keyClass) {
+			throw new IllegalArgumentException(
+					"Keys cannot be derived from indices for " + keyType);
+		}
+		values = new VirtualList<V>(cacheSize);
+	}
+
+	/**
+	 * Checks, if keys of the type can be derived from indices.
+	 *
+	 * @param keyType
+	 *            the type of the keys
+	 * @return true, if the type accepts strings, integers or longs
+	 */
+	public static boolean isSupportedKeyType(Class<?> keyType) {
+		return null != findKeyClass(keyType);
+	}
+
+	/**
+	 * It finds the class of keys derived from indices.
+	 *
+	 * @param keyType
+	 *            the type of the keys
+	 * @return the class of keys or null, if keys cannot be derived
+	 */
+	private static Class<?> findKeyClass(Class<?> keyType) {
+
+		if (null == keyType) {
+			return null;
+		} else if (keyType.isAssignableFrom(String.class)) {
+			return String.class;
+		} else if (keyType.isAssignableFrom(Integer.class)) {
+			return Integer.class;
+		} else if (keyType.isAssignableFrom(Long.class)) {
+			return Long.class;
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * It binds the map to its values.
+	 *
+	 * @param size
+	 *            the number of entries
+	 * @param source
+	 *            the source of values
+	 * @throws IllegalStateException
+	 *             if the map is bound already
+	 */
+	public void bind(int size, ElementSource<? extends V> source) {
+		values.bind(size, source);
+	}
+
+	/**
+	 * Checks, if the map is bound to its values.
+	 *
+	 * @return true, if the map has got a source of values
+	 */
+	public boolean isBound() {
+		return values.isBound();
+	}
+
+	/**
+	 * It returns the values as a list.
+	 *
+	 * @return unmodifiable list of values with random access in the order
+	 *         of their keys' indices
+	 */
+	public VirtualList<V> getValues() {
+		return values;
+	}
+
+	/**
+	 * It returns the key of an entry.
+	 *
+	 * @param index
+	 *            the index of the entry
+	 * @return the key derived from the index
+	 */
+	@SuppressWarnings("unchecked")
+	public K getKey(int index) {
+
+		if (String.class == keyClass) {
+			return (K) String.valueOf(index);
+		} else if (Integer.class == keyClass) {
+			return (K) Integer.valueOf(index);
+		} else {
+			return (K) Long.valueOf(index);
+		}
+	}
+
+	/**
+	 * It finds the index of the entry with the key.
+	 *
+	 * @param key
+	 *            the key
+	 * @return the index of the entry or -1, if there is no such key
+	 */
+	public int indexOfKey(Object key) {
+
+		long index = -1L;
+		if (String.class == keyClass && key instanceof String) {
+			String str = (String) key;
+			try {
+				index = Integer.parseInt(str);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+			/* Only the canonical representation is a key, e.g. "7", but not "07" */
+			if (!str.equals(String.valueOf(index))) {
+				return -1;
+			}
+		} else if (Integer.class == keyClass && key instanceof Integer) {
+			index = (Integer) key;
+		} else if (Long.class == keyClass && key instanceof Long) {
+			index = (Long) key;
+		}
+		return (index >= 0 && index < values.size()) ? (int) index : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return entrySet;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOfKey(key) >= 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public V get(Object key) {
+
+		int index = indexOfKey(key);
+		return (index >= 0 ? values.get(index) : null);
+	}
+}
@@ -0,0 +1,28 @@
+package uk.co.jemos.podam.exceptions;
+
+/**
+ * The exception which occurs, when manufacturing was cancelled or its
+ * deadline expired.
+ *
+ * @since 7.1.1
+ *
+ */
+public class PodamCancellationException extends PodamMockeryException {
+
+	// ------------------->> Constants
+
+	private static final long serialVersionUID = 1L;
+
+	// ------------------->> Constructors
+
+	/**
+	 * Constructor
+	 *
+	 * @param message
+	 *            The exception message
+	 */
+	public PodamCancellationException(String message) {
+		super(message);
+	}
+
+}
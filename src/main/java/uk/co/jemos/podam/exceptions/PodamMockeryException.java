@@ -21,6 +21,17 @@ public class PodamMockeryException extends RuntimeException {
 
 	// ------------------->> Constructors
 
+	/**
+	 * Constructor without a cause
+	 * 
+	 * @param message
+	 *            The exception message
+	 * @since 7.1.1
+	 */
+	public PodamMockeryException(String message) {
+		super(message);
+	}
+
 	/**
 	 * Full constructor
 	 * 
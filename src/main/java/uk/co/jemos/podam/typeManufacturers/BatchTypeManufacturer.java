@@ -0,0 +1,52 @@
+package uk.co.jemos.podam.typeManufacturers;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+
+/**
+ * Interface for a type manufacturer able to produce many values at once.
+ * <p>
+ * Collections and arrays of types, which manufacturers implement this
+ * interface, are filled with one call instead of one call per element.
+ * Produced values must be the same as if {@link #getType} was called
+ * {@code count} times with the same arguments.
+ * </p>
+ *
+ * @param <T> The type of the value to be manufactured
+ * @since 7.1.1
+ */
+public interface BatchTypeManufacturer<T> extends TypeManufacturer<T> {
+
+    /**
+     * Adds values conforming to the annotations and the AttributeMetadata
+     * provided to a collection.
+     *
+     * @param strategy The DataProviderStrategy
+     * @param attributeMetadata The AttributeMetadata of collection elements
+     * @param genericTypesArgumentsMap map with generic types mapped to actual types
+     * @param collection The collection to add values to
+     * @param count The number of values to add
+     */
+    void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super T> collection, int count);
+
+    /**
+     * Sets all elements of an array to values conforming to the annotations
+     * and the AttributeMetadata provided.
+     *
+     * @param strategy The DataProviderStrategy
+     * @param attributeMetadata The AttributeMetadata of array elements
+     * @param genericTypesArgumentsMap map with generic types mapped to actual types
+     * @param array The array of primitive or wrapped values to fill
+     */
+    void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array);
+}
@@ -5,6 +5,7 @@ import uk.co.jemos.podam.api.DataProviderStrategy;
 import uk.co.jemos.podam.common.PodamBooleanValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -14,7 +15,8 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class BooleanTypeManufacturerImpl extends AbstractTypeManufacturer<Boolean> {
+public class BooleanTypeManufacturerImpl extends AbstractTypeManufacturer<Boolean>
+        implements BatchTypeManufacturer<Boolean>, PrimitiveTypeManufacturer.OfBoolean {
 
     /**
      * {@inheritDoc}
@@ -24,11 +26,88 @@ public class BooleanTypeManufacturerImpl extends AbstractTypeManufacturer<Boolea
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Boolean retValue;
+        PodamBooleanValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamBooleanValue.class);
+
+        if (null == annotationStrategy) {
+            return getBoolean(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean nextBoolean(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
+
+        PodamBooleanValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamBooleanValue.class);
+
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Boolean> collection, int count) {
 
         PodamBooleanValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamBooleanValue.class);
 
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getBoolean(attributeMetadata)
+                    : Boolean.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamBooleanValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamBooleanValue.class);
+
+        if (array instanceof boolean[]) {
+            boolean[] values = (boolean[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
+            }
+        } else {
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getBoolean(attributeMetadata)
+                        : Boolean.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
+        }
+    }
+
+    /**
+     * It returns a boolean/Boolean value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a boolean/Boolean value
+     */
+    private boolean getValue(PodamBooleanValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        boolean retValue;
+
         if (null != annotationStrategy) {
             retValue = annotationStrategy.boolValue();
         } else {
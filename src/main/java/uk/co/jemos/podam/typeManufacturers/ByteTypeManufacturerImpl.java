@@ -9,6 +9,8 @@ import uk.co.jemos.podam.api.PodamUtils;
 import uk.co.jemos.podam.common.PodamByteValue;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -18,7 +20,24 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class ByteTypeManufacturerImpl extends AbstractTypeManufacturer<Byte> {
+public class ByteTypeManufacturerImpl extends AbstractTypeManufacturer<Byte>
+        implements BatchTypeManufacturer<Byte>, PrimitiveTypeManufacturer.OfByte {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamByteValue, Generator> generators
+            = new CompiledValueCache<PodamByteValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamByteValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
+
+    /** Set, if a subclass redefines a method producing single bytes */
+    private final boolean singleByteOverridden
+            = isOverridden("getByte", AttributeMetadata.class)
+            || isOverridden("getByteInRange", byte.class, byte.class,
+                    AttributeMetadata.class);
 
     /**
      * {@inheritDoc}
@@ -28,43 +47,134 @@ public class ByteTypeManufacturerImpl extends AbstractTypeManufacturer<Byte> {
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Byte retValue;
+        PodamByteValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamByteValue.class);
+
+        if (null == annotationStrategy) {
+            return getByte(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte nextByte(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamByteValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamByteValue.class);
 
-        if (null != annotationStrategy) {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-            String numValueStr = annotationStrategy.numValue();
-            if (StringUtils.isNotEmpty(numValueStr)) {
-                try {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Byte> collection, int count) {
 
-                    retValue = Byte.valueOf(numValueStr);
-                } catch (NumberFormatException nfe) {
-                    throw new IllegalArgumentException("The precise value: "
-                            + numValueStr
-                            + " cannot be converted to a byte type. An exception will be thrown.",
-                            nfe);
-                }
-            } else {
-                byte minValue = annotationStrategy.minValue();
-                byte maxValue = annotationStrategy.maxValue();
+        PodamByteValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamByteValue.class);
 
-                // Sanity check
-                if (minValue > maxValue) {
-                    maxValue = minValue;
-                }
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getByte(attributeMetadata)
+                    : Byte.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
 
-                retValue = getByteInRange(minValue, maxValue,
-                        attributeMetadata);
-            }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        if (array instanceof byte[]) {
+            fillBytes((byte[]) array, attributeMetadata);
         } else {
-            retValue = getByte(attributeMetadata);
+            PodamByteValue annotationStrategy = findElementOfType(
+                    attributeMetadata.getAttributeAnnotations(), PodamByteValue.class);
+
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getByte(attributeMetadata)
+                        : Byte.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
         }
+    }
 
-        return retValue;
+    /**
+     * It returns a byte/Byte value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a byte/Byte value
+     */
+    private byte getValue(PodamByteValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        if (null == annotationStrategy) {
+            return getByte(attributeMetadata);
+        }
+
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getByteInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
+	/**
+	 * It fills a byte array with values conforming to the annotations of
+	 * the AttributeMetadata provided.
+	 * <p>
+	 * This is a bulk equivalent of {@link #getType} used by
+	 * {@link #fillArray} for byte arrays. If a subclass redefines
+	 * {@link #getByte} or {@link #getByteInRange}, bytes are produced
+	 * one by one by them instead.
+	 * </p>
+	 *
+	 * @param bytes
+	 *            the array to fill
+	 * @param attributeMetadata
+	 *            attribute metadata of the array elements
+	 */
+	public void fillBytes(byte[] bytes, AttributeMetadata attributeMetadata) {
+
+		PodamByteValue annotationStrategy = findElementOfType(
+				attributeMetadata.getAttributeAnnotations(), PodamByteValue.class);
+
+		if (singleByteOverridden) {
+
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = getValue(annotationStrategy, attributeMetadata);
+			}
+		} else if (null != annotationStrategy) {
+
+			Generator generator = generators.get(annotationStrategy);
+			if (generator.precise) {
+				Arrays.fill(bytes, generator.minValue);
+			} else {
+				PodamUtils.fillBytesInRange(bytes, generator.minValue,
+						generator.maxValue);
+			}
+		} else {
+			PodamUtils.fillBytesInRange(bytes, (byte) 0, Byte.MAX_VALUE);
+		}
+	}
+
 	/** It returns a byte/Byte value.
 	 * 
 	 * @param attributeMetadata
@@ -93,4 +203,75 @@ public class ByteTypeManufacturerImpl extends AbstractTypeManufacturer<Byte> {
 		return (byte)PodamUtils.getIntegerInRange(minValue, maxValue);
 	}
 
+    /**
+     * Checks, if a subclass redefines a method of this class.
+     *
+     * @param name
+     *            the name of the method
+     * @param parameterTypes
+     *            the parameter types of the method
+     * @return true, if the method is declared by a subclass
+     */
+    private boolean isOverridden(String name, Class<?>... parameterTypes) {
+
+        try {
+            return ByteTypeManufacturerImpl.class != getClass()
+                    .getMethod(name, parameterTypes).getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Unknown method " + name, e);
+        }
+    }
+
+    /**
+     * Immutable domain of values compiled from a {@link PodamByteValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final byte minValue;
+
+        /** The upper bound of the range */
+        private final byte maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         * @throws IllegalArgumentException
+         *            if the precise value cannot be converted
+         */
+        Generator(PodamByteValue annotationStrategy) {
+
+            String numValueStr = annotationStrategy.numValue();
+            if (StringUtils.isNotEmpty(numValueStr)) {
+                try {
+                    minValue = Byte.parseByte(numValueStr);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException("The precise value: "
+                            + numValueStr
+                            + " cannot be converted to a byte type. An exception will be thrown.",
+                            nfe);
+                }
+                maxValue = minValue;
+                precise = true;
+            } else {
+                byte min = annotationStrategy.minValue();
+                byte max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
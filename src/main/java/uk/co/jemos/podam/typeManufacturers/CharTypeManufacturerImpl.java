@@ -6,6 +6,7 @@ import uk.co.jemos.podam.api.PodamUtils;
 import uk.co.jemos.podam.common.PodamCharValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -15,7 +16,18 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class CharTypeManufacturerImpl extends AbstractTypeManufacturer<Character> {
+public class CharTypeManufacturerImpl extends AbstractTypeManufacturer<Character>
+        implements BatchTypeManufacturer<Character>, PrimitiveTypeManufacturer.OfChar {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamCharValue, Generator> generators
+            = new CompiledValueCache<PodamCharValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamCharValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -25,31 +37,96 @@ public class CharTypeManufacturerImpl extends AbstractTypeManufacturer<Character
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Character retValue;
+        PodamCharValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamCharValue.class);
+
+        if (null == annotationStrategy) {
+            return getCharacter(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public char nextChar(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamCharValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamCharValue.class);
-        if (null != annotationStrategy) {
 
-            retValue = annotationStrategy.charValue();
-            if (retValue == ' ') {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-                char minValue = annotationStrategy.minValue();
-                char maxValue = annotationStrategy.maxValue();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Character> collection, int count) {
 
-                // Sanity check
-                if (minValue > maxValue) {
-                    maxValue = minValue;
-                }
+        PodamCharValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamCharValue.class);
+
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getCharacter(attributeMetadata)
+                    : Character.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
 
-                retValue = getCharacterInRange(minValue, maxValue,
-                        attributeMetadata);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamCharValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamCharValue.class);
+
+        if (array instanceof char[]) {
+            char[] values = (char[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
             }
         } else {
-            retValue = getCharacter(attributeMetadata);
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getCharacter(attributeMetadata)
+                        : Character.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
+        }
+    }
+
+    /**
+     * It returns a char/Character value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a char/Character value
+     */
+    private char getValue(PodamCharValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        if (null == annotationStrategy) {
+            return getCharacter(attributeMetadata);
         }
 
-        return retValue;
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getCharacterInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
 	/** It returns a char/Character value.
@@ -80,4 +157,47 @@ public class CharTypeManufacturerImpl extends AbstractTypeManufacturer<Character
 		return (char)PodamUtils.getIntegerInRange(minValue, maxValue);
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamCharValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final char minValue;
+
+        /** The upper bound of the range */
+        private final char maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         */
+        Generator(PodamCharValue annotationStrategy) {
+
+            char charValue = annotationStrategy.charValue();
+            if (charValue != ' ') {
+                minValue = charValue;
+                maxValue = charValue;
+                precise = true;
+            } else {
+                char min = annotationStrategy.minValue();
+                char max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
@@ -2,6 +2,7 @@ package uk.co.jemos.podam.typeManufacturers;
 
 import uk.co.jemos.podam.api.AttributeMetadata;
 import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.common.VirtualList;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -12,11 +13,58 @@ import java.util.Map;
 
 /**
  * Default collection type manufacturer.
+ * <p>
+ * In virtual mode lists are manufactured as {@link VirtualList}s, which
+ * produce their elements on access, so lists of any size take constant
+ * memory. Other collections are manufactured as usual.
+ * </p>
  *
  * @since 7.0.0.RELEASE
  */
 public class CollectionTypeManufacturerImpl extends AbstractTypeManufacturer<Collection<Object>> {
 
+    /** Set, if lists are manufactured as virtual lists */
+    private final boolean virtual;
+
+    /** Number of recently accessed elements held by virtual lists */
+    private final int cacheSize;
+
+    /**
+     * Constructor manufacturing collections holding their elements.
+     */
+    public CollectionTypeManufacturerImpl() {
+        this(false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param virtual
+     *            true to manufacture lists as virtual lists
+     * @param cacheSize
+     *            number of recently accessed elements held by virtual lists
+     * @since 7.1.1
+     */
+    public CollectionTypeManufacturerImpl(boolean virtual, int cacheSize) {
+
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException(
+                    "Cache size cannot be negative: " + cacheSize);
+        }
+        this.virtual = virtual;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Checks, if lists are manufactured as virtual lists.
+     *
+     * @return true in virtual mode
+     * @since 7.1.1
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public Collection<Object> getType(DataProviderStrategy strategy,
             AttributeMetadata attributeMetadata,
@@ -28,7 +76,10 @@ public class CollectionTypeManufacturerImpl extends AbstractTypeManufacturer<Col
         // Default list and set are ArrayList and HashSet. If users
         // wants a particular collection flavour they have to initialise
         // the collection
-        if (collectionType.isAssignableFrom(ArrayList.class)) {
+        if (virtual && collectionType.isAssignableFrom(VirtualList.class)) {
+            // Virtual list
+            retValue = new VirtualList<Object>(cacheSize);
+        } else if (collectionType.isAssignableFrom(ArrayList.class)) {
             // List
             retValue = new ArrayList<Object>();
         } else if (collectionType.isAssignableFrom(HashSet.class)) {
@@ -0,0 +1,66 @@
+package uk.co.jemos.podam.typeManufacturers;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of immutable value generators compiled from attribute annotations
+ * or types.
+ * <p>
+ * Keys are compared by equality, as reflection returns new annotation
+ * instances for parameters of constructors and methods on every call, so
+ * equal annotations on different attributes share one generator. Lookups
+ * and additions do not lock. The cache starts anew when it reaches
+ * {@link #MAX_SIZE} entries.
+ * </p>
+ *
+ * @param <K> The type of the key generators are compiled from
+ * @param <V> The type of the compiled generator
+ * @since 7.1.1
+ */
+@ThreadSafe
+abstract class CompiledValueCache<K, V> {
+
+    /** Maximal number of cached generators */
+    static final int MAX_SIZE = 1024;
+
+    /** Compiled generators by their keys */
+    private final ConcurrentMap<K, V> generators = new ConcurrentHashMap<K, V>();
+
+    /**
+     * It returns the generator compiled from the key, compiling it first,
+     * if necessary.
+     *
+     * @param key
+     *            the annotation or type to compile
+     * @return the compiled generator
+     */
+    V get(K key) {
+
+        V generator = generators.get(key);
+        if (null == generator) {
+            generator = compile(key);
+            if (generators.size() >= MAX_SIZE) {
+                generators.clear();
+            }
+            V existing = generators.putIfAbsent(key, generator);
+            if (null != existing) {
+                generator = existing;
+            }
+        }
+        return generator;
+    }
+
+    /**
+     * It compiles the key into an immutable generator.
+     *
+     * @param key
+     *            the annotation or type to compile
+     * @return the compiled generator, never null
+     * @throws IllegalArgumentException
+     *            if the key does not define a valid domain of values
+     */
+    protected abstract V compile(K key);
+}
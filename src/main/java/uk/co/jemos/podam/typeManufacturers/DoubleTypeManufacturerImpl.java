@@ -10,6 +10,7 @@ import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamDoubleValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -19,7 +20,18 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class DoubleTypeManufacturerImpl extends AbstractTypeManufacturer<Double> {
+public class DoubleTypeManufacturerImpl extends AbstractTypeManufacturer<Double>
+        implements BatchTypeManufacturer<Double>, PrimitiveTypeManufacturer.OfDouble {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamDoubleValue, Generator> generators
+            = new CompiledValueCache<PodamDoubleValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamDoubleValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -29,42 +41,96 @@ public class DoubleTypeManufacturerImpl extends AbstractTypeManufacturer<Double>
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Double retValue;
+        PodamDoubleValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamDoubleValue.class);
+
+        if (null == annotationStrategy) {
+            return getDouble(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double nextDouble(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamDoubleValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamDoubleValue.class);
 
-        if (null != annotationStrategy) {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-            String numValueStr = annotationStrategy.numValue();
-            if (StringUtils.isNotEmpty(numValueStr)) {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Double> collection, int count) {
 
-                try {
-                    retValue = Double.valueOf(numValueStr);
-                } catch (NumberFormatException nfe) {
-                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
-                            + numValueStr
-                            + " could not be converted to a Double. An exception will be thrown.",
-                            nfe);
-                }
-            } else {
+        PodamDoubleValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamDoubleValue.class);
 
-                double minValue = annotationStrategy.minValue();
-                double maxValue = annotationStrategy.maxValue();
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getDouble(attributeMetadata)
+                    : Double.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
 
-                // Sanity check
-                if (minValue > maxValue) {
-                    maxValue = minValue;
-                }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamDoubleValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamDoubleValue.class);
 
-                retValue = getDoubleInRange(minValue, maxValue,
-                         attributeMetadata);
+        if (array instanceof double[]) {
+            double[] values = (double[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
             }
         } else {
-            retValue = getDouble(attributeMetadata);
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getDouble(attributeMetadata)
+                        : Double.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
         }
+    }
+
+    /**
+     * It returns a double/Double value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a double/Double value
+     */
+    private double getValue(PodamDoubleValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
 
-        return retValue;
+        if (null == annotationStrategy) {
+            return getDouble(attributeMetadata);
+        }
+
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getDoubleInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
     /** It returns a double/Double value
@@ -95,4 +161,56 @@ public class DoubleTypeManufacturerImpl extends AbstractTypeManufacturer<Double>
 		return PodamUtils.getDoubleInRange(minValue, maxValue);
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamDoubleValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final double minValue;
+
+        /** The upper bound of the range */
+        private final double maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         * @throws IllegalArgumentException
+         *            if the precise value cannot be converted
+         */
+        Generator(PodamDoubleValue annotationStrategy) {
+
+            String numValueStr = annotationStrategy.numValue();
+            if (StringUtils.isNotEmpty(numValueStr)) {
+                try {
+                    minValue = Double.parseDouble(numValueStr);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
+                            + numValueStr
+                            + " could not be converted to a Double. An exception will be thrown.",
+                            nfe);
+                }
+                maxValue = minValue;
+                precise = true;
+            } else {
+                double min = annotationStrategy.minValue();
+                double max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
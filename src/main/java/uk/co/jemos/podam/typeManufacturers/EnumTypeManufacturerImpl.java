@@ -1,6 +1,7 @@
 package uk.co.jemos.podam.typeManufacturers;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 import uk.co.jemos.podam.api.AttributeMetadata;
@@ -14,7 +15,22 @@ import uk.co.jemos.podam.api.PodamUtils;
  *
  * @since 6.0.0.RELEASE
  */
-public class EnumTypeManufacturerImpl extends AbstractTypeManufacturer<Enum<?>> {
+public class EnumTypeManufacturerImpl extends AbstractTypeManufacturer<Enum<?>>
+        implements BatchTypeManufacturer<Enum<?>> {
+
+    /** Constants by enum type, shared and never modified */
+    private final CompiledValueCache<Class<?>, Object[]> enumConstants
+            = new CompiledValueCache<Class<?>, Object[]>() {
+
+                @Override
+                protected Object[] compile(Class<?> enumType) {
+                    Object[] constants = enumType.getEnumConstants();
+                    if (null == constants) {
+                        constants = Thread.State.class.getEnumConstants();
+                    }
+                    return constants;
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -24,12 +40,63 @@ public class EnumTypeManufacturerImpl extends AbstractTypeManufacturer<Enum<?>>
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Class<?> realAttributeType = attributeMetadata.getAttributeType();
+        return getValue(getEnumConstants(attributeMetadata));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Enum<?>> collection, int count) {
 
-        Object[] enumConstants = realAttributeType.getEnumConstants();
-        if (null == enumConstants) {
-            enumConstants = Thread.State.class.getEnumConstants();
+        Object[] enumConstants = getEnumConstants(attributeMetadata);
+        for (int i = 0; i < count; i++) {
+            collection.add(getValue(enumConstants));
         }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        Object[] enumConstants = getEnumConstants(attributeMetadata);
+        Object[] values = (Object[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getValue(enumConstants);
+        }
+    }
+
+    /**
+     * It returns constants of the attribute's enum type.
+     * <p>
+     * The returned array is shared and should not be modified.
+     * </p>
+     *
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return the enum constants
+     */
+    private Object[] getEnumConstants(AttributeMetadata attributeMetadata) {
+
+        return enumConstants.get(attributeMetadata.getAttributeType());
+    }
+
+    /**
+     * It returns a random enum constant.
+     *
+     * @param enumConstants
+     *            the enum constants to choose from
+     * @return an enum constant or null, if there are no constants
+     */
+    private Enum<?> getValue(Object[] enumConstants) {
 
         Enum<?> retValue = null;
         final int enumConstantsLength = enumConstants.length;
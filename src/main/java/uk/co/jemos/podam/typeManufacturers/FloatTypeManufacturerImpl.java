@@ -9,6 +9,7 @@ import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamFloatValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -18,7 +19,18 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class FloatTypeManufacturerImpl extends AbstractTypeManufacturer<Float> {
+public class FloatTypeManufacturerImpl extends AbstractTypeManufacturer<Float>
+        implements BatchTypeManufacturer<Float>, PrimitiveTypeManufacturer.OfFloat {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamFloatValue, Generator> generators
+            = new CompiledValueCache<PodamFloatValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamFloatValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -28,41 +40,96 @@ public class FloatTypeManufacturerImpl extends AbstractTypeManufacturer<Float> {
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Float retValue;
+        PodamFloatValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamFloatValue.class);
+
+        if (null == annotationStrategy) {
+            return getFloat(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float nextFloat(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamFloatValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamFloatValue.class);
 
-        if (null != annotationStrategy) {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-            String numValueStr = annotationStrategy.numValue();
-            if (StringUtils.isNotEmpty(numValueStr)) {
-                try {
-                    retValue = Float.valueOf(numValueStr);
-                } catch (NumberFormatException nfe) {
-                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
-                            + numValueStr
-                            + " could not be converted to a Float. An exception will be thrown.",
-                            nfe);
-                }
-            } else {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Float> collection, int count) {
 
-                float minValue = annotationStrategy.minValue();
-                float maxValue = annotationStrategy.maxValue();
+        PodamFloatValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamFloatValue.class);
 
-                // Sanity check
-                if (minValue > maxValue) {
-                    maxValue = minValue;
-                }
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getFloat(attributeMetadata)
+                    : Float.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamFloatValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamFloatValue.class);
 
-                retValue = getFloatInRange(minValue, maxValue,
-                        attributeMetadata);
+        if (array instanceof float[]) {
+            float[] values = (float[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
             }
         } else {
-            retValue = getFloat(attributeMetadata);
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getFloat(attributeMetadata)
+                        : Float.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
         }
+    }
 
-        return retValue;
+    /**
+     * It returns a float/Float value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a float/Float value
+     */
+    private float getValue(PodamFloatValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        if (null == annotationStrategy) {
+            return getFloat(attributeMetadata);
+        }
+
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getFloatInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
 	/** It returns a float/Float value.
@@ -93,4 +160,56 @@ public class FloatTypeManufacturerImpl extends AbstractTypeManufacturer<Float> {
 		return (float)PodamUtils.getDoubleInRange(minValue, maxValue);
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamFloatValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final float minValue;
+
+        /** The upper bound of the range */
+        private final float maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         * @throws IllegalArgumentException
+         *            if the precise value cannot be converted
+         */
+        Generator(PodamFloatValue annotationStrategy) {
+
+            String numValueStr = annotationStrategy.numValue();
+            if (StringUtils.isNotEmpty(numValueStr)) {
+                try {
+                    minValue = Float.parseFloat(numValueStr);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
+                            + numValueStr
+                            + " could not be converted to a Float. An exception will be thrown.",
+                            nfe);
+                }
+                maxValue = minValue;
+                precise = true;
+            } else {
+                float min = annotationStrategy.minValue();
+                float max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
@@ -9,6 +9,7 @@ import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamIntValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -18,7 +19,18 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class IntTypeManufacturerImpl extends AbstractTypeManufacturer<Integer> {
+public class IntTypeManufacturerImpl extends AbstractTypeManufacturer<Integer>
+        implements BatchTypeManufacturer<Integer>, PrimitiveTypeManufacturer.OfInt {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamIntValue, Generator> generators
+            = new CompiledValueCache<PodamIntValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamIntValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -28,41 +40,96 @@ public class IntTypeManufacturerImpl extends AbstractTypeManufacturer<Integer> {
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Integer retValue;
+        PodamIntValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamIntValue.class);
+
+        if (null == annotationStrategy) {
+            return getInteger(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int nextInt(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamIntValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamIntValue.class);
 
-        if (null != annotationStrategy) {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-            String numValueStr = annotationStrategy.numValue();
-            if (StringUtils.isNotEmpty(numValueStr)) {
-                try {
-                    retValue = Integer.valueOf(numValueStr);
-                } catch (NumberFormatException nfe) {
-                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
-                            + numValueStr
-                            + " could not be converted to an Integer. An exception will be thrown.",
-                            nfe);
-                }
-            } else {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Integer> collection, int count) {
 
-                int minValue = annotationStrategy.minValue();
-                int maxValue = annotationStrategy.maxValue();
+        PodamIntValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamIntValue.class);
 
-                // Sanity check
-                if (minValue > maxValue) {
-                    maxValue = minValue;
-                }
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getInteger(attributeMetadata)
+                    : Integer.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamIntValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamIntValue.class);
 
-                retValue = getIntegerInRange(minValue, maxValue,
-                        attributeMetadata);
+        if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
             }
         } else {
-            retValue = getInteger(attributeMetadata);
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getInteger(attributeMetadata)
+                        : Integer.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
         }
+    }
 
-        return retValue;
+    /**
+     * It returns an int/Integer value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return an int/Integer value
+     */
+    private int getValue(PodamIntValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        if (null == annotationStrategy) {
+            return getInteger(attributeMetadata);
+        }
+
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getIntegerInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
 	/** It returns an int/Integer value.
@@ -93,4 +160,56 @@ public class IntTypeManufacturerImpl extends AbstractTypeManufacturer<Integer> {
 		return PodamUtils.getIntegerInRange(minValue, maxValue);
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamIntValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final int minValue;
+
+        /** The upper bound of the range */
+        private final int maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         * @throws IllegalArgumentException
+         *            if the precise value cannot be converted
+         */
+        Generator(PodamIntValue annotationStrategy) {
+
+            String numValueStr = annotationStrategy.numValue();
+            if (StringUtils.isNotEmpty(numValueStr)) {
+                try {
+                    minValue = Integer.parseInt(numValueStr);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
+                            + numValueStr
+                            + " could not be converted to an Integer. An exception will be thrown.",
+                            nfe);
+                }
+                maxValue = minValue;
+                precise = true;
+            } else {
+                int min = annotationStrategy.minValue();
+                int max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
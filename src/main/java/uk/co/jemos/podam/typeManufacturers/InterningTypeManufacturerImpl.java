@@ -0,0 +1,238 @@
+package uk.co.jemos.podam.typeManufacturers;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.PodamUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Type manufacturer drawing values from bounded pools of interned values.
+ * <p>
+ * Each attribute type and set of attribute annotations, or each attribute,
+ * depending on the {@link Scope}, has a pool of {@code cardinality} slots.
+ * A request picks a random slot, which is filled by the decorated
+ * manufacturer on first use, so at most {@code cardinality} distinct
+ * values are produced per pool and equal values produced for different
+ * slots share one instance. Large datasets thus keep far fewer leaf
+ * objects on the heap, and the cardinality controls the rate of
+ * duplicate values.
+ * </p>
+ * <p>
+ * Unlike {@link TableTypeManufacturerImpl}, pools are filled lazily and
+ * values are picked randomly, so small pools do not repeat values in a
+ * fixed order. Only manufacturers of immutable values (Strings,
+ * BigDecimals, wrappers) should be decorated.
+ * </p>
+ *
+ * @param <T> The type of the value to be manufactured
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class InterningTypeManufacturerImpl<T> implements TypeManufacturer<T> {
+
+    /** Application logger */
+    private static final Logger LOG = LoggerFactory.getLogger(InterningTypeManufacturerImpl.class);
+
+    /**
+     * What shares a pool of values
+     */
+    public enum Scope {
+
+        /** Attributes of the same type and annotations share a pool */
+        TYPE,
+
+        /** Each attribute of each class has its own pool */
+        ATTRIBUTE
+    }
+
+    /** The manufacturer producing pooled values */
+    private final TypeManufacturer<T> delegate;
+
+    /** Number of distinct values per pool */
+    private final int cardinality;
+
+    /** What shares a pool of values */
+    private final Scope scope;
+
+    /** Pools of values by attribute type and annotations or by attribute */
+    private final ConcurrentMap<List<Object>, Pool> pools
+            = new ConcurrentHashMap<List<Object>, Pool>();
+
+    /**
+     * Constructor.
+     *
+     * @param delegate
+     *            manufacturer producing the values to be pooled
+     * @param cardinality
+     *            number of distinct values per pool
+     * @param scope
+     *            what shares a pool of values
+     * @throws IllegalArgumentException
+     *            if the delegate or the scope is null or the cardinality is
+     *            not positive
+     */
+    public InterningTypeManufacturerImpl(TypeManufacturer<T> delegate,
+            int cardinality, Scope scope) {
+
+        if (null == delegate) {
+            throw new IllegalArgumentException("The delegate manufacturer cannot be null");
+        }
+        if (cardinality <= 0) {
+            throw new IllegalArgumentException(
+                    "Cardinality should be positive, but was " + cardinality);
+        }
+        if (null == scope) {
+            throw new IllegalArgumentException("The scope cannot be null");
+        }
+        this.delegate = delegate;
+        this.cardinality = cardinality;
+        this.scope = scope;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getType(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap) {
+
+        List<Object> key = getPoolKey(attributeMetadata);
+        Pool pool = pools.get(key);
+        if (null == pool) {
+            LOG.debug("Interning up to {} values of {}", cardinality, key);
+            pool = new Pool();
+            Pool existing = pools.putIfAbsent(key, pool);
+            if (null != existing) {
+                pool = existing;
+            }
+        }
+
+        int index = PodamUtils.getRandom().nextInt(cardinality);
+        Object value = pool.slots.get(index);
+        if (null == value) {
+            value = delegate.getType(strategy, attributeMetadata,
+                    genericTypesArgumentsMap);
+            if (null == value) {
+                return null;
+            }
+            value = pool.intern(index, value);
+        }
+        @SuppressWarnings("unchecked")
+        T interned = (T) value;
+        return interned;
+    }
+
+    /**
+     * Discards all the pooled values, they will be produced again on demand.
+     */
+    public void clearPools() {
+        pools.clear();
+    }
+
+    /**
+     * Returns the decorated manufacturer
+     *
+     * @return the manufacturer producing pooled values
+     */
+    public TypeManufacturer<T> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of distinct values per pool
+     *
+     * @return the cardinality of pools
+     */
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Returns what shares a pool of values
+     *
+     * @return the scope of pools
+     */
+    public Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * It builds a key identifying the pool of the attribute.
+     *
+     * @param attributeMetadata The AttributeMetadata
+     * @return key for the pool lookup
+     */
+    private List<Object> getPoolKey(AttributeMetadata attributeMetadata) {
+
+        if (scope == Scope.ATTRIBUTE) {
+            return Arrays.<Object>asList(attributeMetadata.getPojoClass(),
+                    attributeMetadata.getAttributeName(),
+                    attributeMetadata.getAttributeType());
+        }
+        List<Annotation> annotations = attributeMetadata.getAttributeAnnotations();
+        List<Object> key = new ArrayList<Object>(annotations.size() + 1);
+        key.add(attributeMetadata.getAttributeType());
+        key.addAll(annotations);
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "InterningTypeManufacturerImpl [delegate=" + delegate
+                + ", cardinality=" + cardinality + ", scope=" + scope + "]";
+    }
+
+    /**
+     * Pool of interned values
+     */
+    private class Pool {
+
+        /** Values of the pool, null for slots, which are not filled yet */
+        private final AtomicReferenceArray<Object> slots
+                = new AtomicReferenceArray<Object>(cardinality);
+
+        /** Canonical instances of the values in the slots */
+        private final ConcurrentMap<Object, Object> values
+                = new ConcurrentHashMap<Object, Object>();
+
+        /**
+         * It fills a slot with the canonical instance of the value, unless
+         * the slot was filled concurrently.
+         *
+         * @param index
+         *            the index of the slot
+         * @param value
+         *            the produced value
+         * @return the value in the slot
+         */
+        Object intern(int index, Object value) {
+
+            Object canonical = values.putIfAbsent(value, value);
+            if (null != canonical) {
+                value = canonical;
+            }
+            if (slots.compareAndSet(index, null, value)) {
+                return value;
+            }
+            return slots.get(index);
+        }
+    }
+}
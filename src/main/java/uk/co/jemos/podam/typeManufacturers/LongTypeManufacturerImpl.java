@@ -9,6 +9,7 @@ import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamLongValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -18,7 +19,18 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class LongTypeManufacturerImpl extends AbstractTypeManufacturer<Long> {
+public class LongTypeManufacturerImpl extends AbstractTypeManufacturer<Long>
+        implements BatchTypeManufacturer<Long>, PrimitiveTypeManufacturer.OfLong {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamLongValue, Generator> generators
+            = new CompiledValueCache<PodamLongValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamLongValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -28,41 +40,96 @@ public class LongTypeManufacturerImpl extends AbstractTypeManufacturer<Long> {
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Long retValue;
+        PodamLongValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamLongValue.class);
+
+        if (null == annotationStrategy) {
+            return getLong(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long nextLong(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamLongValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamLongValue.class);
 
-        if (null != annotationStrategy) {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-            String numValueStr = annotationStrategy.numValue();
-            if (StringUtils.isNotEmpty(numValueStr)) {
-                try {
-                    retValue = Long.valueOf(numValueStr);
-                } catch (NumberFormatException nfe) {
-                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
-                            + numValueStr
-                            + " could not be converted to a Long. An exception will be thrown.",
-                            nfe);
-                }
-            } else {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Long> collection, int count) {
 
-                long minValue = annotationStrategy.minValue();
-                long maxValue = annotationStrategy.maxValue();
+        PodamLongValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamLongValue.class);
 
-                // Sanity check
-                if (minValue > maxValue) {
-                   maxValue = minValue;
-                }
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getLong(attributeMetadata)
+                    : Long.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamLongValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamLongValue.class);
 
-                retValue = getLongInRange(minValue, maxValue,
-                        attributeMetadata);
+        if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
             }
         } else {
-            retValue = getLong(attributeMetadata);
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getLong(attributeMetadata)
+                        : Long.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
         }
+    }
 
-        return retValue;
+    /**
+     * It returns a long/Long value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a long/Long value
+     */
+    private long getValue(PodamLongValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        if (null == annotationStrategy) {
+            return getLong(attributeMetadata);
+        }
+
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getLongInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
     /** It returns a long/Long value.
@@ -93,4 +160,56 @@ public class LongTypeManufacturerImpl extends AbstractTypeManufacturer<Long> {
 		return PodamUtils.getLongInRange(minValue, maxValue);
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamLongValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final long minValue;
+
+        /** The upper bound of the range */
+        private final long maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         * @throws IllegalArgumentException
+         *            if the precise value cannot be converted
+         */
+        Generator(PodamLongValue annotationStrategy) {
+
+            String numValueStr = annotationStrategy.numValue();
+            if (StringUtils.isNotEmpty(numValueStr)) {
+                try {
+                    minValue = Long.parseLong(numValueStr);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException(PodamConstants.THE_ANNOTATION_VALUE_STR
+                            + numValueStr
+                            + " could not be converted to a Long. An exception will be thrown.",
+                            nfe);
+                }
+                maxValue = minValue;
+                precise = true;
+            } else {
+                long min = annotationStrategy.minValue();
+                long max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
@@ -2,20 +2,72 @@ package uk.co.jemos.podam.typeManufacturers;
 
 import uk.co.jemos.podam.api.AttributeMetadata;
 import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.common.VirtualMap;
 
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Default collection type manufacturer.
+ * <p>
+ * In virtual mode maps are manufactured as {@link VirtualMap}s, which
+ * produce their entries on access, so maps of any size take constant
+ * memory. Keys of virtual maps are derived from the entry indices, so maps
+ * with other keys than strings, integers or longs, see
+ * {@link VirtualMap#isSupportedKeyType(Class)}, as well as sorted and
+ * concurrent maps are manufactured as usual.
+ * </p>
  *
  * @since 7.0.0.RELEASE
  */
 public class MapTypeManufacturerImpl extends AbstractTypeManufacturer<Map<Object,Object>> {
 
+    /** Set, if maps are manufactured as virtual maps */
+    private final boolean virtual;
+
+    /** Number of recently accessed entries held by virtual maps */
+    private final int cacheSize;
+
+    /**
+     * Constructor manufacturing maps holding their entries.
+     */
+    public MapTypeManufacturerImpl() {
+        this(false, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param virtual
+     *            true to manufacture maps as virtual maps
+     * @param cacheSize
+     *            number of recently accessed entries held by virtual maps
+     * @since 7.1.1
+     */
+    public MapTypeManufacturerImpl(boolean virtual, int cacheSize) {
+
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException(
+                    "Cache size cannot be negative: " + cacheSize);
+        }
+        this.virtual = virtual;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Checks, if maps are manufactured as virtual maps.
+     *
+     * @return true in virtual mode
+     * @since 7.1.1
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public Map<Object,Object> getType(DataProviderStrategy strategy,
             AttributeMetadata attributeMetadata,
@@ -24,7 +76,13 @@ public class MapTypeManufacturerImpl extends AbstractTypeManufacturer<Map<Object
         Class<?> mapType = attributeMetadata.getAttributeType();
         Map<Object, Object> retValue = null;
 
-        if (mapType.isAssignableFrom(HashMap.class)) {
+        Class<?> keyType = (virtual ? findKeyType(attributeMetadata,
+                genericTypesArgumentsMap) : null);
+        if (mapType.isAssignableFrom(VirtualMap.class)
+                && VirtualMap.isSupportedKeyType(keyType)) {
+            // Virtual map
+            retValue = new VirtualMap<Object, Object>(keyType, cacheSize);
+        } else if (mapType.isAssignableFrom(HashMap.class)) {
             // Map
             retValue = new HashMap<Object, Object>();
         } else if (mapType.isAssignableFrom(TreeMap.class)) {
@@ -37,4 +95,24 @@ public class MapTypeManufacturerImpl extends AbstractTypeManufacturer<Map<Object
 
         return retValue;
     }
+
+    /**
+     * It finds the declared type of the map keys.
+     *
+     * @param attributeMetadata
+     *            The AttributeMetadata information of the map
+     * @param genericTypesArgumentsMap
+     *            The generic attributes type map
+     * @return the type of the keys or null, if keys are not declared
+     */
+    private static Class<?> findKeyType(AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap) {
+
+        Type[] genericArgs = attributeMetadata.getAttrGenericArgs();
+        if (null == genericArgs || genericArgs.length != 2) {
+            return null;
+        }
+        return TypeManufacturerUtil.resolveGenericParameter(genericArgs[0],
+                genericTypesArgumentsMap, new AtomicReference<Type[]>());
+    }
 }
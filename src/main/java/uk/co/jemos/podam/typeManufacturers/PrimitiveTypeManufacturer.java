@@ -0,0 +1,148 @@
+package uk.co.jemos.podam.typeManufacturers;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+
+/**
+ * Type manufacturer, which is also able to produce unboxed values.
+ * <p>
+ * Podam calls the primitive methods, where the value is stored into a
+ * primitive slot (an element of a primitive array, for example), so no
+ * wrapper objects are created for these values. The primitive methods have
+ * to honour the same attribute annotations as
+ * {@link TypeManufacturer#getType}.
+ * </p>
+ *
+ * @param <T> The wrapper type of the value to be manufactured
+ * @since 7.1.1
+ */
+public interface PrimitiveTypeManufacturer<T> extends TypeManufacturer<T> {
+
+    /**
+     * Manufacturer of unboxed int values
+     */
+    interface OfInt extends PrimitiveTypeManufacturer<Integer> {
+
+        /**
+         * Returns an int value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return an int value
+         */
+        int nextInt(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed long values
+     */
+    interface OfLong extends PrimitiveTypeManufacturer<Long> {
+
+        /**
+         * Returns a long value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a long value
+         */
+        long nextLong(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed short values
+     */
+    interface OfShort extends PrimitiveTypeManufacturer<Short> {
+
+        /**
+         * Returns a short value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a short value
+         */
+        short nextShort(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed byte values
+     */
+    interface OfByte extends PrimitiveTypeManufacturer<Byte> {
+
+        /**
+         * Returns a byte value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a byte value
+         */
+        byte nextByte(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed float values
+     */
+    interface OfFloat extends PrimitiveTypeManufacturer<Float> {
+
+        /**
+         * Returns a float value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a float value
+         */
+        float nextFloat(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed double values
+     */
+    interface OfDouble extends PrimitiveTypeManufacturer<Double> {
+
+        /**
+         * Returns a double value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a double value
+         */
+        double nextDouble(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed char values
+     */
+    interface OfChar extends PrimitiveTypeManufacturer<Character> {
+
+        /**
+         * Returns a char value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a char value
+         */
+        char nextChar(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+
+    /**
+     * Manufacturer of unboxed boolean values
+     */
+    interface OfBoolean extends PrimitiveTypeManufacturer<Boolean> {
+
+        /**
+         * Returns a boolean value for the attribute
+         *
+         * @param strategy The DataProviderStrategy
+         * @param attributeMetadata The AttributeMetadata
+         * @return a boolean value
+         */
+        boolean nextBoolean(DataProviderStrategy strategy,
+                AttributeMetadata attributeMetadata);
+    }
+}
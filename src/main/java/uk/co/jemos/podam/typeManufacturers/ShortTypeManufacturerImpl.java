@@ -8,6 +8,7 @@ import uk.co.jemos.podam.api.PodamUtils;
 import uk.co.jemos.podam.common.PodamShortValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -17,7 +18,18 @@ import java.util.Map;
  *
  * @since 6.0.0.RELEASE
  */
-public class ShortTypeManufacturerImpl extends AbstractTypeManufacturer<Short> {
+public class ShortTypeManufacturerImpl extends AbstractTypeManufacturer<Short>
+        implements BatchTypeManufacturer<Short>, PrimitiveTypeManufacturer.OfShort {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamShortValue, Generator> generators
+            = new CompiledValueCache<PodamShortValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamShortValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -27,41 +39,96 @@ public class ShortTypeManufacturerImpl extends AbstractTypeManufacturer<Short> {
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        Short retValue;
+        PodamShortValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamShortValue.class);
+
+        if (null == annotationStrategy) {
+            return getShort(attributeMetadata);
+        }
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public short nextShort(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
 
         PodamShortValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamShortValue.class);
 
-        if (null != annotationStrategy) {
+        return getValue(annotationStrategy, attributeMetadata);
+    }
 
-            String numValueStr = annotationStrategy.numValue();
-                if (StringUtils.isNotEmpty(numValueStr)) {
-                try {
-                    retValue = Short.valueOf(numValueStr);
-                } catch (NumberFormatException nfe) {
-                    throw new IllegalArgumentException("The precise value: "
-                            + numValueStr
-                            + " cannot be converted to a short type. An exception will be thrown.",
-                            nfe);
-                }
-            } else {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super Short> collection, int count) {
 
-                short minValue = annotationStrategy.minValue();
-                short maxValue = annotationStrategy.maxValue();
+        PodamShortValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamShortValue.class);
 
-                // Sanity check
-                if (minValue > maxValue) {
-                    maxValue = minValue;
-                }
+        for (int i = 0; i < count; i++) {
+            collection.add(null == annotationStrategy
+                    ? getShort(attributeMetadata)
+                    : Short.valueOf(getValue(annotationStrategy, attributeMetadata)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamShortValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamShortValue.class);
 
-                retValue = getShortInRange(minValue, maxValue,
-                        attributeMetadata);
+        if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = getValue(annotationStrategy, attributeMetadata);
             }
         } else {
-            retValue = getShort(attributeMetadata);
+            Object[] values = (Object[]) array;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = null == annotationStrategy
+                        ? getShort(attributeMetadata)
+                        : Short.valueOf(getValue(annotationStrategy, attributeMetadata));
+            }
         }
+    }
 
-        return retValue;
+    /**
+     * It returns a short/Short value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a short/Short value
+     */
+    private short getValue(PodamShortValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
+
+        if (null == annotationStrategy) {
+            return getShort(attributeMetadata);
+        }
+
+        Generator generator = generators.get(annotationStrategy);
+        if (generator.precise) {
+            return generator.minValue;
+        }
+        return getShortInRange(generator.minValue, generator.maxValue,
+                attributeMetadata);
     }
 
     /** It returns a short/Short value.
@@ -92,4 +159,56 @@ public class ShortTypeManufacturerImpl extends AbstractTypeManufacturer<Short> {
 		return (short)PodamUtils.getIntegerInRange(minValue, maxValue);
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamShortValue} annotation,
+     * either a precise value or a range.
+     */
+    private static final class Generator {
+
+        /** True, if the annotation defines a precise value */
+        private final boolean precise;
+
+        /** The precise value or the lower bound of the range */
+        private final short minValue;
+
+        /** The upper bound of the range */
+        private final short maxValue;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         * @throws IllegalArgumentException
+         *            if the precise value cannot be converted
+         */
+        Generator(PodamShortValue annotationStrategy) {
+
+            String numValueStr = annotationStrategy.numValue();
+            if (StringUtils.isNotEmpty(numValueStr)) {
+                try {
+                    minValue = Short.parseShort(numValueStr);
+                } catch (NumberFormatException nfe) {
+                    throw new IllegalArgumentException("The precise value: "
+                            + numValueStr
+                            + " cannot be converted to a short type. An exception will be thrown.",
+                            nfe);
+                }
+                maxValue = minValue;
+                precise = true;
+            } else {
+                short min = annotationStrategy.minValue();
+                short max = annotationStrategy.maxValue();
+
+                // Sanity check
+                if (min > max) {
+                    max = min;
+                }
+
+                minValue = min;
+                maxValue = max;
+                precise = false;
+            }
+        }
+    }
 }
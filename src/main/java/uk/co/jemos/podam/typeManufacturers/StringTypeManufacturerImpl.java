@@ -7,6 +7,7 @@ import uk.co.jemos.podam.common.PodamConstants;
 import uk.co.jemos.podam.common.PodamStringValue;
 
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -18,7 +19,18 @@ import org.apache.commons.lang3.StringUtils;
  *
  * @since 6.0.0.RELEASE
  */
-public class StringTypeManufacturerImpl extends AbstractTypeManufacturer<String> {
+public class StringTypeManufacturerImpl extends AbstractTypeManufacturer<String>
+        implements BatchTypeManufacturer<String> {
+
+    /** Value domains compiled from annotations */
+    private final CompiledValueCache<PodamStringValue, Generator> generators
+            = new CompiledValueCache<PodamStringValue, Generator>() {
+
+                @Override
+                protected Generator compile(PodamStringValue annotationStrategy) {
+                    return new Generator(annotationStrategy);
+                }
+            };
 
     /**
      * {@inheritDoc}
@@ -28,26 +40,68 @@ public class StringTypeManufacturerImpl extends AbstractTypeManufacturer<String>
             AttributeMetadata attributeMetadata,
             Map<String, Type> genericTypesArgumentsMap) {
 
-        String retValue;
+        PodamStringValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamStringValue.class);
+
+        return getValue(annotationStrategy, attributeMetadata);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super String> collection, int count) {
 
         PodamStringValue annotationStrategy = findElementOfType(
                 attributeMetadata.getAttributeAnnotations(), PodamStringValue.class);
 
-            retValue = getStringValue(attributeMetadata);
+        for (int i = 0; i < count; i++) {
+            collection.add(getValue(annotationStrategy, attributeMetadata));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        PodamStringValue annotationStrategy = findElementOfType(
+                attributeMetadata.getAttributeAnnotations(), PodamStringValue.class);
 
-        if (null != annotationStrategy) {
+        Object[] values = (Object[]) array;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getValue(annotationStrategy, attributeMetadata);
+        }
+    }
 
-            retValue = annotationStrategy.strValue();
-            if (StringUtils.isEmpty(retValue)) {
+    /**
+     * It returns a String value conforming to the annotation.
+     *
+     * @param annotationStrategy
+     *            the attribute annotation or null
+     * @param attributeMetadata
+     *            attribute metadata for instance to be fetched
+     * @return a String value
+     */
+    private String getValue(PodamStringValue annotationStrategy,
+            AttributeMetadata attributeMetadata) {
 
-                retValue = getStringOfLength(
-                        annotationStrategy.length(), attributeMetadata);
-            }
-        } else {
-            retValue = getStringValue(attributeMetadata);
+        if (null == annotationStrategy) {
+            return getStringValue(attributeMetadata);
         }
 
-        return retValue;
+        Generator generator = generators.get(annotationStrategy);
+        if (null != generator.value) {
+            return generator.value;
+        }
+        return getStringOfLength(generator.length, attributeMetadata);
     }
 
 	/** It returns a string value
@@ -83,4 +137,29 @@ public class StringTypeManufacturerImpl extends AbstractTypeManufacturer<String>
 		return buff.toString();
 	}
 
+    /**
+     * Immutable domain of values compiled from a {@link PodamStringValue}
+     * annotation, either a precise value or a length.
+     */
+    private static final class Generator {
+
+        /** The precise value or null */
+        private final String value;
+
+        /** The length of values */
+        private final int length;
+
+        /**
+         * Constructor.
+         *
+         * @param annotationStrategy
+         *            the attribute annotation
+         */
+        Generator(PodamStringValue annotationStrategy) {
+
+            String strValue = annotationStrategy.strValue();
+            value = StringUtils.isEmpty(strValue) ? null : strValue;
+            length = annotationStrategy.length();
+        }
+    }
 }
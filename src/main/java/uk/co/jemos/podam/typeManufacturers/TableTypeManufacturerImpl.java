@@ -0,0 +1,252 @@
+package uk.co.jemos.podam.typeManufacturers;
+
+import net.jcip.annotations.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.PodamUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Type manufacturer serving values from precomputed tables.
+ * <p>
+ * On first use for a given attribute type and set of attribute annotations
+ * the decorated manufacturer is invoked {@code tableSize} times and the
+ * results are stored in a ring. Following requests are then served by
+ * striding through the ring with a per-thread cursor, which reduces the
+ * cost of a leaf value to an array read. Larger tables repeat values less
+ * often, smaller tables use less memory. Tables, which delegate produced
+ * the same value for every slot (e.g. precise values set by annotations),
+ * are shrunk to a single slot. At most {@code maxTables} tables are kept,
+ * values for further attribute types and annotations are produced by the
+ * decorated manufacturer on each request.
+ * </p>
+ * <p>
+ * Values are shared between all the attributes served from the same ring,
+ * so only manufacturers of immutable values (Strings, wrappers, enums)
+ * should be decorated. The decorated manufacturer must only depend on the
+ * attribute type and annotations, as other metadata is not part of the
+ * ring key.
+ * </p>
+ *
+ * @param <T> The type of the value to be manufactured
+ * @since 7.1.1
+ */
+@ThreadSafe
+public class TableTypeManufacturerImpl<T> implements TypeManufacturer<T> {
+
+    /** Application logger */
+    private static final Logger LOG = LoggerFactory.getLogger(TableTypeManufacturerImpl.class);
+
+    /** Largest table size supported */
+    public static final int MAX_TABLE_SIZE = 1 << 30;
+
+    /** Default number of tables kept by a manufacturer */
+    public static final int DEFAULT_MAX_TABLES = 1024;
+
+    /** Odd stride, visits every slot of a power of two ring */
+    private static final int STRIDE = 0x9E3779B9;
+
+    /** Per-thread cursor, starts at a thread dependent position */
+    private static final ThreadLocal<int[]> CURSOR = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[] { PodamUtils.getIntegerInRange(0, Integer.MAX_VALUE) };
+        }
+    };
+
+    /** Table of keys, for which the delegate cannot produce values */
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /** The manufacturer producing table values */
+    private final TypeManufacturer<T> delegate;
+
+    /** Number of values per table, always a power of two */
+    private final int tableSize;
+
+    /** Largest number of tables kept */
+    private final int maxTables;
+
+    /** Rings of precomputed values by attribute type and annotations */
+    private final ConcurrentMap<List<Object>, Object[]> tables
+            = new ConcurrentHashMap<List<Object>, Object[]>();
+
+    /**
+     * Constructor keeping at most {@link #DEFAULT_MAX_TABLES} tables.
+     *
+     * @param delegate
+     *            manufacturer producing the values to be stored in tables
+     * @param tableSize
+     *            number of values per table, rounded up to a power of two
+     * @throws IllegalArgumentException
+     *            if the delegate is null or the table size is not positive
+     */
+    public TableTypeManufacturerImpl(TypeManufacturer<T> delegate, int tableSize) {
+        this(delegate, tableSize, DEFAULT_MAX_TABLES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param delegate
+     *            manufacturer producing the values to be stored in tables
+     * @param tableSize
+     *            number of values per table, rounded up to a power of two
+     * @param maxTables
+     *            largest number of tables kept
+     * @throws IllegalArgumentException
+     *            if the delegate is null, the table size or the number of
+     *            tables is not positive
+     */
+    public TableTypeManufacturerImpl(TypeManufacturer<T> delegate, int tableSize,
+            int maxTables) {
+
+        if (null == delegate) {
+            throw new IllegalArgumentException("The delegate manufacturer cannot be null");
+        }
+        if (tableSize <= 0 || tableSize > MAX_TABLE_SIZE) {
+            throw new IllegalArgumentException("Table size should be between 1 and "
+                    + MAX_TABLE_SIZE + ", but was " + tableSize);
+        }
+        if (maxTables <= 0) {
+            throw new IllegalArgumentException(
+                    "Number of tables should be positive, but was " + maxTables);
+        }
+        this.delegate = delegate;
+        this.maxTables = maxTables;
+        this.tableSize = tableSize == 1 ? 1 : Integer.highestOneBit(tableSize - 1) << 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T getType(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap) {
+
+        List<Object> key = getTableKey(attributeMetadata);
+        Object[] table = tables.get(key);
+        if (null == table) {
+            if (tables.size() >= maxTables) {
+                return delegate.getType(strategy, attributeMetadata,
+                        genericTypesArgumentsMap);
+            }
+            table = fillTable(strategy, attributeMetadata, genericTypesArgumentsMap);
+            Object[] existing = tables.putIfAbsent(key, table);
+            if (null != existing) {
+                table = existing;
+            }
+        }
+
+        if (table.length == 0) {
+            return null;
+        }
+        int[] cursor = CURSOR.get();
+        int position = cursor[0] += STRIDE;
+        @SuppressWarnings("unchecked")
+        T value = (T) table[position & (table.length - 1)];
+        return value;
+    }
+
+    /**
+     * Discards all the precomputed tables, they will be regenerated on demand.
+     */
+    public void clearTables() {
+        tables.clear();
+    }
+
+    /**
+     * Returns the decorated manufacturer
+     *
+     * @return the manufacturer producing table values
+     */
+    public TypeManufacturer<T> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of values per table
+     *
+     * @return the table size, a power of two
+     */
+    public int getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Returns the largest number of tables kept
+     *
+     * @return the number of tables kept at most
+     */
+    public int getMaxTables() {
+        return maxTables;
+    }
+
+    /**
+     * It produces a table of values for the attribute.
+     *
+     * @param strategy The DataProviderStrategy
+     * @param attributeMetadata The AttributeMetadata
+     * @param genericTypesArgumentsMap map with generic types mapped to actual types
+     * @return the new table, a single slot table, if the delegate produced
+     *         only equal values, or an empty table, if the delegate can not
+     *         produce values
+     */
+    private Object[] fillTable(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap) {
+
+        LOG.debug("Precomputing {} values of {}", tableSize,
+                attributeMetadata.getAttributeType());
+        Object[] table = new Object[tableSize];
+        boolean precise = true;
+        for (int i = 0; i < tableSize; i++) {
+            table[i] = delegate.getType(strategy, attributeMetadata,
+                    genericTypesArgumentsMap);
+            if (null == table[i]) {
+                return NO_VALUES;
+            }
+            precise = precise && table[i].equals(table[0]);
+        }
+        return precise ? new Object[] { table[0] } : table;
+    }
+
+    /**
+     * It builds a key identifying the attribute type and its annotations.
+     *
+     * @param attributeMetadata The AttributeMetadata
+     * @return key for the table lookup
+     */
+    private static List<Object> getTableKey(AttributeMetadata attributeMetadata) {
+
+        List<Annotation> annotations = attributeMetadata.getAttributeAnnotations();
+        if (annotations.isEmpty()) {
+            return Collections.<Object>singletonList(attributeMetadata.getAttributeType());
+        }
+        List<Object> key = new ArrayList<Object>(annotations.size() + 1);
+        key.add(attributeMetadata.getAttributeType());
+        key.addAll(annotations);
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "TableTypeManufacturerImpl [delegate=" + delegate
+                + ", tableSize=" + tableSize + ", maxTables=" + maxTables + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * POJO with attributes initialized by its constructor and a read-only
+ * collection initialized by itself
+ *
+ * @author daivanov
+ *
+ */
+public class ConstructorAndReadOnlyPojo {
+
+	private final SimplePojoToTestSetters first;
+
+	private final List<SimplePojoToTestSetters> passed;
+
+	private final List<SimplePojoToTestSetters> owned
+			= new ArrayList<SimplePojoToTestSetters>();
+
+	public ConstructorAndReadOnlyPojo(SimplePojoToTestSetters first,
+			List<SimplePojoToTestSetters> passed) {
+		this.first = first;
+		this.passed = passed;
+	}
+
+	public SimplePojoToTestSetters getFirst() {
+		return first;
+	}
+
+	public List<SimplePojoToTestSetters> getPassed() {
+		return passed;
+	}
+
+	public List<SimplePojoToTestSetters> getOwned() {
+		return owned;
+	}
+
+}
@@ -0,0 +1,69 @@
+package uk.co.jemos.podam.test.dto;
+
+import uk.co.jemos.podam.common.PodamDoubleValue;
+import uk.co.jemos.podam.common.PodamExclude;
+import uk.co.jemos.podam.common.PodamIntValue;
+
+import java.util.List;
+
+/**
+ * POJO without setters for most of its fields, which can be populated by
+ * field injection only
+ *
+ * @author daivanov
+ *
+ */
+public class FieldInjectionPojo {
+
+	@PodamIntValue(numValue = "42")
+	private final int intValue;
+
+	private final String stringValue;
+
+	private final List<Long> longs;
+
+	private final SimplePojoToTestSetters nested;
+
+	@PodamExclude
+	private String excludedValue;
+
+	private double validatedValue;
+
+	public FieldInjectionPojo() {
+		intValue = 0;
+		stringValue = null;
+		longs = null;
+		nested = null;
+	}
+
+	public int getIntValue() {
+		return intValue;
+	}
+
+	public String getStringValue() {
+		return stringValue;
+	}
+
+	public List<Long> getLongs() {
+		return longs;
+	}
+
+	public SimplePojoToTestSetters getNested() {
+		return nested;
+	}
+
+	public String getExcludedValue() {
+		return excludedValue;
+	}
+
+	public double getValidatedValue() {
+		return validatedValue;
+	}
+
+	public void setValidatedValue(
+			@PodamDoubleValue(numValue = "7.5") double validatedValue) {
+		throw new IllegalArgumentException("Validation failed for "
+				+ validatedValue);
+	}
+
+}
@@ -0,0 +1,51 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import uk.co.jemos.podam.common.PodamCollection;
+
+/**
+ * POJO with containers large enough to be filled in parallel
+ *
+ * @author daivanov
+ *
+ */
+public class LargeContainersPojo {
+
+	/** Number of elements in each container */
+	public static final int NBR_ELEMENTS = 64;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private List<SimplePojoToTestSetters> list;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private Map<String, SimplePojoToTestSetters> map;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private SimplePojoToTestSetters[] array;
+
+	public List<SimplePojoToTestSetters> getList() {
+		return list;
+	}
+
+	public void setList(List<SimplePojoToTestSetters> list) {
+		this.list = list;
+	}
+
+	public Map<String, SimplePojoToTestSetters> getMap() {
+		return map;
+	}
+
+	public void setMap(Map<String, SimplePojoToTestSetters> map) {
+		this.map = map;
+	}
+
+	public SimplePojoToTestSetters[] getArray() {
+		return array;
+	}
+
+	public void setArray(SimplePojoToTestSetters[] array) {
+		this.array = array;
+	}
+}
@@ -0,0 +1,24 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.List;
+
+/**
+ * Interface of a graph node, which can be implemented by a lazily
+ * populated proxy
+ *
+ * @author daivanov
+ *
+ */
+public interface LazyNodePojo {
+
+	String getName();
+
+	void setName(String name);
+
+	int getValue();
+
+	LazyNodePojo getParent();
+
+	List<SimplePojoToTestSetters> getItems();
+
+}
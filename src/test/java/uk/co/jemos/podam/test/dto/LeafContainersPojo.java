@@ -0,0 +1,73 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import uk.co.jemos.podam.common.PodamCollection;
+
+/**
+ * POJO with containers of values, which are produced in bulk
+ *
+ * @author daivanov
+ *
+ */
+public class LeafContainersPojo {
+
+	/** Number of elements in each container */
+	public static final int NBR_ELEMENTS = 64;
+
+	private String value;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private List<String> names;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private Map<String, Long> counts;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private int[] ints;
+
+	@PodamCollection(nbrElements = NBR_ELEMENTS)
+	private Integer[] boxed;
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	public List<String> getNames() {
+		return names;
+	}
+
+	public void setNames(List<String> names) {
+		this.names = names;
+	}
+
+	public Map<String, Long> getCounts() {
+		return counts;
+	}
+
+	public void setCounts(Map<String, Long> counts) {
+		this.counts = counts;
+	}
+
+	public int[] getInts() {
+		return ints;
+	}
+
+	public void setInts(int[] ints) {
+		this.ints = ints;
+	}
+
+	public Integer[] getBoxed() {
+		return boxed;
+	}
+
+	public void setBoxed(Integer[] boxed) {
+		this.boxed = boxed;
+	}
+
+}
@@ -0,0 +1,36 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.List;
+
+import uk.co.jemos.podam.common.PodamCollection;
+
+/**
+ * POJO referencing the next POJO of its type through a list, so the graph
+ * nests through containers
+ *
+ * @author daivanov
+ *
+ */
+public class ListChainPojo {
+
+	private String name;
+
+	@PodamCollection(nbrElements = 1)
+	private List<ListChainPojo> next;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public List<ListChainPojo> getNext() {
+		return next;
+	}
+
+	public void setNext(List<ListChainPojo> next) {
+		this.next = next;
+	}
+}
@@ -0,0 +1,23 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * POJO with collections nested in each other
+ *
+ * @author daivanov
+ *
+ */
+public class NestedCollectionsPojo {
+
+	private List<Map<String, List<SimplePojoToTestSetters>>> items;
+
+	public List<Map<String, List<SimplePojoToTestSetters>>> getItems() {
+		return items;
+	}
+
+	public void setItems(List<Map<String, List<SimplePojoToTestSetters>>> items) {
+		this.items = items;
+	}
+}
@@ -0,0 +1,49 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * POJO with containers, which order their elements by settings not
+ * visible through their no-arguments constructors
+ *
+ * @author daivanov
+ *
+ */
+public class OrderedContainersPojo {
+
+	private final SortedSet<String> reversedNames =
+			new TreeSet<String>(Collections.<String>reverseOrder());
+
+	private final SortedMap<String, String> caseInsensitiveNames =
+			new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+
+	private final Map<String, String> recentNames =
+			new LinkedHashMap<String, String>(16, 0.75f, true);
+
+	public OrderedContainersPojo() {
+		reversedNames.add("a");
+		reversedNames.add("b");
+		caseInsensitiveNames.put("a", "a");
+		caseInsensitiveNames.put("B", "B");
+		recentNames.put("a", "a");
+		recentNames.put("b", "b");
+	}
+
+	public SortedSet<String> getReversedNames() {
+		return reversedNames;
+	}
+
+	public SortedMap<String, String> getCaseInsensitiveNames() {
+		return caseInsensitiveNames;
+	}
+
+	public Map<String, String> getRecentNames() {
+		return recentNames;
+	}
+}
@@ -0,0 +1,23 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.Set;
+
+/**
+ * POJO with a set of POJOs, whose hash codes depend on their state
+ *
+ * @author daivanov
+ *
+ */
+public class PojoSetPojo {
+
+	private Set<SimplePojoToTestSetters> pojos;
+
+	public Set<SimplePojoToTestSetters> getPojos() {
+		return pojos;
+	}
+
+	public void setPojos(Set<SimplePojoToTestSetters> pojos) {
+		this.pojos = pojos;
+	}
+
+}
@@ -0,0 +1,38 @@
+package uk.co.jemos.podam.test.dto;
+
+import java.util.List;
+
+import uk.co.jemos.podam.common.PodamCollection;
+
+/**
+ * POJO with children of its own type, so the graph fans out with its depth
+ *
+ * @author daivanov
+ *
+ */
+public class TreeNodePojo {
+
+	/** Number of children of each node */
+	public static final int NBR_CHILDREN = 3;
+
+	private String name;
+
+	@PodamCollection(nbrElements = NBR_CHILDREN)
+	private List<TreeNodePojo> children;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public List<TreeNodePojo> getChildren() {
+		return children;
+	}
+
+	public void setChildren(List<TreeNodePojo> children) {
+		this.children = children;
+	}
+}
@@ -0,0 +1,112 @@
+/**
+ * 
+ */
+package uk.co.jemos.podam.test.dto.annotations;
+
+import java.io.Serializable;
+
+import uk.co.jemos.podam.common.PodamByteValue;
+import uk.co.jemos.podam.common.PodamCollection;
+import uk.co.jemos.podam.common.PodamDoubleValue;
+import uk.co.jemos.podam.common.PodamIntValue;
+import uk.co.jemos.podam.test.utils.PodamTestConstants;
+
+/**
+ * POJO with annotated primitive and wrapper arrays
+ * 
+ */
+public class ArrayValuesPojo implements Serializable {
+
+	// ------------------->> Constants
+
+	private static final long serialVersionUID = 1L;
+
+	// ------------------->> Instance / Static variables
+
+	@PodamCollection(nbrElements = PodamTestConstants.NUMBER_INT_MAX_VALUE)
+	@PodamByteValue(minValue = PodamTestConstants.NUMBER_INT_MIN_VALUE, maxValue = PodamTestConstants.NUMBER_INT_ONE_HUNDRED)
+	private byte[] byteArray;
+
+	@PodamCollection(nbrElements = PodamTestConstants.NUMBER_INT_MAX_VALUE)
+	@PodamIntValue(minValue = PodamTestConstants.NUMBER_INT_MIN_VALUE, maxValue = PodamTestConstants.NUMBER_INT_ONE_HUNDRED)
+	private int[] intArray;
+
+	@PodamCollection(nbrElements = PodamTestConstants.ANNOTATION_COLLECTION_NBR_ELEMENTS)
+	@PodamDoubleValue(minValue = PodamTestConstants.NUMBER_DOUBLE_MIN_VALUE, maxValue = PodamTestConstants.NUMBER_DOUBLE_ONE_HUNDRED)
+	private Double[] doubleObjectArray;
+
+	private char[] charArray;
+
+	// ------------------->> Constructors
+
+	// ------------------->> Public methods
+
+	// ------------------->> Getters / Setters
+
+	/**
+	 * @return the byteArray
+	 */
+	public byte[] getByteArray() {
+		return byteArray;
+	}
+
+	/**
+	 * @param byteArray
+	 *            the byteArray to set
+	 */
+	public void setByteArray(byte[] byteArray) {
+		this.byteArray = byteArray;
+	}
+
+	/**
+	 * @return the intArray
+	 */
+	public int[] getIntArray() {
+		return intArray;
+	}
+
+	/**
+	 * @param intArray
+	 *            the intArray to set
+	 */
+	public void setIntArray(int[] intArray) {
+		this.intArray = intArray;
+	}
+
+	/**
+	 * @return the doubleObjectArray
+	 */
+	public Double[] getDoubleObjectArray() {
+		return doubleObjectArray;
+	}
+
+	/**
+	 * @param doubleObjectArray
+	 *            the doubleObjectArray to set
+	 */
+	public void setDoubleObjectArray(Double[] doubleObjectArray) {
+		this.doubleObjectArray = doubleObjectArray;
+	}
+
+	/**
+	 * @return the charArray
+	 */
+	public char[] getCharArray() {
+		return charArray;
+	}
+
+	/**
+	 * @param charArray
+	 *            the charArray to set
+	 */
+	public void setCharArray(char[] charArray) {
+		this.charArray = charArray;
+	}
+
+	// ------------------->> Private methods
+
+	// ------------------->> equals() / hashcode() / toString()
+
+	// ------------------->> Inner classes
+
+}
@@ -28,6 +28,18 @@ public class AnnotationsExceptionsTest {
         podamFactory.manufacturePojo(IntegerValueWithErrorPojo.class);
     }
 
+    @Test(expected = PodamMockeryException.class)
+    @Title("Podam should throw an exception on each use of an invalid @PodamIntValue annotation")
+    public void podamShouldThrowExceptionOnEachUseOfInvalidPodamIntegerValue() throws Exception {
+
+        try {
+            podamFactory.manufacturePojo(IntegerValueWithErrorPojo.class);
+        } catch (PodamMockeryException e) {
+            // The invalid value must not be cached by the manufacturer
+        }
+        podamFactory.manufacturePojo(IntegerValueWithErrorPojo.class);
+    }
+
     @Test(expected = PodamMockeryException.class)
     @Title("Podam should throw an exception if the @PodamLongValue annotation contains invalid characters")
     public void podamShouldThrowExceptionWhenPodamLongValueContainsInvalidCharacters() throws Exception {
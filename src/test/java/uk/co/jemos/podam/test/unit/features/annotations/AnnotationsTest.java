@@ -440,6 +440,46 @@ public class AnnotationsTest extends AbstractPodamSteps {
     }
 
 
+    @Test
+    @Title("Podam should honour value annotations on elements of primitive and wrapper arrays")
+    public void podamShouldHonourValueAnnotationsOnArrayElements() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        ArrayValuesPojo pojo =
+                podamInvocationSteps.whenIInvokeTheFactoryForClass(ArrayValuesPojo.class, podamFactory);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+
+        byte[] byteArray = pojo.getByteArray();
+        podamValidationSteps.theArrayShouldHaveExactlyTheExpectedNumberOfElements(byteArray,
+                PodamTestConstants.NUMBER_INT_MAX_VALUE);
+        for (byte byteValue : byteArray) {
+            podamValidationSteps.theByteValueShouldBeBetween(byteValue,
+                    PodamTestConstants.NUMBER_INT_MIN_VALUE, PodamTestConstants.NUMBER_INT_ONE_HUNDRED);
+        }
+
+        int[] intArray = pojo.getIntArray();
+        podamValidationSteps.theArrayShouldHaveExactlyTheExpectedNumberOfElements(intArray,
+                PodamTestConstants.NUMBER_INT_MAX_VALUE);
+        for (int intValue : intArray) {
+            podamValidationSteps.theIntFieldShouldHaveValueBetween(
+                    PodamTestConstants.NUMBER_INT_MIN_VALUE, PodamTestConstants.NUMBER_INT_ONE_HUNDRED, intValue);
+        }
+
+        Double[] doubleObjectArray = pojo.getDoubleObjectArray();
+        podamValidationSteps.theArrayOfTheGivenTypeShouldNotBeNullOrEmptyAndContainExactlyTheGivenNumberOfElements(
+                doubleObjectArray, PodamTestConstants.ANNOTATION_COLLECTION_NBR_ELEMENTS, Double.class);
+        for (Double doubleValue : doubleObjectArray) {
+            podamValidationSteps.theDoubleValueShouldBeBetween(doubleValue,
+                    PodamTestConstants.NUMBER_DOUBLE_MIN_VALUE, PodamTestConstants.NUMBER_DOUBLE_ONE_HUNDRED);
+        }
+
+        char[] charArray = pojo.getCharArray();
+        podamValidationSteps.theObjectShouldNotBeNull(charArray);
+        for (char charValue : charArray) {
+            podamValidationSteps.theCharValueShouldBeGreaterOrEqualThan(charValue, '0');
+        }
+    }
+
     @Test
     @Title("Podam should assign exactly the values specified with the @PodamStrategyValue annotation")
     public void podamShouldAssignExactValuesDefinedInPodamStrategyValueAnnotation() throws Exception {
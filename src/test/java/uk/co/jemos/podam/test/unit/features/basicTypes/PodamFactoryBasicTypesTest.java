@@ -5,8 +5,10 @@ import net.thucydides.core.annotations.Title;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
 import uk.co.jemos.podam.api.DataProviderStrategy;
 import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
 import uk.co.jemos.podam.test.dto.*;
 import uk.co.jemos.podam.test.dto.pdm6.Child;
 import uk.co.jemos.podam.test.dto.pdm6.Parent;
@@ -26,6 +28,8 @@ import java.util.GregorianCalendar;
 @RunWith(SerenityRunner.class)
 public class PodamFactoryBasicTypesTest extends AbstractPodamSteps {
 
+    private static final long SMALL_STACK_SIZE = 512 * 1024;
+
     @Test
     @Title("Podam should fill in a POJO with basic jvm types")
     public void podamShouldGenerateBasicTypes() throws Exception {
@@ -96,6 +100,94 @@ public class PodamFactoryBasicTypesTest extends AbstractPodamSteps {
 
     }
 
+    @Test
+    @Title("Podam should fill recursive POJOs from a work queue")
+    public void podamShouldFillRecursivePojosIteratively() throws Exception {
+
+        PodamFactoryImpl podamFactory = new PodamFactoryImpl().setIterativePopulation(true);
+        RecursivePojo recursivePojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(RecursivePojo.class, podamFactory);
+        recursivePojoValidationSteps.allPojosInTheRecursiveStrategyShouldBeValid(recursivePojo);
+
+        RecursivePojo pojo = new RecursivePojo();
+        podamInvocationSteps.whenIInvokeThePojoPopulationDirectly(pojo, podamFactory);
+        recursivePojoValidationSteps.allPojosInTheRecursiveStrategyShouldBeValid(pojo);
+    }
+
+    @Test
+    @Title("Podam should fill deep graphs from a work queue without exhausting the stack")
+    public void podamShouldFillDeepGraphsIteratively() throws Exception {
+
+        final int maxDepth = 20000;
+        DataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+            @Override
+            public int getMaxDepth(Class<?> type) {
+                return maxDepth;
+            }
+        };
+        PodamFactoryImpl podamFactory = new PodamFactoryImpl(strategy).setIterativePopulation(true);
+        RecursivePojo pojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(RecursivePojo.class, podamFactory);
+
+        int depth = 0;
+        for (RecursivePojo parent = pojo; null != parent; parent = parent.getParent()) {
+            depth++;
+        }
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(depth, maxDepth);
+    }
+
+    @Test
+    @Title("Podam should fill graphs from a work queue, which overflow the stack when filled recursively")
+    public void podamShouldFillGraphsIterativelyBeyondRecursionLimit() throws Exception {
+
+        final int maxDepth = 20000;
+        DataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+            @Override
+            public int getMaxDepth(Class<?> type) {
+                return maxDepth;
+            }
+        };
+
+        Throwable recursiveFailure = manufactureOnSmallStack(
+                new PodamFactoryImpl(strategy), RecursivePojo.class);
+        while (null != recursiveFailure
+                && !(recursiveFailure instanceof StackOverflowError)) {
+            recursiveFailure = recursiveFailure.getCause();
+        }
+        podamValidationSteps.theObjectShouldNotBeNull(recursiveFailure);
+
+        Throwable iterativeFailure = manufactureOnSmallStack(
+                new PodamFactoryImpl(strategy).setIterativePopulation(true),
+                RecursivePojo.class);
+        podamValidationSteps.theObjectShouldBeNull(iterativeFailure);
+    }
+
+    @Test
+    @Title("Podam should fill graphs nested through containers from a work queue without exhausting the stack")
+    public void podamShouldFillContainerChainsIteratively() throws Exception {
+
+        final int maxDepth = 20000;
+        DataProviderStrategy strategy = new AbstractRandomDataProviderStrategy() {
+            @Override
+            public int getMaxDepth(Class<?> type) {
+                return maxDepth;
+            }
+        };
+
+        Throwable iterativeFailure = manufactureOnSmallStack(
+                new PodamFactoryImpl(strategy).setIterativePopulation(true),
+                ListChainPojo.class);
+        podamValidationSteps.theObjectShouldBeNull(iterativeFailure);
+
+        ListChainPojo pojo = new PodamFactoryImpl(strategy).setIterativePopulation(true)
+                .manufacturePojo(ListChainPojo.class);
+        int depth = 0;
+        for (ListChainPojo link = pojo; null != link;
+                link = link.getNext().isEmpty() ? null : link.getNext().get(0)) {
+            podamValidationSteps.theObjectShouldNotBeNull(link.getName());
+            depth++;
+        }
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(depth, maxDepth);
+    }
+
     @Test
     @Title("Podam should fill array when invoking the factory population directly")
     public void podamShouldFillArrays() throws Exception {
@@ -137,6 +229,26 @@ public class PodamFactoryBasicTypesTest extends AbstractPodamSteps {
         podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(depth, podamFactory.getStrategy().getMaxDepth(Parent.class));
     }
 
+    private static Throwable manufactureOnSmallStack(final PodamFactory podamFactory,
+            final Class<?> pojoClass) throws Exception {
+
+        final Throwable[] failure = new Throwable[1];
+        Thread thread = new Thread(null, new Runnable() {
+
+            @Override
+            public void run() {
+                try {
+                    podamFactory.manufacturePojo(pojoClass);
+                } catch (Throwable e) {
+                    failure[0] = e;
+                }
+            }
+        }, "podam-small-stack", SMALL_STACK_SIZE);
+        thread.start();
+        thread.join();
+        return failure[0];
+    }
+
     @Test
     @Title("Podam should fill in lists of the containing class type")
     public void podamShouldSupportRecursiveLists() throws Exception {
@@ -0,0 +1,517 @@
+package uk.co.jemos.podam.test.unit.features.bulk;
+
+import net.serenitybdd.junit.runners.SerenityRunner;
+import net.thucydides.core.annotations.Title;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import uk.co.jemos.podam.api.AsyncPodamFactory;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.PodamPacedGenerator;
+import uk.co.jemos.podam.api.PodamPojoSource;
+import uk.co.jemos.podam.api.PodamPrototype;
+import uk.co.jemos.podam.api.PodamUtils;
+import uk.co.jemos.podam.test.dto.LargeContainersPojo;
+import uk.co.jemos.podam.test.dto.LeafContainersPojo;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
+import uk.co.jemos.podam.test.dto.OrderedContainersPojo;
+import uk.co.jemos.podam.test.dto.PojoSetPojo;
+import uk.co.jemos.podam.test.dto.RecursivePojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.docs.example.Client;
+import uk.co.jemos.podam.test.dto.docs.example.Order;
+import uk.co.jemos.podam.test.dto.docs.example.OrderItem;
+import uk.co.jemos.podam.test.unit.AbstractPodamSteps;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stories for manufacturing many POJOs at once.
+ */
+@RunWith(SerenityRunner.class)
+public class BulkManufacturingTest extends AbstractPodamSteps {
+
+    private static final int NBR_POJOS = 100;
+
+    @Test
+    @Title("Podam should manufacture a list of distinct POJOs")
+    public void podamShouldManufactureAListOfPojos() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+
+        List<OneDimensionalTestPojo> pojos = podamInvocationSteps.whenIInvokeTheFactoryForClasses(
+                OneDimensionalTestPojo.class, NBR_POJOS, podamFactory);
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojos, OneDimensionalTestPojo.class, NBR_POJOS);
+        for (OneDimensionalTestPojo pojo : pojos) {
+            podamValidationSteps.theObjectShouldNotBeNull(pojo.getStringField());
+            podamValidationSteps.theObjectShouldNotBeNull(pojo.getIntArray());
+        }
+        podamValidationSteps.theTwoObjectsShouldBeDifferent(pojos.get(0), pojos.get(1));
+    }
+
+    @Test
+    @Title("Podam should fill an array with POJOs of the same depth")
+    public void podamShouldFillAnArrayWithPojos() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+
+        RecursivePojo[] pojos = podamInvocationSteps.whenIInvokeTheFactoryToFillAnArray(
+                new RecursivePojo[NBR_POJOS], RecursivePojo.class, podamFactory);
+        podamValidationSteps.theArrayOfTheGivenTypeShouldNotBeNullOrEmptyAndContainElementsOfTheRightType(
+                pojos, RecursivePojo.class);
+
+        int expectedDepth = getDepth(podamFactory.manufacturePojo(RecursivePojo.class));
+        for (RecursivePojo pojo : pojos) {
+            podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(getDepth(pojo), expectedDepth);
+        }
+    }
+
+    @Test
+    @Title("Podam should iterate over a given number of manufactured POJOs")
+    public void podamShouldIterateOverManufacturedPojos() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamPojoSource<OneDimensionalTestPojo> source =
+                new PodamPojoSource<OneDimensionalTestPojo>(podamFactory, OneDimensionalTestPojo.class);
+
+        List<OneDimensionalTestPojo> pojos = new ArrayList<OneDimensionalTestPojo>();
+        Iterator<OneDimensionalTestPojo> iterator = source.iterator(NBR_POJOS + 1);
+        while (iterator.hasNext()) {
+            pojos.add(iterator.next());
+        }
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojos, OneDimensionalTestPojo.class, NBR_POJOS + 1);
+    }
+
+    @Test
+    @Title("Podam should manufacture POJOs concurrently")
+    public void podamShouldManufacturePojosConcurrently() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamPojoSource<RecursivePojo> source =
+                new PodamPojoSource<RecursivePojo>(podamFactory, RecursivePojo.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<RecursivePojo> pojos = source.manufacture(NBR_POJOS * 10, executor);
+            podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                    pojos, RecursivePojo.class, NBR_POJOS * 10);
+
+            int expectedDepth = getDepth(podamFactory.manufacturePojo(RecursivePojo.class));
+            for (RecursivePojo pojo : pojos) {
+                podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(getDepth(pojo), expectedDepth);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @Title("Podam should not manufacture POJOs concurrently with memoization enabled")
+    public void podamShouldNotManufacturePojosConcurrentlyWithMemoization() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactoryWithMemoizationEnabled();
+        PodamPojoSource<RecursivePojo> source =
+                new PodamPojoSource<RecursivePojo>(podamFactory, RecursivePojo.class);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            source.manufacture(NBR_POJOS, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should publish requested POJOs")
+    public void podamShouldPublishRequestedPojos() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamPojoSource<OneDimensionalTestPojo> source =
+                new PodamPojoSource<OneDimensionalTestPojo>(podamFactory, OneDimensionalTestPojo.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CollectingSubscriber<OneDimensionalTestPojo> subscriber =
+                    new CollectingSubscriber<OneDimensionalTestPojo>(3);
+            source.publisher(NBR_POJOS, 8, executor).subscribe(subscriber);
+
+            podamValidationSteps.theBooleanValueIsTrue(subscriber.await());
+            podamValidationSteps.theValueShouldBeNull(subscriber.getError());
+            podamValidationSteps.theBooleanValueIsTrue(subscriber.isCompleted());
+            podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                    subscriber.getPojos(), OneDimensionalTestPojo.class, NBR_POJOS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should cancel subscriptions of failing subscribers")
+    public void podamShouldCancelSubscriptionsOfFailingSubscribers() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamPojoSource<OneDimensionalTestPojo> source =
+                new PodamPojoSource<OneDimensionalTestPojo>(podamFactory, OneDimensionalTestPojo.class);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final IllegalStateException failure = new IllegalStateException("Subscriber failure");
+            CollectingSubscriber<OneDimensionalTestPojo> subscriber =
+                    new CollectingSubscriber<OneDimensionalTestPojo>(1) {
+
+                @Override
+                public void onNext(OneDimensionalTestPojo pojo) {
+                    super.onNext(pojo);
+                    if (getPojos().size() == 2) {
+                        throw failure;
+                    }
+                }
+            };
+            source.publisher(NBR_POJOS, 8, executor).subscribe(subscriber);
+
+            podamValidationSteps.theBooleanValueIsTrue(subscriber.await());
+            podamValidationSteps.theBooleanValueIsTrue(subscriber.getError() == failure);
+            podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                    subscriber.getPojos(), OneDimensionalTestPojo.class, 2);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should fail subscriptions requesting a non positive number of POJOs")
+    public void podamShouldFailInvalidRequests() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamPojoSource<OneDimensionalTestPojo> source =
+                new PodamPojoSource<OneDimensionalTestPojo>(podamFactory, OneDimensionalTestPojo.class);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CollectingSubscriber<OneDimensionalTestPojo> subscriber =
+                    new CollectingSubscriber<OneDimensionalTestPojo>(0);
+            source.publisher(NBR_POJOS, 8, executor).subscribe(subscriber);
+
+            podamValidationSteps.theBooleanValueIsTrue(subscriber.await());
+            podamValidationSteps.theObjectShouldNotBeNull(subscriber.getError());
+            podamValidationSteps.theCollectionShouldBeEmpty(subscriber.getPojos());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should manufacture and populate POJOs asynchronously")
+    public void podamShouldManufactureAndPopulatePojosAsynchronously() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+
+        ExecutorService executor = AsyncPodamFactory.newVirtualThreadExecutor();
+        if (null == executor) {
+            executor = Executors.newFixedThreadPool(2);
+        }
+        try {
+            AsyncPodamFactory asyncFactory = new AsyncPodamFactory(podamFactory, executor);
+
+            Future<OneDimensionalTestPojo> manufactured =
+                    asyncFactory.manufacturePojo(OneDimensionalTestPojo.class);
+            OneDimensionalTestPojo pojo = new OneDimensionalTestPojo();
+            Future<OneDimensionalTestPojo> populated = asyncFactory.populatePojo(pojo);
+
+            podamValidationSteps.theObjectShouldNotBeNull(
+                    manufactured.get(10, TimeUnit.SECONDS).getStringField());
+            podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(
+                    populated.get(10, TimeUnit.SECONDS), pojo);
+            podamValidationSteps.theObjectShouldNotBeNull(pojo.getStringField());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should manufacture elements of large containers in parallel")
+    public void podamShouldManufactureLargeContainersInParallel() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        Random previous = PodamUtils.setThreadRandom(null);
+        try {
+            podamFactory.setParallelExecutor(executor, LargeContainersPojo.NBR_ELEMENTS / 2);
+
+            PodamUtils.setThreadRandom(new Random(NBR_POJOS));
+            LargeContainersPojo first = podamFactory.manufacturePojo(LargeContainersPojo.class);
+            PodamUtils.setThreadRandom(new Random(NBR_POJOS));
+            LargeContainersPojo second = podamFactory.manufacturePojo(LargeContainersPojo.class);
+
+            podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                    first.getList(), SimplePojoToTestSetters.class, LargeContainersPojo.NBR_ELEMENTS);
+            podamValidationSteps.theMapShouldNotBeNullOrEmptyAndContainElementsOfType(
+                    first.getMap(), String.class, SimplePojoToTestSetters.class);
+            podamValidationSteps.theArrayShouldHaveExactlyTheExpectedNumberOfElements(
+                    first.getArray(), LargeContainersPojo.NBR_ELEMENTS);
+            for (int i = 0; i < LargeContainersPojo.NBR_ELEMENTS; i++) {
+                podamValidationSteps.theStringFieldCannotBeNullOrEmpty(
+                        first.getList().get(i).getStringField());
+                podamValidationSteps.theTwoObjectsShouldBeEqual(
+                        first.getList().get(i).getStringField(),
+                        second.getList().get(i).getStringField());
+                podamValidationSteps.theTwoObjectsShouldBeEqual(
+                        first.getArray()[i].getStringField(),
+                        second.getArray()[i].getStringField());
+            }
+            podamValidationSteps.theTwoObjectsShouldBeEqual(
+                    first.getMap().keySet(), second.getMap().keySet());
+        } finally {
+            PodamUtils.setThreadRandom(previous);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should emit POJOs at the requested rate")
+    public void podamShouldEmitPojosAtRequestedRate() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        int rate = 10 * NBR_POJOS;
+        PodamPacedGenerator<OneDimensionalTestPojo> generator = new PodamPacedGenerator<OneDimensionalTestPojo>(
+                podamFactory, OneDimensionalTestPojo.class, rate, 2);
+
+        BlockingQueue<OneDimensionalTestPojo> queue = new LinkedBlockingQueue<OneDimensionalTestPojo>();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            long start = System.nanoTime();
+            generator.start(executor, queue);
+            for (int i = 0; i < NBR_POJOS; i++) {
+                podamValidationSteps.theObjectShouldNotBeNull(queue.poll(10, TimeUnit.SECONDS));
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            generator.stop();
+            podamValidationSteps.theBooleanValueIsTrue(generator.awaitTermination(10, TimeUnit.SECONDS));
+
+            /* Only the burst may be emitted ahead of the schedule */
+            podamValidationSteps.theBooleanValueIsTrue(
+                    elapsedMillis >= NBR_POJOS * 1000L / rate - PodamPacedGenerator.BURST_MILLIS);
+            podamValidationSteps.theBooleanValueIsTrue(
+                    generator.getMetrics().getEmitted() >= NBR_POJOS);
+            podamValidationSteps.theValueShouldBeNull(generator.getFailure());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @Title("Podam should produce deep copies of a prototype with randomized and shared attributes")
+    public void podamShouldCopyPrototypes() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        PodamPrototype<Client> prototype = new PodamPrototype<Client>(podamFactory, Client.class)
+                .setRandomizedAttributes("firstName", "orders.id")
+                .setSharedAttributes("addresses");
+        Client original = prototype.getPrototype();
+
+        List<Client> copies = prototype.newCopies(NBR_POJOS);
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                copies, Client.class, NBR_POJOS);
+        for (Client copy : copies) {
+            podamValidationSteps.theTwoObjectsShouldBeDifferent(original, copy);
+            podamValidationSteps.theObjectShouldNotBeNull(copy.getFirstName());
+            podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(
+                    original.getLastName(), copy.getLastName());
+            podamValidationSteps.theBooleanValueIsTrue(original.getAddresses() == copy.getAddresses());
+            podamValidationSteps.theBooleanValueIsTrue(original.getOrders() != copy.getOrders());
+            podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                    copy.getOrders().size(), original.getOrders().size());
+            for (int i = 0; i < copy.getOrders().size(); i++) {
+                Order originalOrder = original.getOrders().get(i);
+                Order copiedOrder = copy.getOrders().get(i);
+                podamValidationSteps.theBooleanValueIsTrue(originalOrder != copiedOrder);
+                podamValidationSteps.theBooleanValueIsTrue(
+                        originalOrder.getCreateDate() != copiedOrder.getCreateDate());
+                podamValidationSteps.theTwoObjectsShouldBeEqual(
+                        originalOrder.getCreateDate(), copiedOrder.getCreateDate());
+                podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                        copiedOrder.getOrderItems().size(), originalOrder.getOrderItems().size());
+            }
+        }
+    }
+
+    @Test
+    @Title("Podam should keep the ordering of containers copied from a prototype")
+    public void podamShouldKeepOrderingOfCopiedContainers() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        PodamPrototype<OrderedContainersPojo> prototype = new PodamPrototype<OrderedContainersPojo>(
+                podamFactory, OrderedContainersPojo.class);
+        OrderedContainersPojo original = prototype.getPrototype();
+
+        OrderedContainersPojo copy = prototype.newCopy();
+        podamValidationSteps.theBooleanValueIsTrue(
+                original.getReversedNames() != copy.getReversedNames());
+        podamValidationSteps.theBooleanValueIsTrue(original.getReversedNames().comparator()
+                == copy.getReversedNames().comparator());
+        podamValidationSteps.theTwoObjectsShouldBeEqual(
+                new ArrayList<String>(original.getReversedNames()),
+                new ArrayList<String>(copy.getReversedNames()));
+        podamValidationSteps.theBooleanValueIsTrue(original.getCaseInsensitiveNames().comparator()
+                == copy.getCaseInsensitiveNames().comparator());
+        podamValidationSteps.theObjectShouldNotBeNull(copy.getCaseInsensitiveNames().get("b"));
+
+        Map<String, String> recentNames = copy.getRecentNames();
+        podamValidationSteps.theBooleanValueIsTrue(original.getRecentNames() != recentNames);
+        String first = recentNames.keySet().iterator().next();
+        recentNames.get(first);
+        podamValidationSteps.theBooleanValueShouldBeFalse(
+                first.equals(recentNames.keySet().iterator().next()));
+    }
+
+    @Test
+    @Title("Podam should re-randomize sampled attributes of prototype copies")
+    public void podamShouldRandomizeSampledAttributesOfCopies() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        PodamPrototype<SimplePojoToTestSetters> prototype = new PodamPrototype<SimplePojoToTestSetters>(
+                podamFactory, SimplePojoToTestSetters.class).setSampledAttributes(1);
+        SimplePojoToTestSetters original = prototype.getPrototype();
+
+        int changed = 0;
+        for (SimplePojoToTestSetters copy : prototype.newCopies(NBR_POJOS)) {
+            int differences = 0;
+            if (original.getIntField() != copy.getIntField()) {
+                differences++;
+            }
+            if (!original.getStringField().equals(copy.getStringField())) {
+                differences++;
+            }
+            podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(differences, 1);
+            changed += differences;
+        }
+        podamValidationSteps.theBooleanValueIsTrue(changed > 0);
+    }
+
+    @Test
+    @Title("Podam should re-randomize POJOs in place reusing their graphs")
+    public void podamShouldRerandomizePojosInPlace() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        Client client = podamFactory.manufacturePojo(Client.class);
+        String lastName = client.getLastName();
+        List<Order> orders = client.getOrders();
+        int nbrOrders = orders.size();
+        Order order = orders.get(0);
+        int nbrOrderItems = order.getOrderItems().size();
+        OrderItem orderItem = order.getOrderItems().get(0);
+        double lineAmount = orderItem.getLineAmount();
+        Object article = orderItem.getArticle();
+
+        Client same = podamFactory.rerandomizePojo(client);
+        podamValidationSteps.theBooleanValueIsTrue(same == client);
+        podamValidationSteps.theBooleanValueIsTrue(client.getOrders() == orders);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                client.getOrders().size(), nbrOrders);
+        podamValidationSteps.theBooleanValueIsTrue(client.getOrders().get(0) == order);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                order.getOrderItems().size(), nbrOrderItems);
+        podamValidationSteps.theBooleanValueIsTrue(order.getOrderItems().get(0) == orderItem);
+        podamValidationSteps.theObjectShouldNotBeNull(client.getLastName());
+        podamValidationSteps.theBooleanValueIsTrue(!lastName.equals(client.getLastName()));
+        podamValidationSteps.theBooleanValueIsTrue(orderItem.getArticle() == article);
+        podamValidationSteps.theBooleanValueIsTrue(lineAmount != orderItem.getLineAmount());
+    }
+
+    @Test
+    @Title("Podam should re-randomize elements of sets before hashing them again")
+    public void podamShouldRerandomizeSetsIteratively() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        podamFactory.setIterativePopulation(true);
+        PojoSetPojo pojo = podamFactory.manufacturePojo(PojoSetPojo.class);
+        Set<SimplePojoToTestSetters> pojos = pojo.getPojos();
+        int nbrPojos = pojos.size();
+        SimplePojoToTestSetters element = pojos.iterator().next();
+
+        podamFactory.rerandomizePojo(pojo);
+        podamValidationSteps.theBooleanValueIsTrue(pojo.getPojos() == pojos);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(pojos.size(), nbrPojos);
+        podamValidationSteps.theBooleanValueIsTrue(pojos.contains(element));
+        for (SimplePojoToTestSetters same : pojos) {
+            podamValidationSteps.theBooleanValueIsTrue(pojos.contains(same));
+        }
+    }
+
+    @Test
+    @Title("Podam should fill only missing values of pre-seeded POJOs")
+    public void podamShouldPopulateMissingValues() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        Client client = new Client();
+        client.setLastName("Smith");
+        Order order = new Order();
+        order.setId(42);
+        List<Order> orders = client.getOrders();
+        orders.add(order);
+
+        Client same = podamFactory.populateMissingValues(client);
+        podamValidationSteps.theBooleanValueIsTrue(same == client);
+        podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(
+                "Smith", client.getLastName());
+        podamValidationSteps.theObjectShouldNotBeNull(client.getFirstName());
+        podamValidationSteps.theObjectShouldNotBeNull(client.getDateCreated());
+        podamValidationSteps.theBooleanValueIsTrue(client.getOrders() == orders);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(orders.size(), 1);
+        podamValidationSteps.theBooleanValueIsTrue(orders.get(0) == order);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(order.getId(), 42);
+        podamValidationSteps.theObjectShouldNotBeNull(order.getCreateDate());
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                order.getOrderItems().size(), 5);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                client.getAddresses().size(), 2);
+    }
+
+    @Test
+    @Title("Podam should fill only default values of pre-seeded primitive arrays")
+    public void podamShouldPopulateMissingValuesOfPrimitiveArrays() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        LeafContainersPojo pojo = new LeafContainersPojo();
+        int[] ints = new int[LeafContainersPojo.NBR_ELEMENTS];
+        ints[0] = 42;
+        pojo.setInts(ints);
+
+        podamFactory.populateMissingValues(pojo);
+        podamValidationSteps.theBooleanValueIsTrue(pojo.getInts() == ints);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(ints[0], 42);
+        int missing = 0;
+        for (int value : ints) {
+            if (value == 0) {
+                missing++;
+            }
+        }
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(missing, 1);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo.getBoxed());
+    }
+
+    private static int getDepth(RecursivePojo pojo) {
+        int depth = 0;
+        while (null != pojo) {
+            depth++;
+            pojo = pojo.getParent();
+        }
+        return depth;
+    }
+}
@@ -0,0 +1,74 @@
+package uk.co.jemos.podam.test.unit.features.bulk;
+
+import uk.co.jemos.podam.api.PodamPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subscriber requesting POJOs one by one and collecting them.
+ */
+public class CollectingSubscriber<T> implements PodamPublisher.Subscriber<T> {
+
+    private final List<T> pojos = new ArrayList<T>();
+
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private final long initialRequest;
+
+    private PodamPublisher.Subscription subscription;
+
+    private volatile Throwable error;
+
+    private volatile boolean completed;
+
+    public CollectingSubscriber(long initialRequest) {
+        this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(PodamPublisher.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(initialRequest);
+    }
+
+    @Override
+    public void onNext(T pojo) {
+        synchronized (pojos) {
+            pojos.add(pojo);
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        this.error = error;
+        terminated.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+        terminated.countDown();
+    }
+
+    public boolean await() throws InterruptedException {
+        return terminated.await(10, TimeUnit.SECONDS);
+    }
+
+    public List<T> getPojos() {
+        synchronized (pojos) {
+            return new ArrayList<T>(pojos);
+        }
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contains stories for manufacturing many POJOs at once.
+ *
+ * @since 7.1.1
+ */
+package uk.co.jemos.podam.test.unit.features.bulk;
@@ -6,8 +6,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import uk.co.jemos.podam.api.DataProviderStrategy;
 import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.common.VirtualList;
+import uk.co.jemos.podam.common.VirtualMap;
 import uk.co.jemos.podam.test.dto.*;
 import uk.co.jemos.podam.test.unit.AbstractPodamSteps;
+import uk.co.jemos.podam.typeManufacturers.CollectionTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.MapTypeManufacturerImpl;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -193,9 +198,123 @@ public class CollectionsTest extends AbstractPodamSteps {
                 pojo.getMap(), Object.class, Object.class);
     }
 
+    @Test
+    @Title("Podam should manufacture virtual lists and maps producing elements on access")
+    public void podamShouldManufactureVirtualContainers() throws Exception {
+
+        PodamFactory podamFactory = givenAPodamWithVirtualContainers(16);
+
+        LargeContainersPojo pojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(
+                LargeContainersPojo.class, podamFactory);
+        List<SimplePojoToTestSetters> list = pojo.getList();
+        podamValidationSteps.thePojoMustBeOfTheType(list, VirtualList.class);
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                list, SimplePojoToTestSetters.class, LargeContainersPojo.NBR_ELEMENTS);
+        podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(list.get(7), list.get(7));
+
+        Map<String, SimplePojoToTestSetters> map = pojo.getMap();
+        podamValidationSteps.thePojoMustBeOfTheType(map, VirtualMap.class);
+        podamValidationSteps.theMapShouldNotBeNullOrEmptyAndContainElementsOfType(
+                map, String.class, SimplePojoToTestSetters.class);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(LargeContainersPojo.NBR_ELEMENTS, map.size());
+        podamValidationSteps.theTwoObjectsShouldBeEqual(
+                new ArrayList<Map.Entry<String, SimplePojoToTestSetters>>(map.entrySet()),
+                new ArrayList<Map.Entry<String, SimplePojoToTestSetters>>(map.entrySet()));
+    }
+
+    @Test
+    @Title("Podam should manufacture virtual maps with unique keys, which support lookups")
+    public void podamShouldLookUpVirtualMaps() throws Exception {
+
+        PodamFactory podamFactory = givenAPodamWithVirtualContainers(16);
+
+        LargeContainersPojo pojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(
+                LargeContainersPojo.class, podamFactory);
+        Map<String, SimplePojoToTestSetters> map = pojo.getMap();
+        podamValidationSteps.thePojoMustBeOfTheType(map, VirtualMap.class);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(
+                LargeContainersPojo.NBR_ELEMENTS, map.keySet().size());
+
+        Map<String, SimplePojoToTestSetters> copy
+                = new HashMap<String, SimplePojoToTestSetters>(map);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(map.size(), copy.size());
+        podamValidationSteps.theTwoObjectsShouldBeEqual(copy, map);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(map, copy);
+        for (Map.Entry<String, SimplePojoToTestSetters> entry : copy.entrySet()) {
+            podamValidationSteps.theBooleanValueIsTrue(map.containsKey(entry.getKey()));
+            podamValidationSteps.theTwoObjectsShouldBeEqual(entry.getValue(), map.get(entry.getKey()));
+        }
+        podamValidationSteps.theBooleanValueIsTrue(map.containsValue(copy.values().iterator().next()));
+        podamValidationSteps.theBooleanValueShouldBeFalse(map.containsKey("0" + map.keySet().iterator().next()));
+        podamValidationSteps.theObjectShouldBeNull(map.get(String.valueOf(map.size())));
+    }
+
+    @Test
+    @Title("Podam should manufacture maps with keys, which cannot be derived, as usual")
+    public void podamShouldNotManufactureVirtualMapsWithOtherKeys() throws Exception {
+
+        PodamFactory podamFactory = givenAPodamWithVirtualContainers(16);
+
+        Map<?, ?> map = podamInvocationSteps.whenIInvokeTheFactoryForGenericTypeWithSpecificType(
+                Map.class, podamFactory, SimplePojoToTestSetters.class, String.class);
+        podamValidationSteps.thePojoMustBeOfTheType(map, HashMap.class);
+    }
+
+    @Test
+    @Title("Podam should keep bound virtual lists and maps, when POJOs are re-randomized")
+    public void podamShouldRerandomizeVirtualContainers() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) givenAPodamWithVirtualContainers(16);
+
+        LargeContainersPojo pojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(
+                LargeContainersPojo.class, podamFactory);
+        List<SimplePojoToTestSetters> list = pojo.getList();
+        Map<String, SimplePojoToTestSetters> map = pojo.getMap();
+
+        podamFactory.rerandomizePojo(pojo);
+        podamValidationSteps.theBooleanValueIsTrue(pojo.getList() == list);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(
+                LargeContainersPojo.NBR_ELEMENTS, pojo.getList().size());
+        podamValidationSteps.theBooleanValueIsTrue(pojo.getMap() == map);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(
+                LargeContainersPojo.NBR_ELEMENTS, pojo.getMap().size());
+    }
+
+    @Test
+    @Title("Podam should manufacture virtual lists of any size in constant memory")
+    public void podamShouldManufactureHugeVirtualContainers() throws Exception {
+
+        PodamFactory podamFactory = givenAPodamWithVirtualContainers(0);
+        int size = 10000000;
+        podamFactory.getStrategy().setDefaultNumberOfCollectionElements(size);
+
+        NestedCollectionsPojo pojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(
+                NestedCollectionsPojo.class, podamFactory);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(size, pojo.getItems().size());
+
+        Map<String, List<SimplePojoToTestSetters>> item = pojo.getItems().get(size / 2);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(size, item.size());
+        List<SimplePojoToTestSetters> list = item.values().iterator().next();
+        podamValidationSteps.theTwoObjectsShouldBeEqual(size, list.size());
+        podamValidationSteps.theObjectShouldNotBeNull(list.get(size - 1));
+        podamValidationSteps.theTwoObjectsShouldBeEqual(list.get(size - 1), list.get(size - 1));
+    }
+
 
     //------------------> Private methods
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private PodamFactory givenAPodamWithVirtualContainers(int cacheSize) {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        podamFactory.getStrategy()
+                .addOrReplaceTypeManufacturer((Class) Collection.class,
+                        new CollectionTypeManufacturerImpl(true, cacheSize))
+                .addOrReplaceTypeManufacturer((Class) Map.class,
+                        new MapTypeManufacturerImpl(true, cacheSize));
+        return podamFactory;
+    }
+
     private void testMap(Class<? extends Map> mapType) {
 
         PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
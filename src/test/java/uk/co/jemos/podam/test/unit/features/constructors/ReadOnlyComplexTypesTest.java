@@ -5,9 +5,12 @@ import net.thucydides.core.annotations.Title;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.test.dto.FieldInjectionPojo;
 import uk.co.jemos.podam.test.dto.ReadOnlyAbstract;
 import uk.co.jemos.podam.test.dto.ReadOnlyComplexTypesPojo;
 import uk.co.jemos.podam.test.dto.ReadOnlyGenericComplexTypesPojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
 import uk.co.jemos.podam.test.unit.AbstractPodamSteps;
 
 import java.beans.beancontext.BeanContextServicesSupport;
@@ -37,6 +40,26 @@ public class ReadOnlyComplexTypesTest extends AbstractPodamSteps {
 		podamValidationSteps.thePojoMustBeOfTheType(pojo.getValue().getValue(), String.class);
 	}
 
+	@Test
+	@Title("Podam should fill in POJOs without setters by field injection")
+	public void podamShouldFillPojosByFieldInjection() throws Exception {
+
+		PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+		podamFactory.setFieldInjection(true);
+
+		FieldInjectionPojo pojo = podamInvocationSteps.whenIInvokeTheFactoryForClass(
+				FieldInjectionPojo.class, podamFactory);
+
+		podamValidationSteps.thePojoMustBeOfTheType(pojo, FieldInjectionPojo.class);
+		podamValidationSteps.theObjectShouldNotBeNull(pojo.getStringValue());
+		podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndContainElementsOfType(pojo.getLongs(), Long.class);
+		podamValidationSteps.thePojoMustBeOfTheType(pojo.getNested(), SimplePojoToTestSetters.class);
+		podamValidationSteps.theObjectShouldNotBeNull(pojo.getNested().getStringField());
+		podamValidationSteps.theObjectShouldBeNull(pojo.getExcludedValue());
+		podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(pojo.getIntValue(), 42);
+		podamValidationSteps.theDoubleValueShouldBeExactly(pojo.getValidatedValue(), 7.5);
+	}
+
 	@Test
 	@Title("Podam should fill in complex (e.g. with more than two generic types), read-only POJOs")
 	public void podamShouldFillReadOnlyComplexTypes() throws Exception {
@@ -0,0 +1,38 @@
+package uk.co.jemos.podam.test.unit.features.extensions;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.typeManufacturers.StringTypeManufacturerImpl;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * String manufacturer marking values produced in batches.
+ */
+public class BatchStringTypeManufacturer extends StringTypeManufacturerImpl {
+
+    public static final String BATCH_VALUE = "batch";
+
+    @Override
+    public void fillCollection(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Collection<? super String> collection, int count) {
+
+        for (int i = 0; i < count; i++) {
+            collection.add(BATCH_VALUE);
+        }
+    }
+
+    @Override
+    public void fillArray(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap,
+            Object array) {
+
+        Arrays.fill((Object[]) array, BATCH_VALUE);
+    }
+}
@@ -5,16 +5,22 @@ import net.thucydides.core.annotations.Title;
 
 import java.io.InputStream;
 import java.sql.Timestamp;
+import java.util.Map;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import uk.co.jemos.podam.api.AttributeMetadata;
 import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
 import uk.co.jemos.podam.test.dto.PojoWithMapsAndCollections;
+import uk.co.jemos.podam.test.dto.annotations.CollectionAnnotationPojo;
 import uk.co.jemos.podam.test.dto.annotations.PojoClassic;
 import uk.co.jemos.podam.test.dto.annotations.PojoSpecific;
 import uk.co.jemos.podam.test.strategies.CustomRandomDataProviderStrategy;
 import uk.co.jemos.podam.test.unit.AbstractPodamSteps;
+import uk.co.jemos.podam.test.utils.PodamTestConstants;
+import uk.co.jemos.podam.typeManufacturers.ByteTypeManufacturerImpl;
 
 /**
  * Created by tedonema on 07/06/2015.
@@ -89,5 +95,75 @@ public class ExtensionsTest extends AbstractPodamSteps {
 
     }
 
+    @Test
+    @Title("Podam should fill collections, maps and arrays in batches with batch type manufacturers")
+    public void podamShouldFillContainersWithBatchTypeManufacturers() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                String.class, new BatchStringTypeManufacturer());
+
+        CollectionAnnotationPojo pojo =
+                podamInvocationSteps.whenIInvokeTheFactoryForClass(CollectionAnnotationPojo.class, podamFactory);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojo.getStrList(), String.class, PodamTestConstants.ANNOTATION_COLLECTION_NBR_ELEMENTS);
+        for (String value : pojo.getStrList()) {
+            podamValidationSteps.theStringValueShouldBeExactly(value, BatchStringTypeManufacturer.BATCH_VALUE);
+        }
+        podamValidationSteps.theArrayShouldHaveExactlyTheExpectedNumberOfElements(pojo.getStrArray(),
+                PodamTestConstants.ANNOTATION_COLLECTION_NBR_ELEMENTS);
+        for (String value : pojo.getStrArray()) {
+            podamValidationSteps.theStringValueShouldBeExactly(value, BatchStringTypeManufacturer.BATCH_VALUE);
+        }
+        for (Map.Entry<String, String> entry : pojo.getStringMap().entrySet()) {
+            podamValidationSteps.theStringValueShouldBeExactly(entry.getKey(), BatchStringTypeManufacturer.BATCH_VALUE);
+            podamValidationSteps.theStringValueShouldBeExactly(entry.getValue(), BatchStringTypeManufacturer.BATCH_VALUE);
+        }
+    }
+
+    @Test
+    @Title("Podam should fill primitive arrays with unboxed values of primitive type manufacturers")
+    public void podamShouldFillPrimitiveArraysWithUnboxedValues() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                int.class, new PrimitiveIntTypeManufacturer());
+
+        OneDimensionalTestPojo pojo =
+                podamInvocationSteps.whenIInvokeTheFactoryForClass(OneDimensionalTestPojo.class, podamFactory);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(pojo.getIntField(),
+                PrimitiveIntTypeManufacturer.BOXED_VALUE);
+        podamValidationSteps.theArrayShouldHaveExactlyTheExpectedNumberOfElements(pojo.getIntArray(),
+                podamFactory.getStrategy().getNumberOfCollectionElements(int.class));
+        for (int value : pojo.getIntArray()) {
+            podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(value,
+                    PrimitiveIntTypeManufacturer.PRIMITIVE_VALUE);
+        }
+    }
+
+    @Test
+    @Title("Podam should fill byte arrays with bytes of redefined byte type manufacturers")
+    public void podamShouldFillByteArraysWithRedefinedBytes() throws Exception {
+
+        final byte redefined = 42;
+        PodamFactory podamFactory = podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                byte.class, new ByteTypeManufacturerImpl() {
+
+                    @Override
+                    public Byte getByte(AttributeMetadata attributeMetadata) {
+                        return redefined;
+                    }
+                });
+
+        byte[] bytes = podamInvocationSteps.whenIInvokeTheFactoryForClass(byte[].class, podamFactory);
+        podamValidationSteps.theObjectShouldNotBeNull(bytes);
+        podamValidationSteps.theArrayShouldHaveExactlyTheExpectedNumberOfElements(bytes,
+                podamFactory.getStrategy().getNumberOfCollectionElements(byte.class));
+        for (byte value : bytes) {
+            podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(value, redefined);
+        }
+    }
 
 }
@@ -0,0 +1,33 @@
+package uk.co.jemos.podam.test.unit.features.extensions;
+
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.typeManufacturers.PrimitiveTypeManufacturer;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Int manufacturer distinguishing boxed and unboxed values.
+ */
+public class PrimitiveIntTypeManufacturer implements PrimitiveTypeManufacturer.OfInt {
+
+    public static final int BOXED_VALUE = 1;
+
+    public static final int PRIMITIVE_VALUE = 2;
+
+    @Override
+    public Integer getType(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata,
+            Map<String, Type> genericTypesArgumentsMap) {
+
+        return BOXED_VALUE;
+    }
+
+    @Override
+    public int nextInt(DataProviderStrategy strategy,
+            AttributeMetadata attributeMetadata) {
+
+        return PRIMITIVE_VALUE;
+    }
+}
@@ -0,0 +1,607 @@
+package uk.co.jemos.podam.test.unit.features.limits;
+
+import net.serenitybdd.junit.runners.SerenityRunner;
+import net.thucydides.core.annotations.Title;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
+import uk.co.jemos.podam.api.AdaptiveCollectionSizePolicy;
+import uk.co.jemos.podam.api.AttributeMetadata;
+import uk.co.jemos.podam.api.AttributeProjection;
+import uk.co.jemos.podam.api.CancellationToken;
+import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.ManufacturingBudget;
+import uk.co.jemos.podam.api.PodamCostEstimator;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+import uk.co.jemos.podam.api.ReferencePool;
+import uk.co.jemos.podam.common.PodamConstants;
+import uk.co.jemos.podam.exceptions.PodamCancellationException;
+import uk.co.jemos.podam.test.dto.ConstructorAndReadOnlyPojo;
+import uk.co.jemos.podam.test.dto.LargeContainersPojo;
+import uk.co.jemos.podam.test.dto.LazyNodePojo;
+import uk.co.jemos.podam.test.dto.LeafContainersPojo;
+import uk.co.jemos.podam.test.dto.NestedCollectionsPojo;
+import uk.co.jemos.podam.test.dto.RecursivePojo;
+import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
+import uk.co.jemos.podam.test.dto.TreeNodePojo;
+import uk.co.jemos.podam.test.dto.docs.example.Address;
+import uk.co.jemos.podam.test.dto.docs.example.Client;
+import uk.co.jemos.podam.test.dto.docs.example.Order;
+import uk.co.jemos.podam.test.dto.docs.example.OrderItem;
+import uk.co.jemos.podam.test.unit.AbstractPodamSteps;
+import uk.co.jemos.podam.typeManufacturers.BatchTypeManufacturer;
+import uk.co.jemos.podam.typeManufacturers.TypeManufacturer;
+
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stories for limiting manufacturing of large graphs.
+ */
+@RunWith(SerenityRunner.class)
+public class ManufacturingLimitsTest extends AbstractPodamSteps {
+
+    @Test
+    @Title("Podam should manufacture complete graphs before the deadline")
+    public void podamShouldManufactureGraphsBeforeDeadline() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        CancellationToken token = new CancellationToken(1, TimeUnit.HOURS,
+                CancellationToken.Policy.FAIL);
+
+        RecursivePojo pojo = podamFactory.manufacturePojo(token, RecursivePojo.class);
+        recursivePojoValidationSteps.allPojosInTheRecursiveStrategyShouldBeValid(pojo);
+    }
+
+    @Test(expected = PodamCancellationException.class)
+    @Title("Podam should fail manufacturing after the deadline")
+    public void podamShouldFailAfterDeadline() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        CancellationToken token = new CancellationToken(0, TimeUnit.MILLISECONDS,
+                CancellationToken.Policy.FAIL);
+
+        podamFactory.manufacturePojo(token, LargeContainersPojo.class);
+    }
+
+    @Test
+    @Title("Podam should return the POJO as it is, if population was cancelled")
+    public void podamShouldNotPopulateAfterCancellation() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        CancellationToken token = new CancellationToken(CancellationToken.Policy.RETURN_PARTIAL);
+        token.cancel();
+
+        RecursivePojo pojo = new RecursivePojo();
+        podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(
+                podamFactory.populatePojo(token, pojo), pojo);
+        podamValidationSteps.theObjectShouldBeNull(pojo.getParent());
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(pojo.getIntField(), 0);
+    }
+
+    @Test
+    @Title("Podam should return a partially populated graph, if manufacturing was cancelled")
+    public void podamShouldReturnPartialGraphAfterCancellation() throws Exception {
+
+        final CancellationToken token = new CancellationToken(CancellationToken.Policy.RETURN_PARTIAL);
+        TypeManufacturer<String> manufacturer = new TypeManufacturer<String>() {
+
+            @Override
+            public String getType(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap) {
+                token.cancel();
+                return "cancelled";
+            }
+        };
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                String.class, manufacturer);
+
+        LargeContainersPojo pojo = podamFactory.manufacturePojo(token, LargeContainersPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(countElements(pojo), 1);
+    }
+
+    @Test
+    @Title("Podam should keep manufactured null elements, if manufacturing was cancelled")
+    public void podamShouldKeepNullElementsAfterCancellation() throws Exception {
+
+        final CancellationToken token = new CancellationToken(CancellationToken.Policy.RETURN_PARTIAL);
+        final Runnable last = new Runnable() {
+
+            @Override
+            public void run() {
+            }
+        };
+        final AtomicInteger calls = new AtomicInteger();
+        TypeManufacturer<Runnable> manufacturer = new TypeManufacturer<Runnable>() {
+
+            @Override
+            public Runnable getType(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap) {
+                /* Runnable has no implementation, so nulls are kept */
+                if (calls.incrementAndGet() < 3) {
+                    return null;
+                }
+                token.cancel();
+                return last;
+            }
+        };
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                Runnable.class, manufacturer);
+
+        @SuppressWarnings("unchecked")
+        List<Runnable> pojo = podamFactory.manufacturePojo(token, ArrayList.class, Runnable.class);
+        podamValidationSteps.theTwoObjectsShouldBeEqual(
+                Arrays.asList(null, null, last), pojo);
+    }
+
+    @Test
+    @Title("Podam should check cancellation between chunks of values produced in bulk")
+    public void podamShouldCancelValuesProducedInBulk() throws Exception {
+
+        final AtomicReference<CancellationToken> token = new AtomicReference<CancellationToken>(
+                new CancellationToken(CancellationToken.Policy.RETURN_PARTIAL));
+        BatchTypeManufacturer<String> manufacturer = new BatchTypeManufacturer<String>() {
+
+            @Override
+            public String getType(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap) {
+                return "single";
+            }
+
+            @Override
+            public void fillCollection(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap,
+                    Collection<? super String> collection, int count) {
+                for (int i = 0; i < count; i++) {
+                    collection.add("bulk");
+                }
+                token.get().cancel();
+            }
+
+            @Override
+            public void fillArray(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap, Object array) {
+                Arrays.fill((Object[]) array, "bulk");
+                token.get().cancel();
+            }
+        };
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                String.class, manufacturer);
+        int size = 100000;
+        podamFactory.getStrategy().setDefaultNumberOfCollectionElements(size);
+
+        @SuppressWarnings("unchecked")
+        List<String> list = podamFactory.manufacturePojo(token.get(), ArrayList.class, String.class);
+        podamValidationSteps.theObjectShouldNotBeNull(list);
+        podamValidationSteps.theBooleanValueIsTrue(!list.isEmpty() && list.size() < size);
+
+        token.set(new CancellationToken(CancellationToken.Policy.RETURN_PARTIAL));
+        String[] array = podamFactory.manufacturePojo(token.get(), String[].class);
+        podamValidationSteps.theObjectShouldNotBeNull(array);
+        podamValidationSteps.theTwoObjectsShouldBeEqual("bulk", array[0]);
+        podamValidationSteps.theObjectShouldBeNull(array[array.length - 1]);
+    }
+
+    @Test
+    @Title("Podam should stop manufacturing, when the object budget is exhausted")
+    public void podamShouldStopWhenObjectBudgetIsExhausted() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ManufacturingBudget budget = new ManufacturingBudget(10, ManufacturingBudget.UNLIMITED);
+
+        LargeContainersPojo pojo = podamFactory.manufacturePojo(budget, LargeContainersPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(countElements(pojo), 10);
+    }
+
+    @Test
+    @Title("Podam should limit containers of values produced in bulk with the budget")
+    public void podamShouldLimitLeafContainersWithBudget() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ManufacturingBudget budget = new ManufacturingBudget(10, ManufacturingBudget.UNLIMITED);
+
+        LeafContainersPojo pojo = podamFactory.manufacturePojo(budget, LeafContainersPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+        int elements = 0;
+        if (null != pojo.getNames()) {
+            elements += pojo.getNames().size();
+        }
+        if (null != pojo.getCounts()) {
+            elements += pojo.getCounts().size();
+        }
+        if (null != pojo.getInts()) {
+            /* Primitive elements are not objects, but shorten the array */
+            podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(
+                    pojo.getInts().length, 10);
+        }
+        if (null != pojo.getBoxed()) {
+            for (Integer value : pojo.getBoxed()) {
+                if (null != value) {
+                    elements++;
+                }
+            }
+        }
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(elements, 10);
+    }
+
+    @Test
+    @Title("Podam should give each instance of bulk manufacturing the budget of the strategy")
+    public void podamShouldLimitEachInstanceOfBulkManufacturing() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ((AbstractRandomDataProviderStrategy) podamFactory.getStrategy()).setManufacturingBudget(
+                new ManufacturingBudget(10, ManufacturingBudget.UNLIMITED));
+
+        List<SimplePojoToTestSetters> pojos = podamFactory.manufacturePojos(
+                SimplePojoToTestSetters.class, 20);
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojos, SimplePojoToTestSetters.class, 20);
+        for (SimplePojoToTestSetters pojo : pojos) {
+            podamValidationSteps.theObjectShouldNotBeNull(pojo.getStringField());
+        }
+    }
+
+    @Test
+    @Title("Podam should stop manufacturing objects of a type, when the budget of the type is exhausted")
+    public void podamShouldStopWhenTypeBudgetIsExhausted() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ManufacturingBudget budget = new ManufacturingBudget(ManufacturingBudget.UNLIMITED,
+                ManufacturingBudget.UNLIMITED).withTypeLimit(SimplePojoToTestSetters.class, 5);
+
+        LargeContainersPojo pojo = podamFactory.manufacturePojo(budget, LargeContainersPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(countElements(pojo), 5);
+    }
+
+    @Test
+    @Title("Podam should stop manufacturing, when the byte budget of the strategy is exhausted")
+    public void podamShouldStopWhenByteBudgetIsExhausted() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ((AbstractRandomDataProviderStrategy) podamFactory.getStrategy()).setManufacturingBudget(
+                new ManufacturingBudget(ManufacturingBudget.UNLIMITED, 1));
+
+        RecursivePojo pojo = podamFactory.manufacturePojo(RecursivePojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+        podamValidationSteps.theObjectShouldBeNull(pojo.getParent());
+    }
+
+    @Test
+    @Title("Podam should estimate the cost of a POJO without manufacturing it")
+    public void podamShouldEstimateCostOfPojo() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamCostEstimator.Estimate estimate = new PodamCostEstimator(podamFactory)
+                .estimate(LargeContainersPojo.class);
+
+        LargeContainersPojo pojo = podamFactory.manufacturePojo(LargeContainersPojo.class);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                (int) estimate.getObjects(SimplePojoToTestSetters.class), countElements(pojo));
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                (int) estimate.getStrings(), 4 * LargeContainersPojo.NBR_ELEMENTS);
+        podamValidationSteps.theBooleanValueIsTrue(
+                estimate.getBytes() > estimate.getObjects());
+        podamValidationSteps.theBooleanValueIsTrue(estimate.getFanOutPaths().isEmpty());
+    }
+
+    @Test
+    @Title("Podam should estimate constructor arguments and read-only collections")
+    public void podamShouldEstimateConstructorArgumentsAndReadOnlyCollections() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamCostEstimator.Estimate estimate = new PodamCostEstimator(podamFactory)
+                .estimate(ConstructorAndReadOnlyPojo.class);
+
+        ConstructorAndReadOnlyPojo pojo = podamFactory.manufacturePojo(ConstructorAndReadOnlyPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo.getFirst());
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojo.getOwned(), SimplePojoToTestSetters.class,
+                PodamConstants.DEFAULT_NBR_COLLECTION_ELEMENTS);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                (int) estimate.getObjects(SimplePojoToTestSetters.class),
+                1 + pojo.getPassed().size() + pojo.getOwned().size());
+    }
+
+    @Test
+    @Title("Podam should report paths, on which POJOs fan out exponentially")
+    public void podamShouldReportFanOutPaths() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        PodamCostEstimator.Estimate estimate = new PodamCostEstimator(podamFactory)
+                .estimate(TreeNodePojo.class);
+
+        TreeNodePojo pojo = podamFactory.manufacturePojo(TreeNodePojo.class);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                (int) estimate.getObjects(TreeNodePojo.class), countNodes(pojo));
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                estimate.getFanOutPaths().size(), 1);
+        podamValidationSteps.theBooleanValueIsTrue(
+                estimate.getFanOutPaths().get(0).startsWith("TreeNodePojo.children[]"));
+    }
+
+    @Test
+    @Title("Podam should shrink nested collections to keep the graph within the target size")
+    public void podamShouldShrinkNestedCollections() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        ((AbstractRandomDataProviderStrategy) podamFactory.getStrategy()).setCollectionSizePolicy(
+                new AdaptiveCollectionSizePolicy(50));
+
+        NestedCollectionsPojo pojo = podamFactory.manufacturePojo(NestedCollectionsPojo.class);
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojo.getItems(), Map.class, PodamConstants.DEFAULT_NBR_COLLECTION_ELEMENTS);
+
+        int elements = 0;
+        for (Map<String, List<SimplePojoToTestSetters>> item : pojo.getItems()) {
+            for (List<SimplePojoToTestSetters> list : item.values()) {
+                podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                        list, SimplePojoToTestSetters.class, 2);
+                elements += list.size();
+            }
+        }
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(elements, 50);
+
+        PodamCostEstimator.Estimate estimate = new PodamCostEstimator(podamFactory)
+                .estimate(NestedCollectionsPojo.class);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                (int) estimate.getObjects(SimplePojoToTestSetters.class), elements);
+    }
+
+    @Test
+    @Title("Podam should manufacture attributes of lazy interfaces on access only")
+    public void podamShouldManufactureLazyAttributesOnAccess() throws Exception {
+
+        final AtomicInteger strings = new AtomicInteger();
+        TypeManufacturer<String> manufacturer = new TypeManufacturer<String>() {
+
+            @Override
+            public String getType(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap) {
+                return "string" + strings.incrementAndGet();
+            }
+        };
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                String.class, manufacturer);
+        podamFactory.setLazyInterfaces(true);
+
+        LazyNodePojo pojo = podamFactory.manufacturePojo(LazyNodePojo.class);
+        podamValidationSteps.theBooleanValueIsTrue(Proxy.isProxyClass(pojo.getClass()));
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(strings.get(), 0);
+
+        String name = pojo.getName();
+        podamValidationSteps.theTwoObjectsShouldBeEqual("string1", name);
+        podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(pojo.getName(), name);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(strings.get(), 1);
+
+        LazyNodePojo parent = pojo.getParent();
+        podamValidationSteps.theObjectShouldNotBeNull(parent);
+        podamValidationSteps.theTwoObjectsShouldBeStrictlyEqual(pojo.getParent(), parent);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(strings.get(), 1);
+
+        pojo.setName("name");
+        podamValidationSteps.theTwoObjectsShouldBeEqual("name", pojo.getName());
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                pojo.getItems(), SimplePojoToTestSetters.class,
+                PodamConstants.DEFAULT_NBR_COLLECTION_ELEMENTS);
+    }
+
+    @Test
+    @Title("Podam should stop lazy graphs at the maximal depth")
+    public void podamShouldStopLazyGraphsAtMaxDepth() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        podamFactory.setLazyInterfaces(true);
+
+        LazyNodePojo pojo = podamFactory.manufacturePojo(LazyNodePojo.class);
+        int depth = 0;
+        while (null != pojo) {
+            pojo = pojo.getParent();
+            depth++;
+        }
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(depth,
+                podamFactory.getStrategy().getMaxDepth(LazyNodePojo.class));
+    }
+
+    @Test
+    @Title("Podam should manufacture only the attributes selected by the projection")
+    public void podamShouldManufactureProjectedAttributesOnly() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        AttributeProjection projection = new AttributeProjection(
+                "orders[].orderItems[].lineAmount", "addresses.c*");
+
+        Client client = podamFactory.manufacturePojo(projection, Client.class);
+        podamValidationSteps.theObjectShouldNotBeNull(client);
+        podamValidationSteps.theObjectShouldBeNull(client.getFirstName());
+        podamValidationSteps.theObjectShouldBeNull(client.getDateCreated());
+        podamValidationSteps.theBooleanValueIsTrue(client.getBankAccounts().isEmpty());
+
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                client.getOrders(), Order.class, 3);
+        for (Order order : client.getOrders()) {
+            podamValidationSteps.theObjectShouldBeNull(order.getCreateDate());
+            podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                    order.getOrderItems(), OrderItem.class, 5);
+            for (OrderItem item : order.getOrderItems()) {
+                podamValidationSteps.theObjectShouldBeNull(item.getNote());
+                podamValidationSteps.theObjectShouldBeNull(item.getArticle());
+            }
+        }
+
+        podamValidationSteps.theCollectionShouldNotBeNullOrEmptyAndShouldHaveExactlyTheExpectedNumberOfElements(
+                client.getAddresses(), Address.class, 2);
+        for (Address address : client.getAddresses()) {
+            podamValidationSteps.theObjectShouldNotBeNull(address.getCity());
+            podamValidationSteps.theObjectShouldNotBeNull(address.getCountry());
+            podamValidationSteps.theObjectShouldBeNull(address.getAddress1());
+        }
+    }
+
+    @Test
+    @Title("Podam should populate only the attributes selected by the projection")
+    public void podamShouldPopulateProjectedAttributesOnly() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        podamFactory.setIterativePopulation(true);
+
+        Address address = podamFactory.populatePojo(
+                new AttributeProjection("country"), new Address());
+        podamValidationSteps.theObjectShouldNotBeNull(address.getCountry());
+        podamValidationSteps.theObjectShouldNotBeNull(address.getCountry().getCountryCode());
+        podamValidationSteps.theObjectShouldBeNull(address.getCity());
+        podamValidationSteps.theObjectShouldBeNull(address.getZipCode());
+    }
+
+    @Test
+    @Title("Podam should draw references from the pool of their type")
+    public void podamShouldDrawReferencesFromPool() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        ReferencePool pool = new ReferencePool(2);
+        ((AbstractRandomDataProviderStrategy) podamFactory.getStrategy()).addOrReplaceReferencePool(
+                SimplePojoToTestSetters.class, pool);
+
+        Set<SimplePojoToTestSetters> references = collectElements(
+                podamFactory.manufacturePojo(LargeContainersPojo.class));
+        references.addAll(collectElements(
+                podamFactory.manufacturePojo(LargeContainersPojo.class)));
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(references.size(), 2);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                pool.getInstances().size(), references.size());
+        for (SimplePojoToTestSetters reference : references) {
+            podamValidationSteps.theObjectShouldNotBeNull(reference.getStringField());
+            podamValidationSteps.theBooleanValueIsTrue(pool.getInstances().contains(reference));
+        }
+
+        pool.clear();
+        podamValidationSteps.theBooleanValueIsTrue(pool.getInstances().isEmpty());
+    }
+
+    @Test
+    @Title("Podam should fill eager pools on their first use")
+    public void podamShouldFillEagerPools() throws Exception {
+
+        PodamFactory podamFactory = podamFactorySteps.givenAStandardPodamFactory();
+        ReferencePool pool = new ReferencePool(3, ReferencePool.Filling.EAGER,
+                ReferencePool.Selection.SKEWED);
+        ((AbstractRandomDataProviderStrategy) podamFactory.getStrategy()).addOrReplaceReferencePool(
+                SimplePojoToTestSetters.class, pool);
+
+        LargeContainersPojo pojo = podamFactory.manufacturePojo(LargeContainersPojo.class);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(pool.getInstances().size(), 3);
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(
+                collectElements(pojo).size(), 3);
+    }
+
+    @Test
+    @Title("Podam should not pool instances, which are populated partially")
+    public void podamShouldNotPoolPartiallyPopulatedInstances() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ReferencePool pool = new ReferencePool(2);
+        ((AbstractRandomDataProviderStrategy) podamFactory.getStrategy()).addOrReplaceReferencePool(
+                SimplePojoToTestSetters.class, pool);
+
+        LargeContainersPojo pojo = podamFactory.manufacturePojo(
+                new AttributeProjection("list[].intField"), LargeContainersPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo);
+        podamValidationSteps.theBooleanValueIsTrue(pool.getInstances().isEmpty());
+
+        podamFactory.manufacturePojo(LargeContainersPojo.class);
+        podamValidationSteps.theBooleanValueIsTrue(!pool.getInstances().isEmpty());
+        for (Object reference : pool.getInstances()) {
+            podamValidationSteps.theObjectShouldNotBeNull(
+                    ((SimplePojoToTestSetters) reference).getStringField());
+        }
+    }
+
+    @Test
+    @Title("Podam should pool instances, which the budget did not truncate")
+    public void podamShouldPoolInstancesWithinBudget() throws Exception {
+
+        PodamFactoryImpl podamFactory = (PodamFactoryImpl) podamFactorySteps.givenAStandardPodamFactory();
+        ReferencePool pool = new ReferencePool(2);
+        AbstractRandomDataProviderStrategy strategy
+                = (AbstractRandomDataProviderStrategy) podamFactory.getStrategy();
+        strategy.addOrReplaceReferencePool(SimplePojoToTestSetters.class, pool);
+
+        SimplePojoToTestSetters truncated = podamFactory.manufacturePojo(
+                new ManufacturingBudget(1, ManufacturingBudget.UNLIMITED),
+                SimplePojoToTestSetters.class);
+        podamValidationSteps.theObjectShouldBeNull(truncated.getStringField());
+        podamValidationSteps.theBooleanValueIsTrue(pool.getInstances().isEmpty());
+
+        strategy.setManufacturingBudget(new ManufacturingBudget(10000,
+                ManufacturingBudget.UNLIMITED));
+        Set<SimplePojoToTestSetters> references = collectElements(
+                podamFactory.manufacturePojo(LargeContainersPojo.class));
+        podamValidationSteps.theIntFieldShouldHaveValueNotGreaterThan(references.size(), 2);
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(
+                pool.getInstances().size(), references.size());
+    }
+
+    private static Set<SimplePojoToTestSetters> collectElements(LargeContainersPojo pojo) {
+
+        Set<SimplePojoToTestSetters> elements = Collections.newSetFromMap(
+                new IdentityHashMap<SimplePojoToTestSetters, Boolean>());
+        elements.addAll(pojo.getList());
+        elements.addAll(pojo.getMap().values());
+        elements.addAll(Arrays.asList(pojo.getArray()));
+        return elements;
+    }
+
+    private static int countNodes(TreeNodePojo pojo) {
+
+        int nodes = 1;
+        if (null != pojo.getChildren()) {
+            for (TreeNodePojo child : pojo.getChildren()) {
+                if (null != child) {
+                    nodes += countNodes(child);
+                }
+            }
+        }
+        return nodes;
+    }
+
+    private static int countElements(LargeContainersPojo pojo) {
+
+        int elements = 0;
+        if (null != pojo.getList()) {
+            elements += pojo.getList().size();
+        }
+        if (null != pojo.getMap()) {
+            elements += pojo.getMap().size();
+        }
+        if (null != pojo.getArray()) {
+            for (SimplePojoToTestSetters element : pojo.getArray()) {
+                if (null != element) {
+                    elements++;
+                }
+            }
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Contains stories for limiting manufacturing of large graphs.
+ *
+ * @since 7.1.1
+ */
+package uk.co.jemos.podam.test.unit.features.limits;
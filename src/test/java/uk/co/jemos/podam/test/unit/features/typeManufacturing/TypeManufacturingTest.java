@@ -5,15 +5,26 @@ import net.thucydides.core.annotations.Title;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import uk.co.jemos.podam.api.AbstractRandomDataProviderStrategy;
 import uk.co.jemos.podam.api.AttributeMetadata;
 import uk.co.jemos.podam.api.DataProviderStrategy;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.test.dto.OneDimensionalTestPojo;
 import uk.co.jemos.podam.test.dto.SimplePojoToTestSetters;
 import uk.co.jemos.podam.test.enums.ExternalRatePodamEnum;
 import uk.co.jemos.podam.test.unit.AbstractPodamSteps;
+import uk.co.jemos.podam.typeManufacturers.InterningTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.TableTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.TypeManufacturer;
 
 import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created by tedonema on 28/06/2015.
@@ -193,4 +204,129 @@ public class TypeManufacturingTest extends AbstractPodamSteps {
         podamValidationSteps.theObjectShouldNotBeNull(payload);
     }
 
+    @Test
+    @Title("Podam Messaging System should serve values from precomputed tables in table mode")
+    public void podamMessagingSystemShouldServeValuesFromTablesInTableMode() throws Exception {
+
+        DataProviderStrategy dataProviderStrategy = podamFactorySteps
+                .givenARandomDataProviderStrategyInTableMode(4, String.class, int.class, Integer.class);
+
+        Object pojoInstance = null;
+        AttributeMetadata attributeMetadata = podamFactorySteps.givenAnAttributeMetadata
+                (SimplePojoToTestSetters.class, pojoInstance, String.class);
+        Map<String, Type> genericTypeArgumentsMap = new HashMap<String, Type>();
+
+        Set<Object> values = new HashSet<Object>();
+        for (int i = 0; i < 100; i++) {
+            values.add(podamInvocationSteps.whenISendAMessageToTheChannel(
+                    dataProviderStrategy, attributeMetadata,
+                    genericTypeArgumentsMap, String.class));
+        }
+        podamValidationSteps.theIntFieldShouldHaveValueBetween(1, 4, values.size());
+    }
+
+    @Test
+    @Title("Podam should bound the number of tables kept in table mode")
+    public void podamShouldBoundNumberOfTables() throws Exception {
+
+        final AtomicInteger calls = new AtomicInteger();
+        TypeManufacturer<Object> countingManufacturer = new TypeManufacturer<Object>() {
+
+            @Override
+            public Object getType(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap) {
+                return calls.incrementAndGet();
+            }
+        };
+        TableTypeManufacturerImpl<Object> manufacturer =
+                new TableTypeManufacturerImpl<Object>(countingManufacturer, 2, 1);
+
+        DataProviderStrategy dataProviderStrategy = podamFactorySteps.givenARandomDataProviderStrategy();
+        Object pojoInstance = null;
+        AttributeMetadata stringMetadata = podamFactorySteps.givenAnAttributeMetadata
+                (SimplePojoToTestSetters.class, pojoInstance, String.class);
+        AttributeMetadata integerMetadata = podamFactorySteps.givenAnAttributeMetadata
+                (SimplePojoToTestSetters.class, pojoInstance, Integer.class);
+        Map<String, Type> genericTypeArgumentsMap = new HashMap<String, Type>();
+
+        for (int i = 0; i < 10; i++) {
+            manufacturer.getType(dataProviderStrategy, stringMetadata, genericTypeArgumentsMap);
+        }
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(calls.get(), 2);
+
+        for (int i = 0; i < 10; i++) {
+            manufacturer.getType(dataProviderStrategy, integerMetadata, genericTypeArgumentsMap);
+        }
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(calls.get(), 12);
+    }
+
+    @Test
+    @Title("Podam Messaging System should draw interned values from bounded pools")
+    public void podamMessagingSystemShouldDrawInternedValuesFromPools() throws Exception {
+
+        DataProviderStrategy dataProviderStrategy = podamFactorySteps
+                .givenARandomDataProviderStrategyWithInterning(3,
+                        InterningTypeManufacturerImpl.Scope.ATTRIBUTE, String.class);
+
+        Object pojoInstance = null;
+        AttributeMetadata attributeMetadata = podamFactorySteps.givenAnAttributeMetadata
+                (SimplePojoToTestSetters.class, pojoInstance, String.class);
+        Map<String, Type> genericTypeArgumentsMap = new HashMap<String, Type>();
+
+        Set<Object> values = new HashSet<Object>();
+        Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (int i = 0; i < 100; i++) {
+            Object value = podamInvocationSteps.whenISendAMessageToTheChannel(
+                    dataProviderStrategy, attributeMetadata,
+                    genericTypeArgumentsMap, String.class);
+            values.add(value);
+            instances.add(value);
+        }
+        podamValidationSteps.theIntFieldShouldHaveValueBetween(1, 3, values.size());
+        podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(instances.size(), values.size());
+    }
+
+    @Test
+    @Title("Podam should replace interning of values with the table mode")
+    public void podamShouldReplaceInterningWithTableMode() throws Exception {
+
+        AbstractRandomDataProviderStrategy dataProviderStrategy =
+                (AbstractRandomDataProviderStrategy) podamFactorySteps
+                .givenARandomDataProviderStrategyWithInterning(3,
+                        InterningTypeManufacturerImpl.Scope.ATTRIBUTE, String.class);
+        dataProviderStrategy.useTableMode(4, String.class);
+
+        TypeManufacturer<?> manufacturer = dataProviderStrategy.getTypeManufacturer(String.class);
+        podamValidationSteps.theBooleanValueIsTrue(
+                manufacturer instanceof TableTypeManufacturerImpl);
+        podamValidationSteps.theBooleanValueShouldBeFalse(
+                ((TableTypeManufacturerImpl<?>) manufacturer).getDelegate()
+                instanceof InterningTypeManufacturerImpl);
+    }
+
+    @Test
+    @Title("Podam should widen values of narrower types stored into primitive arrays")
+    public void podamShouldWidenValuesOfPrimitiveArrays() throws Exception {
+
+        TypeManufacturer<Short> shortManufacturer = new TypeManufacturer<Short>() {
+
+            @Override
+            public Short getType(DataProviderStrategy strategy,
+                    AttributeMetadata attributeMetadata,
+                    Map<String, Type> genericTypesArgumentsMap) {
+                return (short) 7;
+            }
+        };
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        TypeManufacturer<Integer> manufacturer = (TypeManufacturer) shortManufacturer;
+        PodamFactory podamFactory = podamFactorySteps.givenAPodamWithACustomTypeManufacturer(
+                int.class, manufacturer);
+
+        OneDimensionalTestPojo pojo = podamFactory.manufacturePojo(OneDimensionalTestPojo.class);
+        podamValidationSteps.theObjectShouldNotBeNull(pojo.getIntArray());
+        for (int value : pojo.getIntArray()) {
+            podamValidationSteps.theIntFieldShouldHaveThePreciseValueOf(value, 7);
+        }
+    }
 }
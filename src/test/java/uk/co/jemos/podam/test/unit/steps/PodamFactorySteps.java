@@ -11,6 +11,7 @@ import uk.co.jemos.podam.test.unit.features.inheritance.CustomDataProviderStrate
 import uk.co.jemos.podam.test.unit.features.inheritance.TrackingExternalFactory;
 import uk.co.jemos.podam.test.unit.features.xmlTypes.XmlTypesExternalFactory;
 import uk.co.jemos.podam.typeManufacturers.IntTypeManufacturerImpl;
+import uk.co.jemos.podam.typeManufacturers.InterningTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.StringTypeManufacturerImpl;
 import uk.co.jemos.podam.typeManufacturers.TypeManufacturer;
 
@@ -184,6 +185,17 @@ public class PodamFactorySteps {
         return new RandomDataProviderStrategyImpl();
     }
 
+    @Step("Given a Random Data Provider Strategy serving {1} from tables of {0} values")
+    public DataProviderStrategy givenARandomDataProviderStrategyInTableMode(int tableSize, Class<?>... types) {
+        return new RandomDataProviderStrategyImpl().useTableMode(tableSize, types);
+    }
+
+    @Step("Given a Random Data Provider Strategy interning {2} in pools of {0} values per {1}")
+    public DataProviderStrategy givenARandomDataProviderStrategyWithInterning(int cardinality,
+            InterningTypeManufacturerImpl.Scope scope, Class<?>... types) {
+        return new RandomDataProviderStrategyImpl().useInterning(cardinality, scope, types);
+    }
+
     @Step("Given a Podam Factory with custom data provider strategy")
     public PodamFactory givenAPodamFactoryWithCustomDataProviderStrategy(DataProviderStrategy strategy) {
         return new PodamFactoryImpl(strategy);
@@ -10,12 +10,14 @@ import uk.co.jemos.podam.api.ClassAttributeApprover;
 import uk.co.jemos.podam.api.ClassInfo;
 import uk.co.jemos.podam.api.DataProviderStrategy;
 import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -30,6 +32,18 @@ public class PodamInvocationSteps {
         return podamFactory.manufacturePojo(className);
     }
 
+    @Step("When I invoke the factory manufacturing for {1} instances of {0}")
+    public <T> List<T> whenIInvokeTheFactoryForClasses(Class<T> className, int count,
+            PodamFactoryImpl podamFactory) throws Exception {
+        return podamFactory.manufacturePojos(className, count);
+    }
+
+    @Step("When I invoke the factory to fill an array with instances of {1}")
+    public <T> T[] whenIInvokeTheFactoryToFillAnArray(T[] array, Class<T> className,
+            PodamFactoryImpl podamFactory) throws Exception {
+        return podamFactory.manufacturePojos(array, className);
+    }
+
     @Step("When I invoke the pojo's population directly for {0}")
     public <T> T whenIInvokeThePojoPopulationDirectly(T pojo, PodamFactory podamFactory) throws Exception {
         return podamFactory.populatePojo(pojo);